@@ -0,0 +1,97 @@
+package com.kdt.localinfo.banword;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금칙어 검사 처리량. matches 보조 카운터가 초당 매치 수다. ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class AhoCorasickBenchmark {
+
+    private static final char FIRST_SYLLABLE = '가';
+
+    @Param({"1000", "10000"})
+    private int patternCount;
+
+    private AhoCorasick automaton;
+    private List<String> patterns;
+    private String text;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class MatchCounter {
+        public long matches;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            matches = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        patterns = new ArrayList<>(patternCount);
+        for (int i = 0; i < patternCount; i++) {
+            patterns.add(randomSyllables(random, 2 + random.nextInt(3)));
+        }
+        automaton = AhoCorasick.build(patterns);
+
+        StringBuilder builder = new StringBuilder();
+        while (builder.length() < 2000) {
+            builder.append(randomSyllables(random, 1 + random.nextInt(6))).append(' ');
+            if (random.nextInt(10) == 0) {
+                builder.append(patterns.get(random.nextInt(patternCount))).append(' ');
+            }
+        }
+        text = builder.toString();
+    }
+
+    @Benchmark
+    public int automaton(MatchCounter counter) {
+        int matches = automaton.countMatches(text);
+        counter.matches += matches;
+        return matches;
+    }
+
+    @Benchmark
+    public int wordListLoop(MatchCounter counter) {
+        int matches = 0;
+        for (String pattern : patterns) {
+            if (text.contains(pattern)) {
+                matches++;
+            }
+        }
+        counter.matches += matches;
+        return matches;
+    }
+
+    // 흔한 음절 200개 안에서 골라 금칙어가 본문에 실제로 걸리게 한다.
+    private static String randomSyllables(Random random, int length) {
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) (FIRST_SYLLABLE + random.nextInt(200) * 28));
+        }
+        return builder.toString();
+    }
+}
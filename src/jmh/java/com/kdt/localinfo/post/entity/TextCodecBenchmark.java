@@ -0,0 +1,93 @@
+package com.kdt.localinfo.post.entity;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 본문 압축, 복원 처리량. bytes 보조 카운터가 초당 처리한 원본 UTF-8 바이트 수이고,
+ * encode 의 stored 카운터는 초당 저장한 바이트 수라 bytes / stored 가 압축률이다.
+ * utf8 벤치마크는 압축 없이 인코딩만 했을 때의 기준값이다. ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class TextCodecBenchmark {
+
+    private static final String[] SENTENCES = {
+            "강남역 근처에 새로 생긴 빵집 다녀왔어요. ",
+            "소금빵이 정말 맛있고 사장님도 친절하세요. ",
+            "주차는 건물 뒤편 공영주차장 이용하시면 됩니다. ",
+            "주말 오전에는 줄이 길어서 평일 방문을 추천드려요. ",
+            "아이들이랑 가기 좋은 공원도 바로 옆에 있어요. ",
+            "Open 8am~9pm, 2층 좌석 있음. ",
+            "#동네빵집 #소금빵 #강남역맛집 "
+    };
+
+    @Param({"1024", "4096", "16384"})
+    private int size;
+
+    private String text;
+    private byte[] encoded;
+    private int rawLength;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class ByteCounter {
+        public long bytes;
+        public long stored;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            stored = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder();
+        while (builder.toString().getBytes(StandardCharsets.UTF_8).length < size) {
+            builder.append(SENTENCES[random.nextInt(SENTENCES.length)]);
+        }
+        text = builder.toString();
+        encoded = TextCodec.encode(text);
+        rawLength = text.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public byte[] encode(ByteCounter counter) {
+        counter.bytes += rawLength;
+        byte[] stored = TextCodec.encode(text);
+        counter.stored += stored.length;
+        return stored;
+    }
+
+    @Benchmark
+    public String decode(ByteCounter counter) {
+        counter.bytes += rawLength;
+        return TextCodec.decode(encoded);
+    }
+
+    @Benchmark
+    public byte[] utf8(ByteCounter counter) {
+        counter.bytes += rawLength;
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kdt.localinfo.search;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토크나이저 처리량. tokens 보조 카운터가 초당 토큰 수다. ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+public class NGramTokenizerBenchmark {
+
+    private static final String SAMPLE = "강남역 근처에 새로 생긴 빵집 다녀왔어요! 소금빵이 정말 맛있고 "
+            + "사장님도 친절하세요. 주차는 건물 뒤편 공영주차장 이용하시면 됩니다. Open 8am~9pm, 2층 좌석 있음.";
+
+    private final NGramTokenizer nGramTokenizer = new NGramTokenizer();
+    private final SimpleTokenizer simpleTokenizer = new SimpleTokenizer();
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class TokenCounter {
+        public long tokens;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            tokens = 0;
+        }
+    }
+
+    @Benchmark
+    public void nGram(TokenCounter counter, Blackhole blackhole) {
+        nGramTokenizer.tokenize(SAMPLE, (buffer, offset, length) -> {
+            counter.tokens++;
+            blackhole.consume(TermHash.hash(buffer, offset, length));
+        });
+    }
+
+    @Benchmark
+    public void simple(TokenCounter counter, Blackhole blackhole) {
+        simpleTokenizer.tokenize(SAMPLE, (buffer, offset, length) -> {
+            counter.tokens++;
+            blackhole.consume(TermHash.hash(buffer, offset, length));
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package com.kdt.localinfo.analytics;
+
+import com.kdt.localinfo.user.entity.Region;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping(produces = MediaTypes.HAL_JSON_VALUE, value = "/analytics")
+public class AnalyticsController {
+
+    private final VisitorAnalyticsService visitorAnalyticsService;
+
+    public AnalyticsController(VisitorAnalyticsService visitorAnalyticsService) {
+        this.visitorAnalyticsService = visitorAnalyticsService;
+    }
+
+    @GetMapping(value = "/posts/{post-id}/visitors")
+    public ResponseEntity<VisitorCountResponse> countPostVisitors(@PathVariable(name = "post-id") Long postId) {
+        return ResponseEntity.ok(visitorAnalyticsService.countPostVisitors(postId));
+    }
+
+    @GetMapping(value = "/regions/visitors")
+    public ResponseEntity<VisitorCountResponse> countRegionVisitors(
+            @RequestParam String city,
+            @RequestParam String district,
+            @RequestParam String neighborhood,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        Region region = new Region(neighborhood, district, city);
+        LocalDate today = LocalDate.now();
+        return ResponseEntity.ok(visitorAnalyticsService.countRegionVisitors(region,
+                from == null ? today : from, to == null ? today : to));
+    }
+}
@@ -0,0 +1,98 @@
+package com.kdt.localinfo.analytics;
+
+import com.kdt.localinfo.search.TermHash;
+
+/**
+ * 방문자 수 추정용 HyperLogLog. 2^12 개의 1바이트 레지스터라 스케치 하나가 4KB 이고 표준 오차는 약 1.6% 다.
+ * 레지스터별 최댓값으로 합치므로 노드나 날짜가 다른 스케치를 순서와 상관없이 합칠 수 있다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+public final class HyperLogLog {
+
+    public static final int PRECISION = 12;
+
+    private static final int REGISTERS = 1 << PRECISION;
+    private static final byte VERSION = 1;
+    private static final int HEADER_LENGTH = 2;
+    private static final double ALPHA = 0.7213 / (1 + 1.079 / REGISTERS);
+
+    private final byte[] registers;
+
+    public HyperLogLog() {
+        this.registers = new byte[REGISTERS];
+    }
+
+    private HyperLogLog(byte[] registers) {
+        this.registers = registers;
+    }
+
+    public static long hash(CharSequence value) {
+        char[] chars = value.toString().toCharArray();
+        long hash = TermHash.hash(chars, 0, chars.length);
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    /**
+     * 상위 PRECISION 비트로 레지스터를 고르고 나머지 비트의 선행 0 개수 + 1 을 기록한다.
+     */
+    public boolean offer(long hash) {
+        int index = (int) (hash >>> (Long.SIZE - PRECISION));
+        int rank = Long.numberOfLeadingZeros((hash << PRECISION) | (1L << (PRECISION - 1))) + 1;
+        if (rank <= registers[index]) {
+            return false;
+        }
+        registers[index] = (byte) rank;
+        return true;
+    }
+
+    public void merge(HyperLogLog other) {
+        for (int i = 0; i < REGISTERS; i++) {
+            if (other.registers[i] > registers[i]) {
+                registers[i] = other.registers[i];
+            }
+        }
+    }
+
+    public long estimate() {
+        double sum = 0;
+        int zeros = 0;
+        for (byte register : registers) {
+            sum += 1.0 / (1L << register);
+            if (register == 0) {
+                zeros++;
+            }
+        }
+        double estimate = ALPHA * REGISTERS * REGISTERS / sum;
+        // 적은 수에서는 빈 레지스터 비율로 세는 선형 계수가 더 정확하다.
+        if (estimate <= 2.5 * REGISTERS && zeros > 0) {
+            estimate = REGISTERS * Math.log((double) REGISTERS / zeros);
+        }
+        return Math.round(estimate);
+    }
+
+    public HyperLogLog copy() {
+        return new HyperLogLog(registers.clone());
+    }
+
+    /**
+     * [버전, 정밀도, 레지스터...] 형식의 바이트 배열.
+     */
+    public byte[] toBytes() {
+        byte[] bytes = new byte[HEADER_LENGTH + REGISTERS];
+        bytes[0] = VERSION;
+        bytes[1] = PRECISION;
+        System.arraycopy(registers, 0, bytes, HEADER_LENGTH, REGISTERS);
+        return bytes;
+    }
+
+    public static HyperLogLog fromBytes(byte[] bytes) {
+        if (bytes == null || bytes.length != HEADER_LENGTH + REGISTERS || bytes[0] != VERSION || bytes[1] != PRECISION) {
+            throw new IllegalArgumentException("Unsupported HyperLogLog sketch");
+        }
+        byte[] registers = new byte[REGISTERS];
+        System.arraycopy(bytes, HEADER_LENGTH, registers, 0, REGISTERS);
+        return new HyperLogLog(registers);
+    }
+}
@@ -0,0 +1,39 @@
+package com.kdt.localinfo.analytics;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 게시글별 누적 방문자 스케치.
+ */
+@Getter
+@Table(name = "post_visitor_sketches")
+@NoArgsConstructor
+@Entity
+public class PostVisitorSketch {
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Lob
+    @Column(name = "registers", nullable = false)
+    private byte[] registers;
+
+    public PostVisitorSketch(Long postId) {
+        this.postId = postId;
+        this.registers = new HyperLogLog().toBytes();
+    }
+
+    public HyperLogLog toSketch() {
+        return HyperLogLog.fromBytes(registers);
+    }
+
+    public void merge(HyperLogLog delta) {
+        HyperLogLog sketch = toSketch();
+        sketch.merge(delta);
+        this.registers = sketch.toBytes();
+    }
+}
@@ -0,0 +1,16 @@
+package com.kdt.localinfo.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface PostVisitorSketchRepository extends JpaRepository<PostVisitorSketch, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT s FROM PostVisitorSketch s WHERE s.postId = :postId")
+    Optional<PostVisitorSketch> findForUpdate(@Param("postId") Long postId);
+}
@@ -0,0 +1,58 @@
+package com.kdt.localinfo.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * 동네별 하루 방문자 스케치. 여러 날을 합치면 기간 방문자 수가 된다.
+ */
+@Getter
+@Table(name = "region_visitor_sketches")
+@IdClass(RegionVisitorSketch.Key.class)
+@NoArgsConstructor
+@Entity
+public class RegionVisitorSketch {
+
+    @Id
+    @Column(name = "region_id")
+    private Integer regionId;
+
+    @Id
+    @Column(name = "visit_date")
+    private LocalDate day;
+
+    @Lob
+    @Column(name = "registers", nullable = false)
+    private byte[] registers;
+
+    public RegionVisitorSketch(Integer regionId, LocalDate day) {
+        this.regionId = regionId;
+        this.day = day;
+        this.registers = new HyperLogLog().toBytes();
+    }
+
+    public HyperLogLog toSketch() {
+        return HyperLogLog.fromBytes(registers);
+    }
+
+    public void merge(HyperLogLog delta) {
+        HyperLogLog sketch = toSketch();
+        sketch.merge(delta);
+        this.registers = sketch.toBytes();
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer regionId;
+        private LocalDate day;
+    }
+}
@@ -0,0 +1,20 @@
+package com.kdt.localinfo.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface RegionVisitorSketchRepository extends JpaRepository<RegionVisitorSketch, RegionVisitorSketch.Key> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query(value = "SELECT s FROM RegionVisitorSketch s WHERE s.regionId = :regionId AND s.day = :day")
+    Optional<RegionVisitorSketch> findForUpdate(@Param("regionId") Integer regionId, @Param("day") LocalDate day);
+
+    List<RegionVisitorSketch> findByRegionIdAndDayBetween(Integer regionId, LocalDate from, LocalDate to);
+}
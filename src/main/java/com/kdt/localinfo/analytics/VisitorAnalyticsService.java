@@ -0,0 +1,166 @@
+package com.kdt.localinfo.analytics;
+
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.user.entity.Region;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글별 누적 방문자와 동네별 일간 방문자를 HyperLogLog 로 센다.
+ * 조회 시에는 메모리의 변경분 스케치에만 기록하고, 주기적으로 저장된 스케치에 행 잠금을 잡고 합친다.
+ */
+@Slf4j
+@Service
+public class VisitorAnalyticsService {
+
+    private static final int MAX_DAYS = 31;
+
+    private final Map<Long, HyperLogLog> pendingPosts = new ConcurrentHashMap<>();
+    private final Map<RegionVisitorSketch.Key, HyperLogLog> pendingRegions = new ConcurrentHashMap<>();
+    private final PostVisitorSketchRepository postVisitorSketchRepository;
+    private final RegionVisitorSketchRepository regionVisitorSketchRepository;
+    private final RegionDictionary regionDictionary;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public VisitorAnalyticsService(PostVisitorSketchRepository postVisitorSketchRepository,
+                                   RegionVisitorSketchRepository regionVisitorSketchRepository,
+                                   RegionDictionary regionDictionary, PlatformTransactionManager transactionManager) {
+        this.postVisitorSketchRepository = postVisitorSketchRepository;
+        this.regionVisitorSketchRepository = regionVisitorSketchRepository;
+        this.regionDictionary = regionDictionary;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void recordView(Post post, String visitorId) {
+        if (visitorId == null || visitorId.isBlank()) {
+            return;
+        }
+        long hash = HyperLogLog.hash(visitorId);
+        offer(pendingPosts.computeIfAbsent(post.getId(), id -> new HyperLogLog()), hash);
+        if (post.getRegion() != null) {
+            RegionVisitorSketch.Key key = new RegionVisitorSketch.Key(regionDictionary.idOf(post.getRegion()), LocalDate.now());
+            offer(pendingRegions.computeIfAbsent(key, id -> new HyperLogLog()), hash);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public VisitorCountResponse countPostVisitors(Long postId) {
+        HyperLogLog sketch = postVisitorSketchRepository.findById(postId)
+                .map(PostVisitorSketch::toSketch)
+                .orElseGet(HyperLogLog::new);
+        mergePending(sketch, pendingPosts.get(postId));
+        return new VisitorCountResponse(sketch.estimate());
+    }
+
+    /**
+     * from ~ to 기간에 동네 게시글을 본 방문자 수. 날짜별 스케치를 합쳐 중복 방문자를 한 번만 센다.
+     */
+    @Transactional(readOnly = true)
+    public VisitorCountResponse countRegionVisitors(Region region, LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new InvalidInputException("조회 기간은 " + MAX_DAYS + "일 이내여야 합니다.");
+        }
+        Optional<Integer> regionId = regionDictionary.findId(region);
+        if (regionId.isEmpty()) {
+            return new VisitorCountResponse(0L);
+        }
+
+        HyperLogLog sketch = new HyperLogLog();
+        List<RegionVisitorSketch> stored = regionVisitorSketchRepository.findByRegionIdAndDayBetween(regionId.get(), from, to);
+        stored.forEach(dailySketch -> sketch.merge(dailySketch.toSketch()));
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            mergePending(sketch, pendingRegions.get(new RegionVisitorSketch.Key(regionId.get(), day)));
+        }
+        return new VisitorCountResponse(sketch.estimate());
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.analytics.flush-interval-ms:10000}")
+    public void flush() {
+        for (Long postId : pendingPosts.keySet()) {
+            HyperLogLog delta = pendingPosts.remove(postId);
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> mergePostSketch(postId, delta));
+            } catch (RuntimeException e) {
+                log.warn("Post visitor sketch flush failed: postId={}", postId, e);
+                restore(pendingPosts, postId, delta);
+            }
+        }
+        for (RegionVisitorSketch.Key key : pendingRegions.keySet()) {
+            HyperLogLog delta = pendingRegions.remove(key);
+            try {
+                requiresNewTemplate.executeWithoutResult(status -> mergeRegionSketch(key, delta));
+            } catch (RuntimeException e) {
+                log.warn("Region visitor sketch flush failed: regionId={}, day={}", key.getRegionId(), key.getDay(), e);
+                restore(pendingRegions, key, delta);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    // 다른 노드가 같은 행을 동시에 합칠 수 있으므로 잠금을 잡고 읽은 뒤 레지스터 최댓값으로 덮어쓴다.
+    // 행을 동시에 처음 만들다 충돌하면 변경분을 되돌려 두고 다음 주기에 다시 합친다.
+    private void mergePostSketch(Long postId, HyperLogLog delta) {
+        PostVisitorSketch sketch = postVisitorSketchRepository.findForUpdate(postId)
+                .orElseGet(() -> createPostSketch(postId));
+        synchronized (delta) {
+            sketch.merge(delta);
+        }
+    }
+
+    private void mergeRegionSketch(RegionVisitorSketch.Key key, HyperLogLog delta) {
+        RegionVisitorSketch sketch = regionVisitorSketchRepository.findForUpdate(key.getRegionId(), key.getDay())
+                .orElseGet(() -> createRegionSketch(key));
+        synchronized (delta) {
+            sketch.merge(delta);
+        }
+    }
+
+    private PostVisitorSketch createPostSketch(Long postId) {
+        return postVisitorSketchRepository.saveAndFlush(new PostVisitorSketch(postId));
+    }
+
+    private RegionVisitorSketch createRegionSketch(RegionVisitorSketch.Key key) {
+        return regionVisitorSketchRepository.saveAndFlush(new RegionVisitorSketch(key.getRegionId(), key.getDay()));
+    }
+
+    private static void offer(HyperLogLog sketch, long hash) {
+        synchronized (sketch) {
+            sketch.offer(hash);
+        }
+    }
+
+    private static void mergePending(HyperLogLog sketch, HyperLogLog pending) {
+        if (pending != null) {
+            synchronized (pending) {
+                sketch.merge(pending);
+            }
+        }
+    }
+
+    private static <K> void restore(Map<K, HyperLogLog> pending, K key, HyperLogLog delta) {
+        HyperLogLog current = pending.computeIfAbsent(key, id -> new HyperLogLog());
+        synchronized (current) {
+            current.merge(delta);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.kdt.localinfo.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class VisitorCountResponse {
+
+    private long visitors;
+}
@@ -0,0 +1,40 @@
+package com.kdt.localinfo.archive;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.LocalDateTime;
+
+/**
+ * 테이블별로 어디까지 훑었는지 기록한다. 재시작하면 이 id 다음부터 이어서 옮긴다.
+ */
+@Getter
+@Table(name = "archive_checkpoints")
+@NoArgsConstructor
+@Entity
+public class ArchiveCheckpoint {
+
+    @Id
+    @Column(name = "table_name", length = 64)
+    private String tableName;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public ArchiveCheckpoint(String tableName) {
+        this.tableName = tableName;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void moveTo(long lastId) {
+        this.lastId = lastId;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,6 @@
+package com.kdt.localinfo.archive;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ArchiveCheckpointRepository extends JpaRepository<ArchiveCheckpoint, String> {
+}
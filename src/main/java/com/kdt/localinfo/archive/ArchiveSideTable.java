@@ -0,0 +1,43 @@
+package com.kdt.localinfo.archive;
+
+import lombok.Getter;
+
+/**
+ * 보관하는 행에 딸린 행. 부모 행과 같은 구간에서 세그먼트로 옮기고, 부모 행을 지우는 트랜잭션에서 먼저 지운다.
+ * 반응과 카운터는 게시글과 댓글이 같은 테이블을 쓰므로 세그먼트 이름에 부모를 붙여 구간이 겹쳐도 덮어쓰지 않는다.
+ */
+@Getter
+enum ArchiveSideTable {
+
+    COMMENT_MENTIONS("comment_mentions", "comment_mentions", null, "comment_id"),
+    COMMENT_REACTIONS("reactions", "reactions-comments", "target_type = 'COMMENT'", "target_id"),
+    COMMENT_REACTION_COUNTERS("reaction_counter_shards", "reaction_counter_shards-comments", "target_type = 'COMMENT'", "target_id"),
+    POST_REACTIONS("reactions", "reactions-posts", "target_type = 'POST'", "target_id"),
+    POST_REACTION_COUNTERS("reaction_counter_shards", "reaction_counter_shards-posts", "target_type = 'POST'", "target_id"),
+    POST_VISITOR_SKETCHES("post_visitor_sketches", "post_visitor_sketches", null, "post_id");
+
+    private final String tableName;
+    private final String segmentName;
+    private final String filter;
+    private final String parentColumn;
+
+    ArchiveSideTable(String tableName, String segmentName, String filter, String parentColumn) {
+        this.tableName = tableName;
+        this.segmentName = segmentName;
+        this.filter = filter;
+        this.parentColumn = parentColumn;
+    }
+
+    String selectSql(ArchiveTable parent) {
+        return "SELECT * FROM " + tableName + " WHERE " + ownedBy(parent) + " ORDER BY " + parentColumn;
+    }
+
+    String deleteSql(ArchiveTable parent) {
+        return "DELETE FROM " + tableName + " WHERE " + ownedBy(parent);
+    }
+
+    // 부모 행과 같은 조건으로 다시 고르므로, 그 사이 상태가 바뀌어 남게 될 부모 행의 딸린 행은 건드리지 않는다.
+    private String ownedBy(ArchiveTable parent) {
+        return (filter == null ? "" : filter + " AND ") + parentColumn + " IN (" + parent.archivableIdsSql() + ")";
+    }
+}
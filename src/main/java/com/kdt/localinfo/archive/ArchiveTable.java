@@ -0,0 +1,64 @@
+package com.kdt.localinfo.archive;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 보관 대상 테이블. 외래 키를 지키도록 자식 테이블부터 선언 순서대로 옮긴다.
+ * 자식 행이 아직 남아 있는 부모 행은 후보에서 빼고, 본문은 가리키는 게시글이 없어진 뒤에 옮긴다.
+ * 반응, 멘션, 방문자 스케치처럼 soft delete 없이 부모에 딸린 행은 ArchiveSideTable 로 부모와 함께 옮긴다.
+ */
+@Getter
+enum ArchiveTable {
+
+    COMMENT_PHOTOS("comment_photos", "comment_photo_id", "deleted_at < :cutoff", List.of()),
+    COMMENTS("comments", "id", "deleted_at < :cutoff" +
+            " AND NOT EXISTS (SELECT 1 FROM comment_photos cp WHERE cp.comment_id = comments.id)",
+            List.of(ArchiveSideTable.COMMENT_MENTIONS, ArchiveSideTable.COMMENT_REACTIONS, ArchiveSideTable.COMMENT_REACTION_COUNTERS)),
+    PHOTOS("photos", "photo_id", "deleted_at < :cutoff", List.of()),
+    POSTS("posts", "post_id", "deleted_at < :cutoff" +
+            " AND NOT EXISTS (SELECT 1 FROM comments c WHERE c.post_id = posts.post_id)" +
+            " AND NOT EXISTS (SELECT 1 FROM photos p WHERE p.post_id = posts.post_id)",
+            List.of(ArchiveSideTable.POST_REACTIONS, ArchiveSideTable.POST_REACTION_COUNTERS, ArchiveSideTable.POST_VISITOR_SKETCHES)),
+    POST_BODIES("post_bodies", "body_id",
+            "NOT EXISTS (SELECT 1 FROM posts p WHERE p.body_id = post_bodies.body_id)", List.of());
+
+    private final String tableName;
+    private final String idColumn;
+    private final String condition;
+    private final List<ArchiveSideTable> sideTables;
+
+    ArchiveTable(String tableName, String idColumn, String condition, List<ArchiveSideTable> sideTables) {
+        this.tableName = tableName;
+        this.idColumn = idColumn;
+        this.condition = condition;
+        this.sideTables = sideTables;
+    }
+
+    // 다음 스캔 구간의 끝 id. 구간 안의 행만 살펴보므로 지운 행이 드물어도 한 번에 훑는 행 수가 정해져 있다.
+    String scanEndSql() {
+        return "SELECT MAX(w." + idColumn + ") FROM (SELECT " + idColumn + " FROM " + tableName +
+                " WHERE " + idColumn + " > :lastId ORDER BY " + idColumn + " LIMIT :scanSize) w";
+    }
+
+    String candidateSql() {
+        return "SELECT " + idColumn + " FROM " + tableName +
+                " WHERE " + idColumn + " > :lastId AND " + idColumn + " <= :endId AND " + condition +
+                " ORDER BY " + idColumn;
+    }
+
+    String selectSql() {
+        return "SELECT * FROM " + tableName + " WHERE " + idColumn + " IN (:ids) ORDER BY " + idColumn;
+    }
+
+    // 후보 가운데 아직 옮겨도 되는 행. 딸린 행을 고를 때 쓴다.
+    String archivableIdsSql() {
+        return "SELECT " + idColumn + " FROM " + tableName + " WHERE " + idColumn + " IN (:ids) AND " + condition;
+    }
+
+    // 후보를 고른 뒤 상태가 바뀐 행은 지우지 않는다.
+    String deleteSql() {
+        return "DELETE FROM " + tableName + " WHERE " + idColumn + " IN (:ids) AND " + condition;
+    }
+}
@@ -0,0 +1,169 @@
+package com.kdt.localinfo.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kdt.localinfo.shard.ShardContext;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.shard.ShardMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * soft delete 된 지 오래된 게시글, 댓글, 사진, 댓글 사진 행과 게시글 본문을 세그먼트 파일로 옮기고 원본 테이블에서 지운다.
+ * 게시글과 댓글에 딸린 반응, 반응 카운터, 멘션, 방문자 스케치 행도 같은 구간에서 옮기고 같은 트랜잭션에서 지운다.
+ * id 순 구간마다 파일을 먼저 쓰고 짧은 트랜잭션으로 지우며, 구간 사이에 쉬어 운영 트래픽과 경합하지 않는다.
+ * shard 가 여럿이면 shard 마다 따로 돌고 세그먼트도 shard 이름 아래에 둔다.
+ */
+@Slf4j
+@Component
+public class ColdRowArchiver {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ArchiveCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final List<SegmentWriter> segmentWriters;
+    private final int retentionDays;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseMillis;
+
+    public ColdRowArchiver(NamedParameterJdbcTemplate jdbcTemplate, ArchiveCheckpointRepository checkpointRepository,
+                           PlatformTransactionManager transactionManager, ObjectMapper objectMapper,
+                           ShardMap shardMap, ShardExecutor shardExecutor,
+                           @Value("${local-info.archive.dir:archive}") String dir,
+                           @Value("${local-info.archive.retention-days:30}") int retentionDays,
+                           @Value("${local-info.archive.chunk-size:500}") int chunkSize,
+                           @Value("${local-info.archive.max-chunks-per-run:200}") int maxChunksPerRun,
+                           @Value("${local-info.archive.pause-ms:200}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+        Path baseDir = Paths.get(dir);
+        this.segmentWriters = shardMap.shards().stream()
+                .map(shard -> new SegmentWriter(shardMap.size() == 1 ? baseDir : baseDir.resolve(shardMap.nameOf(shard)), objectMapper))
+                .collect(Collectors.toList());
+        this.retentionDays = retentionDays;
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseMillis = pauseMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.archive.interval-ms:3600000}",
+            initialDelayString = "${local-info.archive.interval-ms:3600000}")
+    public void archive() {
+        Timestamp cutoff = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        shardExecutor.forEachShard(shard -> archive(cutoff));
+    }
+
+    private void archive(Timestamp cutoff) {
+        int budget = maxChunksPerRun;
+        for (ArchiveTable table : ArchiveTable.values()) {
+            budget = archive(table, cutoff, budget);
+            if (budget == 0) {
+                // 자식 테이블을 다 훑지 못했으면 부모 행은 아직 지울 수 없으니 다음 주기에 이어서 한다.
+                break;
+            }
+        }
+    }
+
+    // 남은 구간 수를 돌려준다.
+    int archive(ArchiveTable table, Timestamp cutoff, int budget) {
+        long lastId = checkpointRepository.findById(table.getTableName())
+                .map(ArchiveCheckpoint::getLastId)
+                .orElse(0L);
+        int archived = 0;
+        while (budget > 0) {
+            Long endId = jdbcTemplate.queryForObject(table.scanEndSql(), new MapSqlParameterSource()
+                    .addValue("lastId", lastId)
+                    .addValue("scanSize", chunkSize), Long.class);
+            if (endId == null) {
+                // 끝까지 훑었다. 자식이 남아 건너뛴 행은 다음 바퀴에 다시 본다.
+                saveCheckpoint(table, 0L);
+                break;
+            }
+            archived += archiveChunk(table, lastId, endId, cutoff);
+            lastId = endId;
+            budget--;
+            if (!pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} rows from {}", archived, table.getTableName());
+        }
+        return budget;
+    }
+
+    private int archiveChunk(ArchiveTable table, long lastId, long endId, Timestamp cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(table.candidateSql(), new MapSqlParameterSource()
+                .addValue("lastId", lastId)
+                .addValue("endId", endId)
+                .addValue("cutoff", cutoff), Long.class);
+        if (ids.isEmpty()) {
+            saveCheckpoint(table, endId);
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("cutoff", cutoff);
+        SegmentWriter segmentWriter = segmentWriters.get(ShardContext.current());
+        long firstArchivedId = ids.get(0);
+        long lastArchivedId = ids.get(ids.size() - 1);
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(table.selectSql(), params);
+        try {
+            for (ArchiveSideTable sideTable : table.getSideTables()) {
+                List<Map<String, Object>> sideRows = jdbcTemplate.queryForList(sideTable.selectSql(table), params);
+                if (!sideRows.isEmpty()) {
+                    segmentWriter.write(sideTable, firstArchivedId, lastArchivedId, sideRows);
+                }
+            }
+            segmentWriter.write(table, firstArchivedId, lastArchivedId, rows);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Archive segment write failed: " + table.getTableName(), e);
+        }
+        // 파일을 쓴 뒤 지우다 실패하면 같은 구간을 다시 옮기며 같은 세그먼트를 덮어쓴다.
+        Integer deleted = transactionTemplate.execute(status -> {
+            table.getSideTables().forEach(sideTable -> jdbcTemplate.update(sideTable.deleteSql(table), params));
+            int count = jdbcTemplate.update(table.deleteSql(), params);
+            saveCheckpoint(table, endId);
+            return count;
+        });
+        return deleted == null ? 0 : deleted;
+    }
+
+    private void saveCheckpoint(ArchiveTable table, long lastId) {
+        ArchiveCheckpoint checkpoint = checkpointRepository.findById(table.getTableName())
+                .orElseGet(() -> new ArchiveCheckpoint(table.getTableName()));
+        checkpoint.moveTo(lastId);
+        checkpointRepository.save(checkpoint);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.kdt.localinfo.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 보관할 행을 한 줄에 한 행씩 JSON 으로 적은 gzip 세그먼트 파일로 쓴다.
+ * 파일 이름이 테이블과 id 구간으로 정해지므로 같은 구간을 다시 옮기면 같은 파일을 덮어쓴다.
+ */
+class SegmentWriter {
+
+    private final Path baseDir;
+    private final ObjectMapper objectMapper;
+
+    SegmentWriter(Path baseDir, ObjectMapper objectMapper) {
+        this.baseDir = baseDir;
+        this.objectMapper = objectMapper;
+    }
+
+    Path write(ArchiveTable table, long firstId, long lastId, List<Map<String, Object>> rows) throws IOException {
+        return write(table.getTableName(), table.getTableName(), firstId, lastId, rows);
+    }
+
+    // 딸린 행은 부모 행의 id 구간으로 이름을 붙인다.
+    Path write(ArchiveSideTable sideTable, long firstId, long lastId, List<Map<String, Object>> rows) throws IOException {
+        return write(sideTable.getTableName(), sideTable.getSegmentName(), firstId, lastId, rows);
+    }
+
+    private Path write(String tableName, String segmentName, long firstId, long lastId, List<Map<String, Object>> rows) throws IOException {
+        Path dir = baseDir.resolve(tableName);
+        Files.createDirectories(dir);
+        Path segment = dir.resolve(String.format("%s-%019d-%019d.ndjson.gz", segmentName, firstId, lastId));
+        Path temp = dir.resolve(segment.getFileName() + ".tmp");
+
+        try (FileOutputStream file = new FileOutputStream(temp.toFile())) {
+            GZIPOutputStream gzip = new GZIPOutputStream(file, 1 << 16);
+            BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8));
+            for (Map<String, Object> row : rows) {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.newLine();
+            }
+            writer.flush();
+            gzip.finish();
+            // 원본 행을 지우기 전에 디스크에 닿았음을 보장한다.
+            file.getFD().sync();
+        }
+        return Files.move(temp, segment, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
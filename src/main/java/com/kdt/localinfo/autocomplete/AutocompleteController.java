@@ -0,0 +1,29 @@
+package com.kdt.localinfo.autocomplete;
+
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping(produces = MediaTypes.HAL_JSON_VALUE, value = "/autocomplete")
+public class AutocompleteController {
+
+    private final AutocompleteService autocompleteService;
+
+    public AutocompleteController(AutocompleteService autocompleteService) {
+        this.autocompleteService = autocompleteService;
+    }
+
+    @GetMapping
+    public ResponseEntity<List<Suggestion>> suggest(
+            @RequestParam(value = "q") String prefix,
+            @RequestParam(required = false) SuggestionType type,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(autocompleteService.suggest(prefix, type, size));
+    }
+}
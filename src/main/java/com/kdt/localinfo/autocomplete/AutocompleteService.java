@@ -0,0 +1,78 @@
+package com.kdt.localinfo.autocomplete;
+
+import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.region.RegionRegisteredEvent;
+import com.kdt.localinfo.user.entity.Region;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 지역 이름과 카테고리 이름 자동완성. 인덱스는 통째로 새로 만든 뒤 참조만 바꿔 끼운다.
+ */
+@Slf4j
+@Service
+public class AutocompleteService {
+
+    private static final int MAX_SIZE = 20;
+
+    private final RegionDictionary regionDictionary;
+    private final CategoryRepository categoryRepository;
+
+    private volatile PrefixIndex prefixIndex = PrefixIndex.build(List.of());
+    private Set<Suggestion> candidates = Set.of();
+
+    public AutocompleteService(RegionDictionary regionDictionary, CategoryRepository categoryRepository) {
+        this.regionDictionary = regionDictionary;
+        this.categoryRepository = categoryRepository;
+    }
+
+    public List<Suggestion> suggest(String prefix, SuggestionType type, int size) {
+        if (prefix == null || prefix.isEmpty()) {
+            return List.of();
+        }
+        return prefixIndex.search(prefix, type, Math.min(Math.max(size, 1), MAX_SIZE));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        rebuild();
+    }
+
+    // 엔티티 flush 중에 발행될 수 있으므로 DB 를 다시 읽지 않고 기존 후보에 더해서 만든다.
+    @EventListener
+    public synchronized void onRegionRegistered(RegionRegisteredEvent event) {
+        Set<Suggestion> next = new LinkedHashSet<>(candidates);
+        addRegion(next, event.getRegion());
+        swap(next);
+    }
+
+    // 카테고리는 관리 도구에서 직접 바뀌므로 주기적으로도 다시 만든다.
+    @Scheduled(fixedDelayString = "${local-info.autocomplete.refresh-interval-ms:300000}",
+            initialDelayString = "${local-info.autocomplete.refresh-interval-ms:300000}")
+    public synchronized void rebuild() {
+        Set<Suggestion> next = new LinkedHashSet<>();
+        regionDictionary.regions().forEach(region -> addRegion(next, region));
+        categoryRepository.findAll().forEach(category -> next.add(Suggestion.category(category)));
+        swap(next);
+        log.debug("Autocomplete index rebuilt: {} entries", prefixIndex.size());
+    }
+
+    private void addRegion(Set<Suggestion> target, Region region) {
+        target.add(Suggestion.city(region));
+        target.add(Suggestion.district(region));
+        target.add(Suggestion.neighborhood(region));
+    }
+
+    private void swap(Set<Suggestion> next) {
+        prefixIndex = PrefixIndex.build(next);
+        candidates = next;
+    }
+}
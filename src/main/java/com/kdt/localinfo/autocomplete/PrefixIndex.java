@@ -0,0 +1,109 @@
+package com.kdt.localinfo.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 정렬된 키를 하나의 char 배열에 이어 붙인 불변 접두사 인덱스.
+ * 검색은 이분 탐색으로 첫 후보를 찾고 접두사가 맞는 동안 앞으로 훑으며, 응답 리스트 외에는 객체를 만들지 않는다.
+ */
+public class PrefixIndex {
+
+    private final char[] keys;
+    private final int[] offsets;
+    private final Suggestion[] suggestions;
+
+    private PrefixIndex(char[] keys, int[] offsets, Suggestion[] suggestions) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.suggestions = suggestions;
+    }
+
+    public static PrefixIndex build(Collection<Suggestion> candidates) {
+        List<Suggestion> sorted = new ArrayList<>(candidates);
+        sorted.removeIf(suggestion -> suggestion.getName() == null || suggestion.getName().isEmpty());
+        sorted.sort(Comparator.comparing((Suggestion suggestion) -> normalize(suggestion.getName()))
+                .thenComparing(Suggestion::getType));
+
+        List<String> normalizedKeys = new ArrayList<>(sorted.size());
+        sorted.forEach(suggestion -> normalizedKeys.add(normalize(suggestion.getName())));
+        char[] keys = new char[normalizedKeys.stream().mapToInt(String::length).sum()];
+        int[] offsets = new int[sorted.size() + 1];
+        int position = 0;
+        for (int i = 0; i < sorted.size(); i++) {
+            String key = normalizedKeys.get(i);
+            key.getChars(0, key.length(), keys, position);
+            offsets[i] = position;
+            position += key.length();
+        }
+        offsets[sorted.size()] = position;
+        return new PrefixIndex(keys, offsets, sorted.toArray(new Suggestion[0]));
+    }
+
+    public int size() {
+        return suggestions.length;
+    }
+
+    /**
+     * prefix 로 시작하는 후보를 키 순서로 최대 limit 개 돌려준다. type 이 null 이면 모든 종류를 찾는다.
+     */
+    public List<Suggestion> search(CharSequence prefix, SuggestionType type, int limit) {
+        List<Suggestion> results = new ArrayList<>(Math.min(limit, 16));
+        for (int i = lowerBound(prefix); i < suggestions.length && results.size() < limit; i++) {
+            if (!startsWith(i, prefix)) {
+                break;
+            }
+            if (type == null || suggestions[i].getType() == type) {
+                results.add(suggestions[i]);
+            }
+        }
+        return results;
+    }
+
+    private int lowerBound(CharSequence prefix) {
+        int low = 0;
+        int high = suggestions.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int compare(int index, CharSequence prefix) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int common = Math.min(length, prefix.length());
+        for (int i = 0; i < common; i++) {
+            int diff = keys[start + i] - Character.toLowerCase(prefix.charAt(i));
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return length - prefix.length();
+    }
+
+    private boolean startsWith(int index, CharSequence prefix) {
+        int start = offsets[index];
+        if (offsets[index + 1] - start < prefix.length()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i++) {
+            if (keys[start + i] != Character.toLowerCase(prefix.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,44 @@
+package com.kdt.localinfo.autocomplete;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.user.entity.Region;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 자동완성 후보. 인덱스를 만들 때 한 번 생성해 모든 응답에서 같은 인스턴스를 재사용한다.
+ */
+@ToString
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class Suggestion {
+
+    private final SuggestionType type;
+    private final String name;
+    private final String city;
+    private final String district;
+    private final String neighborhood;
+    private final Long categoryId;
+
+    public static Suggestion city(Region region) {
+        return new Suggestion(SuggestionType.CITY, region.getCity(), region.getCity(), null, null, null);
+    }
+
+    public static Suggestion district(Region region) {
+        return new Suggestion(SuggestionType.DISTRICT, region.getDistrict(), region.getCity(), region.getDistrict(), null, null);
+    }
+
+    public static Suggestion neighborhood(Region region) {
+        return new Suggestion(SuggestionType.NEIGHBORHOOD, region.getNeighborhood(),
+                region.getCity(), region.getDistrict(), region.getNeighborhood(), null);
+    }
+
+    public static Suggestion category(Category category) {
+        return new Suggestion(SuggestionType.CATEGORY, category.getName(), null, null, null, category.getId());
+    }
+}
@@ -0,0 +1,5 @@
+package com.kdt.localinfo.autocomplete;
+
+public enum SuggestionType {
+    CITY, DISTRICT, NEIGHBORHOOD, CATEGORY
+}
@@ -0,0 +1,217 @@
+package com.kdt.localinfo.banword;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 Aho-Corasick 오토마톤. 상태 전이는 상태별로 정렬된 간선 배열(CSR)에, 실패 링크와
+ * 상태에서 끝나는 가장 긴 금칙어 길이는 int 배열에 담는다. 본문은 한 번만 훑는다.
+ * 단어 안의 특수문자는 건너뛰어 "바.보" 를 잡고, 공백은 양쪽이 모두 한 글자 단어일 때만 건너뛰어
+ * "바 보" 같은 띄어쓰기 우회는 잡되 "이 시 발표" 처럼 이웃한 단어가 우연히 이어지는 경우는 넘긴다.
+ */
+public class AhoCorasick {
+
+    private static final int ROOT = 0;
+
+    private final int[] edgeStart;
+    private final char[] edgeChars;
+    private final int[] edgeTargets;
+    private final int[] failure;
+    private final int[] matchLength;
+    private final int patternCount;
+
+    private AhoCorasick(int[] edgeStart, char[] edgeChars, int[] edgeTargets, int[] failure, int[] matchLength,
+                        int patternCount) {
+        this.edgeStart = edgeStart;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.matchLength = matchLength;
+        this.patternCount = patternCount;
+    }
+
+    public static AhoCorasick build(Collection<String> patterns) {
+        List<Map<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> terminalLength = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        terminalLength.add(0);
+        int patternCount = 0;
+
+        for (String pattern : patterns) {
+            String normalized = normalize(pattern);
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            int state = ROOT;
+            for (int i = 0; i < normalized.length(); i++) {
+                Integer next = trie.get(state).get(normalized.charAt(i));
+                if (next == null) {
+                    next = trie.size();
+                    trie.get(state).put(normalized.charAt(i), next);
+                    trie.add(new TreeMap<>());
+                    terminalLength.add(0);
+                }
+                state = next;
+            }
+            terminalLength.set(state, normalized.length());
+            patternCount++;
+        }
+        return flatten(trie, terminalLength, patternCount);
+    }
+
+    // 너비 우선 순서로 상태 번호를 다시 매겨 부모가 항상 자식보다 앞에 오게 한다.
+    private static AhoCorasick flatten(List<Map<Character, Integer>> trie, List<Integer> terminalLength, int patternCount) {
+        int stateCount = trie.size();
+        int[] order = new int[stateCount];
+        int[] renumbered = new int[stateCount];
+        Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(ROOT);
+        int next = 0;
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            renumbered[state] = next;
+            order[next++] = state;
+            queue.addAll(trie.get(state).values());
+        }
+
+        int[] edgeStart = new int[stateCount + 1];
+        char[] edgeChars = new char[stateCount - 1];
+        int[] edgeTargets = new int[stateCount - 1];
+        int edge = 0;
+        for (int state = 0; state < stateCount; state++) {
+            edgeStart[state] = edge;
+            for (Map.Entry<Character, Integer> transition : trie.get(order[state]).entrySet()) {
+                edgeChars[edge] = transition.getKey();
+                edgeTargets[edge++] = renumbered[transition.getValue()];
+            }
+        }
+        edgeStart[stateCount] = edge;
+
+        int[] failure = new int[stateCount];
+        int[] matchLength = new int[stateCount];
+        for (int state = 0; state < stateCount; state++) {
+            matchLength[state] = terminalLength.get(order[state]);
+        }
+        AhoCorasick automaton = new AhoCorasick(edgeStart, edgeChars, edgeTargets, failure, matchLength, patternCount);
+        for (int state = 0; state < stateCount; state++) {
+            for (int e = edgeStart[state]; e < edgeStart[state + 1]; e++) {
+                int child = edgeTargets[e];
+                int fallback = state == ROOT ? ROOT : automaton.step(failure[state], edgeChars[e]);
+                failure[child] = fallback;
+                if (matchLength[child] == 0) {
+                    matchLength[child] = matchLength[fallback];
+                }
+            }
+        }
+        return automaton;
+    }
+
+    public int patternCount() {
+        return patternCount;
+    }
+
+    public boolean containsAny(CharSequence text) {
+        return scan(text, true) > 0;
+    }
+
+    /**
+     * 본문에서 금칙어가 끝나는 위치의 수를 센다. 같은 위치에서 끝나는 짧은 금칙어는 따로 세지 않는다.
+     */
+    public int countMatches(CharSequence text) {
+        return scan(text, false);
+    }
+
+    private int scan(CharSequence text, boolean stopAtFirst) {
+        if (text == null || patternCount == 0) {
+            return 0;
+        }
+        int state = ROOT;
+        int matches = 0;
+        int previousLength = 0;
+        int tokenLength = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isWhitespace(c)) {
+                if (tokenLength > 0) {
+                    previousLength = tokenLength;
+                    tokenLength = 0;
+                }
+                continue;
+            }
+            if (!Character.isLetterOrDigit(c)) {
+                continue;
+            }
+            if (tokenLength == 0) {
+                tokenLength = letterCount(text, i);
+                if (previousLength != 1 || tokenLength != 1) {
+                    state = ROOT;
+                }
+            }
+            state = step(state, Character.toLowerCase(c));
+            if (matchLength[state] > 0) {
+                matches++;
+                if (stopAtFirst) {
+                    return matches;
+                }
+            }
+        }
+        return matches;
+    }
+
+    // 공백이 나올 때까지 단어에 들어 있는 글자와 숫자의 수
+    private static int letterCount(CharSequence text, int start) {
+        int count = 0;
+        for (int i = start; i < text.length() && !Character.isWhitespace(text.charAt(i)); i++) {
+            if (Character.isLetterOrDigit(text.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private int step(int state, char c) {
+        while (true) {
+            int target = transition(state, c);
+            if (target >= 0) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    private int transition(int state, char c) {
+        int low = edgeStart[state];
+        int high = edgeStart[state + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char edgeChar = edgeChars[mid];
+            if (edgeChar < c) {
+                low = mid + 1;
+            } else if (edgeChar > c) {
+                high = mid - 1;
+            } else {
+                return edgeTargets[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static String normalize(String pattern) {
+        StringBuilder normalized = new StringBuilder(pattern.length());
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+}
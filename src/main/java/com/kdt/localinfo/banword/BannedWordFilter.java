@@ -0,0 +1,104 @@
+package com.kdt.localinfo.banword;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 금칙어 목록 파일을 읽어 오토마톤을 만든다. 파일이 바뀌면 새 오토마톤을 만들어 참조만 교체한다.
+ * 경로를 지정하지 않으면 클래스패스의 banned-words.txt 를 한 번만 읽는다.
+ */
+@Slf4j
+@Component
+public class BannedWordFilter {
+
+    private static final String DEFAULT_RESOURCE = "banned-words.txt";
+
+    private final String path;
+
+    private volatile AhoCorasick automaton = AhoCorasick.build(List.of());
+    private volatile long lastModified = -1L;
+
+    public BannedWordFilter(@Value("${local-info.banned-words.path:}") String path) {
+        this.path = path;
+    }
+
+    @PostConstruct
+    public void load() {
+        if (path.isBlank()) {
+            loadDefault();
+            return;
+        }
+        reloadIfChanged();
+    }
+
+    public boolean containsBannedWord(CharSequence text) {
+        return automaton.containsAny(text);
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.banned-words.reload-interval-ms:10000}")
+    public void reloadIfChanged() {
+        if (path.isBlank()) {
+            return;
+        }
+        Path file = Paths.get(path);
+        try {
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            if (modified == lastModified) {
+                return;
+            }
+            try (InputStream inputStream = Files.newInputStream(file)) {
+                replace(read(inputStream));
+            }
+            lastModified = modified;
+        } catch (IOException e) {
+            // 읽지 못하면 기존 목록을 그대로 쓴다.
+            log.warn("Failed to load banned words from {}: {}", path, e.getMessage());
+        }
+    }
+
+    public void replace(List<String> words) {
+        automaton = AhoCorasick.build(words);
+        log.info("Banned words loaded: {} patterns", automaton.patternCount());
+    }
+
+    private void loadDefault() {
+        ClassPathResource resource = new ClassPathResource(DEFAULT_RESOURCE);
+        if (!resource.exists()) {
+            return;
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            replace(read(inputStream));
+        } catch (IOException e) {
+            log.warn("Failed to load banned words from classpath: {}", e.getMessage());
+        }
+    }
+
+    private List<String> read(InputStream inputStream) throws IOException {
+        List<String> words = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty() && !word.startsWith("#")) {
+                    words.add(word);
+                }
+            }
+        }
+        return words;
+    }
+}
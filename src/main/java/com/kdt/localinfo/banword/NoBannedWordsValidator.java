@@ -0,0 +1,18 @@
+package com.kdt.localinfo.banword;
+
+import javax.validation.ConstraintValidator;
+import javax.validation.ConstraintValidatorContext;
+
+public class NoBannedWordsValidator implements ConstraintValidator<NoBannedWords, CharSequence> {
+
+    private final BannedWordFilter bannedWordFilter;
+
+    public NoBannedWordsValidator(BannedWordFilter bannedWordFilter) {
+        this.bannedWordFilter = bannedWordFilter;
+    }
+
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || !bannedWordFilter.containsBannedWord(value);
+    }
+}
@@ -4,9 +4,9 @@ import com.kdt.localinfo.comment.dto.CommentChangeRequest;
 import com.kdt.localinfo.comment.dto.CommentResponse;
 import com.kdt.localinfo.comment.dto.CommentSaveRequest;
 import com.kdt.localinfo.comment.service.CommentService;
+import com.kdt.localinfo.shard.ShardExecutor;
 
 import com.kdt.localinfo.error.InvalidInputException;
-import javassist.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
@@ -30,9 +30,11 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ShardExecutor shardExecutor;
 
-    public CommentController(CommentService commentService) {
+    public CommentController(CommentService commentService, ShardExecutor shardExecutor) {
         this.commentService = commentService;
+        this.shardExecutor = shardExecutor;
     }
 
     @ExceptionHandler(IOException.class)
@@ -45,14 +47,14 @@ public class CommentController {
             @PathVariable("post-id") Long postId,
             @RequestParam(value = "images", required = false) List<MultipartFile> multipartFiles,
             @RequestBody @Validated CommentSaveRequest commentSaveRequest,
-            Errors errors) throws NotFoundException, IOException {
+            Errors errors) throws IOException {
 
         log.info("save execute");
         if (errors.hasErrors()) {
             throw new InvalidInputException("CommentSaveRequest Validation Error", errors);
         }
 
-        CommentResponse commentResponse = commentService.save(commentSaveRequest, postId, multipartFiles);
+        CommentResponse commentResponse = shardExecutor.onId(postId, () -> commentService.save(commentSaveRequest, postId, multipartFiles));
 
         URI createdUri = linkTo(methodOn(CommentController.class).save(postId, multipartFiles, commentSaveRequest, errors)).toUri();
 
@@ -64,9 +66,9 @@ public class CommentController {
     }
 
     @GetMapping(path = "/posts/{post-id}/comments", produces = MediaTypes.HAL_JSON_VALUE, consumes = MediaTypes.HAL_JSON_VALUE)
-    public ResponseEntity<CollectionModel<CommentResponse>> findAllByPostId(@PathVariable("post-id") Long postId) throws NotFoundException {
+    public ResponseEntity<CollectionModel<CommentResponse>> findAllByPostId(@PathVariable("post-id") Long postId) {
         log.info("comment findAllByPostId execute");
-        List<CommentResponse> commentResponses = commentService.findAllByPostId(postId);
+        List<CommentResponse> commentResponses = shardExecutor.onId(postId, () -> commentService.findAllByPostId(postId));
 
         CollectionModel<CommentResponse> entityModel = CollectionModel.of(commentResponses,
                 linkTo(methodOn(CommentController.class).findAllByPostId(postId)).withSelfRel());
@@ -74,6 +76,15 @@ public class CommentController {
         return ResponseEntity.ok().body(entityModel);
     }
 
+    @GetMapping(path = "/comments/search")
+    public ResponseEntity<List<CommentResponse>> searchComments(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "post", required = false) Long postId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(commentService.searchComments(query, postId, page, size));
+    }
+
     @PostMapping(path = "/posts/comments", produces = MediaTypes.HAL_JSON_VALUE, consumes = MediaTypes.HAL_JSON_VALUE)
     public ResponseEntity<EntityModel<CommentResponse>> changeComment(
             @RequestParam(value = "images", required = false) List<MultipartFile> multipartFiles,
@@ -81,7 +92,11 @@ public class CommentController {
             Errors errors
     ) throws IOException {
         log.info("comment changeComment execute");
-        CommentResponse commentResponse = commentService.changeComment(multipartFiles, commentChangeRequest);
+        if (errors.hasErrors()) {
+            throw new InvalidInputException("CommentChangeRequest Validation Error", errors);
+        }
+        CommentResponse commentResponse = shardExecutor.onId(commentChangeRequest.getCommentId(),
+                () -> commentService.changeComment(multipartFiles, commentChangeRequest));
 
         EntityModel<CommentResponse> entityModel = EntityModel.of(commentResponse,
                 linkTo(methodOn(CommentController.class).changeComment(multipartFiles, commentChangeRequest, errors)).withSelfRel());
@@ -91,7 +106,10 @@ public class CommentController {
 
     @DeleteMapping(path = "/posts/comments/{comment-id}", produces = MediaTypes.HAL_JSON_VALUE, consumes = MediaTypes.HAL_JSON_VALUE)
     public ResponseEntity<EntityModel<Object>> deleteComment(@PathVariable("comment-id") Long commentId){
-        commentService.deleteComment(commentId);
+        shardExecutor.onId(commentId, () -> {
+            commentService.deleteComment(commentId);
+            return commentId;
+        });
         return ResponseEntity.noContent().build();
     }
 }
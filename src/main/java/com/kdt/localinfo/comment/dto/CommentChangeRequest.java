@@ -1,5 +1,6 @@
 package com.kdt.localinfo.comment.dto;
 
+import com.kdt.localinfo.banword.NoBannedWords;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,6 +13,7 @@ import javax.validation.constraints.NotNull;
 public class CommentChangeRequest {
     @NotNull
     private Long commentId;
+    @NoBannedWords
     private String contents;
     private Long deletedPhotoId;
 }
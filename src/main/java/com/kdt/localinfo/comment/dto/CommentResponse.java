@@ -1,13 +1,11 @@
 package com.kdt.localinfo.comment.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@AllArgsConstructor
 public class CommentResponse {
     private Long id;
     private String contents;
@@ -17,6 +15,12 @@ public class CommentResponse {
     private Long parentId;
     private Long depth;
     private List<String> urls;
+    private long likeCount;
+
+    public CommentResponse(Long id, String contents, String nickName, LocalDateTime lastUpdatedAt, String region, Long parentId, Long depth, List<String> urls) {
+        this(id, contents, nickName, lastUpdatedAt, region, parentId, depth);
+        this.urls = urls;
+    }
 
     public CommentResponse(Long id, String contents, String nickName, LocalDateTime lastUpdatedAt, String region, Long parentId, Long depth) {
         this.id = id;
@@ -27,4 +31,8 @@ public class CommentResponse {
         this.parentId = parentId;
         this.depth = depth;
     }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
 }
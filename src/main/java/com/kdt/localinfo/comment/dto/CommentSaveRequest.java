@@ -1,5 +1,6 @@
 package com.kdt.localinfo.comment.dto;
 
+import com.kdt.localinfo.banword.NoBannedWords;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -14,6 +15,7 @@ public class CommentSaveRequest {
     @NotNull
     private Long userId;
     @NotNull
+    @NoBannedWords
     private String contents;
     private Long parentId;
 
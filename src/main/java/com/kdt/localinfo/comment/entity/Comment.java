@@ -3,11 +3,13 @@ package com.kdt.localinfo.comment.entity;
 import com.kdt.localinfo.common.BaseEntity;
 import com.kdt.localinfo.photo.CommentPhoto;
 import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.shard.ShardIdentifierGenerator;
 import com.kdt.localinfo.user.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -23,7 +25,8 @@ import java.util.Objects;
 @Table(name = "comments")
 public class Comment extends BaseEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ShardIdentifierGenerator.NAME)
+    @GenericGenerator(name = ShardIdentifierGenerator.NAME, strategy = ShardIdentifierGenerator.STRATEGY)
     private Long id;
     private String contents;
 
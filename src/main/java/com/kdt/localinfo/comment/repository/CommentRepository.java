@@ -2,10 +2,14 @@ package com.kdt.localinfo.comment.repository;
 
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.post.entity.Post;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -14,4 +18,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findCommentsByPostId(@Param("id") Long postId);
 
     List<Comment> findAllByPost(Post post);
+
+    @Query(value = "SELECT c FROM Comment c WHERE c.id > :lastId AND c.deletedAt IS NULL ORDER BY c.id")
+    List<Comment> findLiveChunk(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(value = "SELECT c.id FROM Comment c " +
+            "WHERE c.post.id IN :postIds AND c.id > :lastId AND c.deletedAt IS NULL ORDER BY c.id")
+    List<Long> findLiveIdChunkByPostIds(@Param("postIds") Collection<Long> postIds, @Param("lastId") Long lastId,
+                                        Pageable pageable);
+
+    //[댓글 ID, 게시글 ID]
+    @Query(value = "SELECT c.id, c.post.id FROM Comment c " +
+            "WHERE c.user.id = :userId AND c.id > :lastId AND c.deletedAt IS NULL ORDER BY c.id")
+    List<Object[]> findLiveChunkByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE Comment c SET c.deletedAt = :deletedAt WHERE c.id IN :commentIds AND c.deletedAt IS NULL")
+    int softDeleteByIds(@Param("commentIds") Collection<Long> commentIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -0,0 +1,52 @@
+package com.kdt.localinfo.comment.service;
+
+import com.kdt.localinfo.comment.entity.Comment;
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 shard 마다 살아있는 댓글을 id 순서로 나눠 읽어 검색 색인을 채운다.
+ */
+@Slf4j
+@Component
+public class CommentIndexLoader {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final CommentRepository commentRepository;
+    private final CommentSearchService commentSearchService;
+    private final ShardExecutor shardExecutor;
+
+    public CommentIndexLoader(CommentRepository commentRepository, CommentSearchService commentSearchService,
+                              ShardExecutor shardExecutor) {
+        this.commentRepository = commentRepository;
+        this.commentSearchService = commentSearchService;
+        this.shardExecutor = shardExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        shardExecutor.forEachShard(shard -> loadShard());
+        commentSearchService.maintain();
+        log.info("Comment index loaded: {} searchable comments", commentSearchService.size());
+    }
+
+    private void loadShard() {
+        long lastId = 0L;
+        List<Comment> chunk;
+        do {
+            chunk = commentRepository.findLiveChunk(lastId, PageRequest.of(0, CHUNK_SIZE));
+            for (Comment comment : chunk) {
+                commentSearchService.index(comment);
+                lastId = comment.getId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+}
@@ -0,0 +1,55 @@
+package com.kdt.localinfo.comment.service;
+
+import com.kdt.localinfo.comment.entity.Comment;
+import com.kdt.localinfo.search.InvertedIndex;
+import com.kdt.localinfo.search.NGramTokenizer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 댓글 본문 역색인. 게시글 ID 를 따로 들고 있다가 게시글 안 검색 필터로 쓴다.
+ */
+@Component
+public class CommentSearchService {
+
+    private static final int BUFFER_LIMIT = 1000;
+    private static final int MAX_SEGMENTS = 8;
+
+    private final InvertedIndex invertedIndex = new InvertedIndex(new NGramTokenizer(), BUFFER_LIMIT);
+    private final Map<Long, Long> postIds = new ConcurrentHashMap<>();
+
+    public void index(Comment comment) {
+        if (comment.getContents() == null) {
+            return;
+        }
+        postIds.put(comment.getId(), comment.getPost().getId());
+        invertedIndex.add(comment.getId(), comment.getContents());
+    }
+
+    public void remove(Long commentId) {
+        invertedIndex.remove(commentId);
+        postIds.remove(commentId);
+    }
+
+    public int size() {
+        return invertedIndex.docCount();
+    }
+
+    /**
+     * 점수 순으로 정렬된 댓글 ID 를 돌려준다. postId 가 null 이면 모든 게시글에서 찾는다.
+     */
+    public List<Long> search(String query, Long postId, int offset, int limit) {
+        return invertedIndex.search(query,
+                commentId -> postId == null || postId.equals(postIds.get(commentId)), offset, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.search.merge-interval-ms:5000}")
+    public void maintain() {
+        invertedIndex.flush();
+        invertedIndex.mergeSmallest(MAX_SEGMENTS);
+    }
+}
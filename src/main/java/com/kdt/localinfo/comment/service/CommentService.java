@@ -7,13 +7,20 @@ import com.kdt.localinfo.comment.dto.CommentResponse;
 import com.kdt.localinfo.comment.dto.CommentSaveRequest;
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.common.AfterCommit;
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.mention.MentionService;
 import com.kdt.localinfo.photo.CommentPhoto;
 import com.kdt.localinfo.photo.CommentPhotoRepository;
 import com.kdt.localinfo.post.entity.Post;
 import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.reaction.ReactionService;
+import com.kdt.localinfo.reaction.ReactionTarget;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.trending.TrendingService;
 import com.kdt.localinfo.user.entity.User;
 import com.kdt.localinfo.user.repository.UserRepository;
-import javassist.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -22,8 +29,9 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -31,40 +39,63 @@ import java.util.stream.Collectors;
 @Service
 public class CommentService {
 
+    private static final int MAX_SEARCH_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final CommentConverter commentConverter;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final CommentPhotoRepository commentPhotoRepository;
     private final AwsS3Service s3Uploader;
+    private final CommentSearchService commentSearchService;
+    private final MentionService mentionService;
+    private final TrendingService trendingService;
+    private final ReactionService reactionService;
+    private final ShardExecutor shardExecutor;
 
     public CommentService(CommentRepository commentRepository,
                           CommentConverter commentConverter,
                           UserRepository userRepository,
                           PostRepository postRepository,
                           CommentPhotoRepository commentPhotoRepository,
-                          AwsS3Service s3Uploader) {
+                          AwsS3Service s3Uploader,
+                          CommentSearchService commentSearchService,
+                          MentionService mentionService,
+                          TrendingService trendingService,
+                          ReactionService reactionService,
+                          ShardExecutor shardExecutor) {
         this.commentRepository = commentRepository;
         this.commentConverter = commentConverter;
         this.userRepository = userRepository;
         this.postRepository = postRepository;
         this.commentPhotoRepository = commentPhotoRepository;
         this.s3Uploader = s3Uploader;
+        this.commentSearchService = commentSearchService;
+        this.mentionService = mentionService;
+        this.trendingService = trendingService;
+        this.reactionService = reactionService;
+        this.shardExecutor = shardExecutor;
     }
 
     @Transactional
-    public CommentResponse save(CommentSaveRequest commentSaveRequest, Long postId, List<MultipartFile> multipartFiles) throws NotFoundException, IOException {
+    public CommentResponse save(CommentSaveRequest commentSaveRequest, Long postId, List<MultipartFile> multipartFiles) throws IOException {
 
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시물에 대한 정보를 찾을 수 없습니다."));
+                .orElseThrow(() -> new ResourceNotFoundException("게시물에 대한 정보를 찾을 수 없습니다."));
 
         Long userId = commentSaveRequest.getUserId();
         User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("작성자 정보를 찾을 수 없습니다."));
+                .orElseThrow(() -> new ResourceNotFoundException("작성자 정보를 찾을 수 없습니다."));
 
         Comment comment = commentConverter.converterToComment(commentSaveRequest, user, post);
 
         Comment commentEntity = commentRepository.save(comment);
+        postRepository.addCommentCount(postId, 1L);
+        mentionService.syncMentions(commentEntity);
+        AfterCommit.run("Comment indexing " + commentEntity.getId(), () -> {
+            commentSearchService.index(commentEntity);
+            trendingService.onCommentCreated(post);
+        });
 
         List<String> fileUrls = fileUpload(multipartFiles);
 
@@ -81,9 +112,9 @@ public class CommentService {
     }
 
     @Transactional(readOnly = true)
-    public List<CommentResponse> findAllByPostId(Long postId) throws NotFoundException {
+    public List<CommentResponse> findAllByPostId(Long postId) {
         Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new NotFoundException("게시물에 대한 정보를 찾을 수 없습니다."));
+                .orElseThrow(() -> new ResourceNotFoundException("게시물에 대한 정보를 찾을 수 없습니다."));
 
         List<Comment> comments = commentRepository.findAllByPost(post);
 
@@ -96,13 +127,41 @@ public class CommentService {
                 })
                 .collect(Collectors.toList());
 
-        return commentResponses;
+        return withLikeCounts(commentResponses);
+    }
+
+    @Transactional(readOnly = true)
+    public List<CommentResponse> searchComments(String query, Long postId, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidInputException("검색어를 입력해주세요.");
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_SEARCH_SIZE);
+        List<Long> commentIds = commentSearchService.search(query, postId, Math.max(page, 0) * pageSize, pageSize);
+
+        // 댓글은 게시글이 있는 shard 에 있으므로 shard 별로 나눠 읽고 검색 순서대로 다시 모은다.
+        Map<Integer, List<Long>> idsByShard = shardExecutor.groupByShard(commentIds);
+        Map<Long, CommentResponse> responsesById = new HashMap<>();
+        shardExecutor.scatterGather(idsByShard.keySet(), shard -> findLiveComments(idsByShard.get(shard)))
+                .forEach(responses -> responses.forEach(response -> responsesById.put(response.getId(), response)));
+
+        return commentIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    private List<CommentResponse> findLiveComments(List<Long> commentIds) {
+        return withLikeCounts(commentRepository.findAllById(commentIds).stream()
+                .filter(comment -> comment.getDeletedAt() == null)
+                .map(comment -> commentConverter.converterToCommentResponse(comment,
+                        comment.getCommentPhotos().stream().map(CommentPhoto::getUrl).collect(Collectors.toList())))
+                .collect(Collectors.toList()));
     }
 
     @Transactional
     public CommentResponse changeComment(List<MultipartFile> multipartFiles, CommentChangeRequest commentChangeRequest) throws IOException {
         // 요청에 대한 댓글 검색
-        Comment comment = commentRepository.findById(commentChangeRequest.getCommentId()).orElseThrow(() -> new NoSuchElementException("댓글에 대한 정보를 찾을 수 없습니다."));
+        Comment comment = commentRepository.findById(commentChangeRequest.getCommentId()).orElseThrow(() -> new ResourceNotFoundException("댓글에 대한 정보를 찾을 수 없습니다."));
 
         // TODO: 사진 삭제 soft delete로 변경
         // 댓글에 관계된 사진들이랑 요청에 들어온 삭제 요청 사진 uri랑 같으면 해당 데이터 삭제
@@ -115,6 +174,8 @@ public class CommentService {
 
         // 댓글 내용 수정
         comment.changedCommentContents(commentChangeRequest.getContents());
+        mentionService.syncMentions(comment);
+        AfterCommit.run("Comment indexing " + comment.getId(), () -> commentSearchService.index(comment));
 
         // 새로 추가한 사진 s3에 업로드 하고 해당 파일들에 대한 url 리턴
         List<String> fileUrls = fileUpload(multipartFiles);
@@ -129,13 +190,19 @@ public class CommentService {
         commentPhotoRepository.findAllByCommentId(comment.getId())
                 .forEach(commentPhoto -> urls.add(commentPhoto.getUrl()));
 
-        return commentConverter.converterToCommentResponse(comment, urls);
+        CommentResponse commentResponse = commentConverter.converterToCommentResponse(comment, urls);
+        commentResponse.setLikeCount(reactionService.countOf(ReactionTarget.COMMENT, comment.getId()));
+        return commentResponse;
     }
 
     @Transactional
     public void deleteComment(Long commentId){
-        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new NoSuchElementException("댓글 아이디에 해당하는 정보를 찾을 수 없습니다."));
+        Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ResourceNotFoundException("댓글 아이디에 해당하는 정보를 찾을 수 없습니다."));
+        if (comment.getDeletedAt() == null) {
+            postRepository.addCommentCount(comment.getPost().getId(), -1L);
+        }
         comment.deletedComment();
+        commentSearchService.remove(commentId);
 
         List<CommentPhoto> commentPhotos = comment.getCommentPhotos();
         commentPhotos.forEach(CommentPhoto::deleteCommentPhoto);
@@ -151,6 +218,13 @@ public class CommentService {
         commentPhotoRepository.saveAll(photos);
     }
 
+    private List<CommentResponse> withLikeCounts(List<CommentResponse> commentResponses) {
+        Map<Long, Long> likeCounts = reactionService.countAll(ReactionTarget.COMMENT,
+                commentResponses.stream().map(CommentResponse::getId).collect(Collectors.toList()));
+        commentResponses.forEach(commentResponse -> commentResponse.setLikeCount(likeCounts.getOrDefault(commentResponse.getId(), 0L)));
+        return commentResponses;
+    }
+
     private List<String> fileUpload(List<MultipartFile> multipartFiles) throws IOException {
         List<String> uploadUrls = new ArrayList<>();
 
@@ -0,0 +1,51 @@
+package com.kdt.localinfo.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지금 트랜잭션이 커밋된 뒤에 작업을 돌린다. 롤백되면 돌리지 않고, 트랜잭션 밖에서 부르면 바로 돌린다.
+ * 커밋은 이미 끝났으므로 작업이 실패해도 호출한 쪽으로 던지지 않고 로그만 남긴다. 같은 작업은 한 번만 돈다.
+ */
+@Slf4j
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    public static void run(String description, Runnable action) {
+        Task task = new Task(description, action);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.afterCommit();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(task);
+    }
+
+    private static class Task implements TransactionSynchronization {
+
+        private final String description;
+        private final Runnable action;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Task(String description, Runnable action) {
+            this.description = description;
+            this.action = action;
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!done.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                action.run();
+            } catch (RuntimeException e) {
+                log.error("{} failed", description, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package com.kdt.localinfo.datasource;
+
+public enum DataSourceRoute {
+    PRIMARY,
+    REPLICA
+}
@@ -0,0 +1,73 @@
+package com.kdt.localinfo.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 방금 쓰기를 한 사용자의 읽기를 잠시 primary 로 보낸다.
+ * 복제 지연보다 긴 시간 동안 붙여 두어 자신이 쓴 글이 replica 에 아직 없어 안 보이는 일을 막는다.
+ * 기록은 노드 메모리에만 있으므로 같은 사용자의 요청이 다른 노드로 가면 적용되지 않는다.
+ */
+public class ReplicaStickiness {
+
+    private static final int EVICT_THRESHOLD = 10_000;
+
+    private final ThreadLocal<String> currentUser = new ThreadLocal<>();
+    private final Map<String, Long> primaryUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+
+    public ReplicaStickiness(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    public void bind(String userId) {
+        if (userId == null || userId.isBlank()) {
+            currentUser.remove();
+        } else {
+            currentUser.set(userId);
+        }
+    }
+
+    public void clear() {
+        currentUser.remove();
+    }
+
+    public boolean mustReadPrimary() {
+        String userId = currentUser.get();
+        if (userId == null) {
+            return false;
+        }
+        Long until = primaryUntil.get(userId);
+        return until != null && until > System.currentTimeMillis();
+    }
+
+    /**
+     * 쓰기 트랜잭션이 primary 연결을 잡을 때 부른다. 커밋 시점부터 다시 재도록 완료 후에도 한 번 더 기록한다.
+     */
+    public void onPrimaryTransaction() {
+        String userId = currentUser.get();
+        if (userId == null) {
+            return;
+        }
+        mark(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    mark(userId);
+                }
+            });
+        }
+    }
+
+    private void mark(String userId) {
+        long now = System.currentTimeMillis();
+        primaryUntil.put(userId, now + windowMillis);
+        if (primaryUntil.size() > EVICT_THRESHOLD) {
+            primaryUntil.values().removeIf(until -> until <= now);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.kdt.localinfo.datasource;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+
+/**
+ * 요청의 X-User-Id 헤더로 쓰기 후 primary 고정 대상을 구분한다.
+ */
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    public static final String USER_HEADER = "X-User-Id";
+
+    private final ReplicaStickiness stickiness;
+
+    public ReplicaStickinessFilter(ReplicaStickiness stickiness) {
+        this.stickiness = stickiness;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        stickiness.bind(request.getHeader(USER_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stickiness.clear();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.kdt.localinfo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * local-info.datasource.replica.url 이 있으면 읽기 전용 트랜잭션을 replica 로 보낸다.
+ * 없으면 이 설정은 빠지고 spring.datasource 하나만 쓴다. 샤딩을 켜면 shard 마다 replica-url 로 replica 를 따로 둔다.
+ */
+@Configuration
+@ConditionalOnExpression("!'${local-info.datasource.replica.url:}'.isEmpty() && !${local-info.sharding.enabled:false}")
+public class ReplicationDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "local-info.datasource.replica.hikari";
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(@Value("${local-info.datasource.replica.sticky-window-ms:2000}") long windowMillis) {
+        return new ReplicaStickiness(windowMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReplicaStickinessFilter> replicaStickinessFilter(ReplicaStickiness replicaStickiness) {
+        return new FilterRegistrationBean<>(new ReplicaStickinessFilter(replicaStickiness));
+    }
+
+    //자동 설정이 만드는 풀처럼 spring.datasource.hikari.* 를 그대로 적용한다.
+    @Bean(destroyMethod = "close")
+    @ConfigurationProperties(HIKARI_PREFIX)
+    public HikariDataSource primaryDataSource(DataSourceProperties primaryProperties) {
+        HikariDataSource primary = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        primary.setPoolName("primary");
+        return primary;
+    }
+
+    //replica 도 spring.datasource.hikari.* 를 먼저 적용하고 local-info.datasource.replica.hikari.* 로 덮어쓴다.
+    @Bean(destroyMethod = "close")
+    public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties, Environment environment,
+                                              @Value("${local-info.datasource.replica.url}") String url,
+                                              @Value("${local-info.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${local-info.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("replica");
+        replica.setReadOnly(true);
+        Binder binder = Binder.get(environment);
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(replica));
+        binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(replica));
+        return replica;
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaStickiness replicaStickiness) {
+        return new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaStickiness));
+    }
+}
@@ -0,0 +1,47 @@
+package com.kdt.localinfo.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 보낸다.
+ * 트랜잭션의 readOnly 여부는 연결을 잡은 뒤에 정해지므로 LazyConnectionDataSourceProxy 로 감싸서 쓴다.
+ * shard 안에 두면 빈으로 등록되지 않은 풀을 닫을 수 있도록 close 에서 두 풀을 함께 닫는다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final ReplicaStickiness stickiness;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaStickiness stickiness) {
+        this.primary = primary;
+        this.replica = replica;
+        this.stickiness = stickiness;
+        setTargetDataSources(Map.of(DataSourceRoute.PRIMARY, primary, DataSourceRoute.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            stickiness.onPrimaryTransaction();
+            return DataSourceRoute.PRIMARY;
+        }
+        return stickiness.mustReadPrimary() ? DataSourceRoute.PRIMARY : DataSourceRoute.REPLICA;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : List.of(primary, replica)) {
+            if (dataSource instanceof AutoCloseable) {
+                ((AutoCloseable) dataSource).close();
+            }
+        }
+    }
+}
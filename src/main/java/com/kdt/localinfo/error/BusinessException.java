@@ -0,0 +1,19 @@
+package com.kdt.localinfo.error;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청자의 잘못으로 발생하는 예상 가능한 예외의 최상위 타입.
+ * 4xx 응답으로만 쓰이므로 스택 트레이스를 수집하지 않는다.
+ */
+@Getter
+public abstract class BusinessException extends RuntimeException {
+
+    private final HttpStatus status;
+
+    protected BusinessException(String message, HttpStatus status) {
+        super(message, null, false, false);
+        this.status = status;
+    }
+}
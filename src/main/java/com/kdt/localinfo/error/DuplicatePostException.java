@@ -0,0 +1,10 @@
+package com.kdt.localinfo.error;
+
+import org.springframework.http.HttpStatus;
+
+public class DuplicatePostException extends BusinessException {
+
+    public DuplicatePostException(String message) {
+        super(message, HttpStatus.CONFLICT);
+    }
+}
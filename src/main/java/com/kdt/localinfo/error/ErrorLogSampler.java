@@ -0,0 +1,55 @@
+package com.kdt.localinfo.error;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 4xx 예외 로그를 샘플링하고 초당 출력 건수를 제한한다.
+ * 버려진 건수는 다음에 출력되는 로그의 suppressed 필드로 함께 남긴다.
+ */
+@Slf4j
+@Component
+public class ErrorLogSampler {
+
+    private static final long WINDOW_MILLIS = 1000L;
+
+    private final double sampleRate;
+    private final int maxPerSecond;
+
+    private final AtomicLong windowStart = new AtomicLong();
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public ErrorLogSampler(@Value("${local-info.error-log.sample-rate:0.1}") double sampleRate,
+                           @Value("${local-info.error-log.max-per-second:20}") int maxPerSecond) {
+        this.sampleRate = sampleRate;
+        this.maxPerSecond = maxPerSecond;
+    }
+
+    public void log(int status, Exception e, String method, String path) {
+        if (!acquire()) {
+            suppressed.increment();
+            return;
+        }
+        log.warn("client_error status={} exception={} method={} path={} message=\"{}\" suppressed={}",
+                status, e.getClass().getSimpleName(), method, path, e.getMessage(), suppressed.sumThenReset());
+    }
+
+    private boolean acquire() {
+        if (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_MILLIS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+        return windowCount.incrementAndGet() <= maxPerSecond;
+    }
+}
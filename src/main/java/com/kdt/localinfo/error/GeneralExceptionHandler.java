@@ -1,6 +1,5 @@
 package com.kdt.localinfo.error;
 
-import javassist.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.TypeMismatchException;
 import org.springframework.hateoas.EntityModel;
@@ -18,11 +17,18 @@ import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.multipart.MultipartException;
 
 import javax.persistence.EntityNotFoundException;
+import javax.servlet.http.HttpServletRequest;
 
 @Slf4j
 @ControllerAdvice
 public class GeneralExceptionHandler {
 
+    private final ErrorLogSampler errorLogSampler;
+
+    public GeneralExceptionHandler(ErrorLogSampler errorLogSampler) {
+        this.errorLogSampler = errorLogSampler;
+    }
+
     private ResponseEntity<Errors> newResponse(HttpStatus status) {
         HttpHeaders headers = new HttpHeaders();
         headers.add("Content-Type", "application/hal+json;charset=UTF-8");
@@ -30,15 +36,23 @@ public class GeneralExceptionHandler {
     }
 
     @ExceptionHandler(InvalidInputException.class)
-    public ResponseEntity<EntityModel<Errors>> badRequest(InvalidInputException ex) {
+    public ResponseEntity<EntityModel<Errors>> badRequest(InvalidInputException ex, HttpServletRequest request) {
+        errorLogSampler.log(HttpStatus.BAD_REQUEST.value(), ex, request.getMethod(), request.getRequestURI());
+        if (ex.getErrors() == null) {
+            return ResponseEntity.badRequest().build();
+        }
         return ResponseEntity.badRequest().body(ErrorResources.modelOf(ex.getErrors()));
     }
 
+    @ExceptionHandler(BusinessException.class)
+    public ResponseEntity<EntityModel<Errors>> businessException(BusinessException ex, HttpServletRequest request) {
+        errorLogSampler.log(ex.getStatus().value(), ex, request.getMethod(), request.getRequestURI());
+        return ResponseEntity.status(ex.getStatus()).build();
+    }
 
-    @ExceptionHandler({
-            NotFoundException.class, EntityNotFoundException.class
-    })
-    public ResponseEntity<EntityModel<Errors>> notFound() {
+    @ExceptionHandler(EntityNotFoundException.class)
+    public ResponseEntity<EntityModel<Errors>> notFound(EntityNotFoundException e, HttpServletRequest request) {
+        errorLogSampler.log(HttpStatus.NOT_FOUND.value(), e, request.getMethod(), request.getRequestURI());
         return ResponseEntity.notFound().build();
     }
 
@@ -48,24 +62,21 @@ public class GeneralExceptionHandler {
             TypeMismatchException.class, HttpMessageNotReadableException.class,
             MissingServletRequestParameterException.class, MultipartException.class,
     })
-    public ResponseEntity<EntityModel<Errors>> handleBadRequestException(Exception e) {
-        log.error("*** BadRequestException ***");
-        e.printStackTrace();
+    public ResponseEntity<EntityModel<Errors>> handleBadRequestException(Exception e, HttpServletRequest request) {
+        errorLogSampler.log(HttpStatus.BAD_REQUEST.value(), e, request.getMethod(), request.getRequestURI());
         return ResponseEntity.badRequest().build();
     }
 
     @ResponseStatus(HttpStatus.UNSUPPORTED_MEDIA_TYPE)
     @ExceptionHandler(HttpMediaTypeException.class)
-    public ResponseEntity<?> handleHttpMediaTypeException(Exception e) {
-        log.error("*** HttpMediaTypeException ***");
-        e.printStackTrace();
+    public ResponseEntity<?> handleHttpMediaTypeException(Exception e, HttpServletRequest request) {
+        errorLogSampler.log(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value(), e, request.getMethod(), request.getRequestURI());
         return newResponse(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
     }
 
     @ExceptionHandler(HttpRequestMethodNotSupportedException.class)
-    public ResponseEntity<?> handleMethodNotAllowedException(Exception e) {
-        log.error("*** MethodNotAllowedException ***");
-        e.printStackTrace();
+    public ResponseEntity<?> handleMethodNotAllowedException(Exception e, HttpServletRequest request) {
+        errorLogSampler.log(HttpStatus.METHOD_NOT_ALLOWED.value(), e, request.getMethod(), request.getRequestURI());
         return newResponse(HttpStatus.METHOD_NOT_ALLOWED);
     }
 
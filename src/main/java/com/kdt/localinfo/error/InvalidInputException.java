@@ -1,19 +1,20 @@
 package com.kdt.localinfo.error;
 
 import lombok.Getter;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.Errors;
 
 @Getter
-public class InvalidInputException extends RuntimeException {
+public class InvalidInputException extends BusinessException {
 
     private Errors errors;
 
     public InvalidInputException(String message, Errors errors) {
-        super(message);
+        super(message, HttpStatus.BAD_REQUEST);
         this.errors = errors;
     }
 
     public InvalidInputException(String message) {
-        super(message);
+        super(message, HttpStatus.BAD_REQUEST);
     }
 }
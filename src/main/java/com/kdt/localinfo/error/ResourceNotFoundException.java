@@ -0,0 +1,10 @@
+package com.kdt.localinfo.error;
+
+import org.springframework.http.HttpStatus;
+
+public class ResourceNotFoundException extends BusinessException {
+
+    public ResourceNotFoundException(String message) {
+        super(message, HttpStatus.NOT_FOUND);
+    }
+}
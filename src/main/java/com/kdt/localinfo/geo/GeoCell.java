@@ -0,0 +1,105 @@
+package com.kdt.localinfo.geo;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 위경도를 Z-order(Morton) 셀 번호로 변환한다.
+ * 각 축을 26비트로 나눈 52비트 셀 번호를 쓰며, 상위 레벨 셀은 하위 셀 번호의 연속 구간이 된다.
+ */
+public class GeoCell {
+
+    public static final int MAX_LEVEL = 26;
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE = 111.32;
+
+    private GeoCell() {
+    }
+
+    public static long encode(double latitude, double longitude) {
+        return interleave(toGrid(longitude, -180.0, 360.0), toGrid(latitude, -90.0, 180.0));
+    }
+
+    /**
+     * 중심점에서 반경 radiusKm 안을 모두 포함하는 셀 번호 구간([from, to))들을 계산한다.
+     * 반경보다 큰 레벨의 셀을 고르고 주변 3x3 셀만 사용하므로 구간은 최대 9개다.
+     */
+    public static List<long[]> cover(double latitude, double longitude, double radiusKm) {
+        int level = coverLevel(latitude, radiusKm);
+        int shift = MAX_LEVEL - level;
+        long x = toGrid(longitude, -180.0, 360.0) >>> shift;
+        long y = toGrid(latitude, -90.0, 180.0) >>> shift;
+        long maxCell = (1L << level) - 1;
+
+        List<long[]> ranges = new ArrayList<>(9);
+        for (long dy = -1; dy <= 1; dy++) {
+            for (long dx = -1; dx <= 1; dx++) {
+                long cellX = x + dx;
+                long cellY = y + dy;
+                if (cellX < 0 || cellY < 0 || cellX > maxCell || cellY > maxCell) {
+                    continue;
+                }
+                long prefix = interleave(cellX, cellY);
+                ranges.add(new long[]{prefix << (2 * shift), (prefix + 1) << (2 * shift)});
+            }
+        }
+        return mergeRanges(ranges);
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    public static boolean isValid(Double latitude, Double longitude) {
+        return latitude != null && longitude != null
+                && latitude >= -90.0 && latitude <= 90.0
+                && longitude >= -180.0 && longitude <= 180.0;
+    }
+
+    private static int coverLevel(double latitude, double radiusKm) {
+        double latDegrees = radiusKm / KM_PER_DEGREE;
+        double lonDegrees = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+        int level = MAX_LEVEL;
+        while (level > 0 && (180.0 / (1L << level) < latDegrees || 360.0 / (1L << level) < lonDegrees)) {
+            level--;
+        }
+        return level;
+    }
+
+    private static long toGrid(double value, double min, double span) {
+        long cell = (long) ((value - min) / span * (1L << MAX_LEVEL));
+        return Math.min(Math.max(cell, 0), (1L << MAX_LEVEL) - 1);
+    }
+
+    private static long interleave(long x, long y) {
+        return spread(x) | (spread(y) << 1);
+    }
+
+    private static long spread(long value) {
+        long v = value & 0x3FFFFFFL;
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+        return v;
+    }
+
+    private static List<long[]> mergeRanges(List<long[]> ranges) {
+        ranges.sort((a, b) -> Long.compare(a[0], b[0]));
+        List<long[]> merged = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+            long[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+            if (last != null && last[1] >= range[0]) {
+                last[1] = Math.max(last[1], range[1]);
+            } else {
+                merged.add(range);
+            }
+        }
+        return merged;
+    }
+}
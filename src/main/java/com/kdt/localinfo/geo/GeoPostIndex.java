@@ -0,0 +1,92 @@
+package com.kdt.localinfo.geo;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 셀 번호 순으로 정렬된 게시글 위치 인덱스.
+ * 반경 검색은 GeoCell.cover 가 만든 몇 개의 구간만 훑은 뒤 실제 거리로 한 번 더 거른다.
+ */
+@Component
+public class GeoPostIndex {
+
+    private static final Comparator<Entry> CELL_ORDER = Comparator.comparingLong((Entry entry) -> entry.cell)
+            .thenComparingLong(entry -> entry.postId);
+
+    private final ConcurrentSkipListSet<Entry> entries = new ConcurrentSkipListSet<>(CELL_ORDER);
+    private final Map<Long, Entry> entriesByPostId = new ConcurrentHashMap<>();
+
+    public void put(long postId, double latitude, double longitude) {
+        Entry entry = new Entry(GeoCell.encode(latitude, longitude), postId, latitude, longitude);
+        Entry previous = entriesByPostId.put(postId, entry);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+        entries.add(entry);
+    }
+
+    public void remove(long postId) {
+        Entry previous = entriesByPostId.remove(postId);
+        if (previous != null) {
+            entries.remove(previous);
+        }
+    }
+
+    public int size() {
+        return entriesByPostId.size();
+    }
+
+    /**
+     * 중심점에서 radiusKm 이내의 게시글 ID 를 가까운 순서로 최대 limit 개 돌려준다.
+     */
+    public List<Long> findWithin(double latitude, double longitude, double radiusKm, int limit) {
+        List<Hit> hits = new ArrayList<>();
+        for (long[] range : GeoCell.cover(latitude, longitude, radiusKm)) {
+            Entry from = new Entry(range[0], Long.MIN_VALUE, 0, 0);
+            Entry to = new Entry(range[1], Long.MIN_VALUE, 0, 0);
+            for (Entry entry : entries.subSet(from, to)) {
+                double distance = GeoCell.distanceKm(latitude, longitude, entry.latitude, entry.longitude);
+                if (distance <= radiusKm) {
+                    hits.add(new Hit(entry.postId, distance));
+                }
+            }
+        }
+        hits.sort(Comparator.comparingDouble(hit -> hit.distance));
+
+        List<Long> postIds = new ArrayList<>(Math.min(hits.size(), limit));
+        for (int i = 0; i < hits.size() && i < limit; i++) {
+            postIds.add(hits.get(i).postId);
+        }
+        return postIds;
+    }
+
+    private static class Hit {
+        private final long postId;
+        private final double distance;
+
+        private Hit(long postId, double distance) {
+            this.postId = postId;
+            this.distance = distance;
+        }
+    }
+
+    private static class Entry {
+        private final long cell;
+        private final long postId;
+        private final double latitude;
+        private final double longitude;
+
+        private Entry(long cell, long postId, double latitude, double longitude) {
+            this.cell = cell;
+            this.postId = postId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.kdt.localinfo.mention;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+@Getter
+@Table(name = "comment_mentions", indexes = {
+        @Index(name = "idx_comment_mentions_user", columnList = "user_id, comment_id")
+})
+@IdClass(CommentMention.Key.class)
+@NoArgsConstructor
+@Entity
+public class CommentMention {
+
+    @Id
+    @Column(name = "comment_id")
+    private Long commentId;
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    public CommentMention(Long commentId, Long userId) {
+        this.commentId = commentId;
+        this.userId = userId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long commentId;
+        private Long userId;
+    }
+}
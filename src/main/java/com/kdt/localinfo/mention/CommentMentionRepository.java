@@ -0,0 +1,9 @@
+package com.kdt.localinfo.mention;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface CommentMentionRepository extends JpaRepository<CommentMention, CommentMention.Key> {
+    List<CommentMention> findByCommentId(Long commentId);
+}
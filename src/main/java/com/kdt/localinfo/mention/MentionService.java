@@ -0,0 +1,59 @@
+package com.kdt.localinfo.mention;
+
+import com.kdt.localinfo.comment.entity.Comment;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 본문의 @닉네임을 닉네임 트라이로 사용자 ID 로 바꿔 comment_mentions 에 저장한다.
+ */
+@Service
+public class MentionService {
+
+    private final NicknameDirectory nicknameDirectory;
+    private final CommentMentionRepository commentMentionRepository;
+
+    public MentionService(NicknameDirectory nicknameDirectory, CommentMentionRepository commentMentionRepository) {
+        this.nicknameDirectory = nicknameDirectory;
+        this.commentMentionRepository = commentMentionRepository;
+    }
+
+    @Transactional
+    public Set<Long> syncMentions(Comment comment) {
+        Set<Long> userIds = resolve(comment.getContents());
+        Map<Long, CommentMention> savedMentions = commentMentionRepository.findByCommentId(comment.getId()).stream()
+                .collect(Collectors.toMap(CommentMention::getUserId, Function.identity()));
+
+        savedMentions.forEach((userId, mention) -> {
+            if (!userIds.contains(userId)) {
+                commentMentionRepository.delete(mention);
+            }
+        });
+        List<CommentMention> added = userIds.stream()
+                .filter(userId -> !savedMentions.containsKey(userId))
+                .map(userId -> new CommentMention(comment.getId(), userId))
+                .collect(Collectors.toList());
+        commentMentionRepository.saveAll(added);
+        return userIds;
+    }
+
+    private Set<Long> resolve(String contents) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String nickname : Mentions.extract(contents)) {
+            for (long userId : nicknameDirectory.resolve(nickname)) {
+                if (userIds.size() >= Mentions.MAX_MENTIONS) {
+                    return userIds;
+                }
+                userIds.add(userId);
+            }
+        }
+        return userIds;
+    }
+}
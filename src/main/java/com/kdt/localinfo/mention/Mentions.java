@@ -0,0 +1,43 @@
+package com.kdt.localinfo.mention;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 본문에서 @닉네임을 뽑아낸다. 글자, 숫자, 밑줄만 닉네임으로 본다.
+ */
+public final class Mentions {
+
+    public static final int MAX_LENGTH = 30;
+    public static final int MAX_MENTIONS = 20;
+
+    private Mentions() {
+    }
+
+    public static Set<String> extract(String contents) {
+        Set<String> nicknames = new LinkedHashSet<>();
+        if (contents == null) {
+            return nicknames;
+        }
+        int i = 0;
+        while (i < contents.length() && nicknames.size() < MAX_MENTIONS) {
+            if (contents.charAt(i) != '@') {
+                i++;
+                continue;
+            }
+            int start = ++i;
+            while (i < contents.length() && isNicknameChar(contents.charAt(i))) {
+                i++;
+            }
+            int length = i - start;
+            if (length > 0 && length <= MAX_LENGTH) {
+                nicknames.add(contents.substring(start, i));
+            }
+        }
+        return nicknames;
+    }
+
+    private static boolean isNicknameChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,75 @@
+package com.kdt.localinfo.mention;
+
+import com.kdt.localinfo.user.entity.User;
+import com.kdt.localinfo.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 활성 사용자 닉네임 트라이. 시작할 때 채우고 UserService 의 가입, 수정, 탈퇴 때 함께 갱신한다.
+ */
+@Slf4j
+@Component
+public class NicknameDirectory {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final NicknameTrie nicknameTrie = new NicknameTrie();
+    private final UserRepository userRepository;
+
+    public NicknameDirectory(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long lastId = 0L;
+        List<User> chunk;
+        do {
+            chunk = userRepository.findLiveChunk(lastId, PageRequest.of(0, CHUNK_SIZE));
+            for (User user : chunk) {
+                register(user);
+                lastId = user.getId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+        log.info("Nickname directory loaded: {} nicknames", nicknameTrie.size());
+    }
+
+    public void register(User user) {
+        if (isIndexable(user.getNickname()) && user.getId() != null) {
+            nicknameTrie.put(user.getNickname(), user.getId());
+        }
+    }
+
+    public void unregister(User user) {
+        if (isIndexable(user.getNickname()) && user.getId() != null) {
+            nicknameTrie.remove(user.getNickname(), user.getId());
+        }
+    }
+
+    public void rename(Long userId, String before, String after) {
+        if (isIndexable(before)) {
+            nicknameTrie.remove(before, userId);
+        }
+        if (isIndexable(after)) {
+            nicknameTrie.put(after, userId);
+        }
+    }
+
+    public long[] resolve(String nickname) {
+        return nicknameTrie.find(nickname);
+    }
+
+    public List<NicknameTrie.Match> complete(String prefix, int limit) {
+        return nicknameTrie.complete(prefix, limit);
+    }
+
+    private boolean isIndexable(String nickname) {
+        return nickname != null && !nickname.isEmpty();
+    }
+}
@@ -0,0 +1,251 @@
+package com.kdt.localinfo.mention;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 닉네임 압축 트라이(radix tree). 노드는 바뀌지 않고 쓰기는 경로만 복사해 루트를 교체하므로
+ * 조회는 잠금 없이 한 시점의 트리를 본다. 닉네임은 중복될 수 있어 노드마다 사용자 ID 배열을 둔다.
+ */
+public class NicknameTrie {
+
+    private static final long[] NO_IDS = new long[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private volatile Node root = new Node(new char[0], NO_CHILDREN, NO_IDS);
+    private volatile int size;
+
+    public synchronized void put(String nickname, long userId) {
+        Node next = insert(root, nickname.toCharArray(), 0, userId);
+        if (next != root) {
+            root = next;
+            size++;
+        }
+    }
+
+    public synchronized void remove(String nickname, long userId) {
+        Node next = delete(root, nickname.toCharArray(), 0, userId);
+        if (next != root) {
+            root = next;
+            size--;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 닉네임이 정확히 일치하는 사용자 ID 들을 돌려준다.
+     */
+    public long[] find(String nickname) {
+        char[] key = nickname.toCharArray();
+        Node node = root;
+        int position = 0;
+        while (position < key.length) {
+            Node child = node.childOf(key[position]);
+            if (child == null || !startsWith(key, position, child.label)) {
+                return NO_IDS;
+            }
+            position += child.label.length;
+            node = child;
+        }
+        return node.userIds.clone();
+    }
+
+    /**
+     * prefix 로 시작하는 닉네임을 사전순으로 최대 limit 개 돌려준다.
+     */
+    public List<Match> complete(String prefix, int limit) {
+        List<Match> matches = new ArrayList<>(Math.min(limit, 16));
+        char[] key = prefix.toCharArray();
+        Node node = root;
+        int position = 0;
+        StringBuilder path = new StringBuilder(prefix.length() + 16);
+        while (position < key.length) {
+            Node child = node.childOf(key[position]);
+            if (child == null) {
+                return matches;
+            }
+            int common = commonPrefix(child.label, key, position);
+            if (position + common < key.length && common < child.label.length) {
+                return matches;
+            }
+            path.append(child.label);
+            position += child.label.length;
+            node = child;
+        }
+        collect(node, path, matches, limit);
+        return matches;
+    }
+
+    private static void collect(Node node, StringBuilder path, List<Match> matches, int limit) {
+        for (long userId : node.userIds) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            matches.add(new Match(path.toString(), userId));
+        }
+        for (Node child : node.children) {
+            if (matches.size() >= limit) {
+                return;
+            }
+            int length = path.length();
+            path.append(child.label);
+            collect(child, path, matches, limit);
+            path.setLength(length);
+        }
+    }
+
+    private static Node insert(Node node, char[] key, int position, long userId) {
+        if (position == key.length) {
+            return Arrays.binarySearch(node.userIds, userId) >= 0 ? node : node.withUserIds(addId(node.userIds, userId));
+        }
+        int index = node.indexOf(key[position]);
+        if (index < 0) {
+            Node leaf = new Node(Arrays.copyOfRange(key, position, key.length), NO_CHILDREN, new long[]{userId});
+            return node.withChildInserted(-index - 1, leaf);
+        }
+        Node child = node.children[index];
+        int common = commonPrefix(child.label, key, position);
+        if (common == child.label.length) {
+            Node next = insert(child, key, position + common, userId);
+            return next == child ? node : node.withChildReplaced(index, next);
+        }
+        Node lower = new Node(Arrays.copyOfRange(child.label, common, child.label.length), child.children, child.userIds);
+        Node split = new Node(Arrays.copyOfRange(child.label, 0, common), new Node[]{lower}, NO_IDS);
+        return node.withChildReplaced(index, insert(split, key, position + common, userId));
+    }
+
+    private static Node delete(Node node, char[] key, int position, long userId) {
+        if (position == key.length) {
+            int found = Arrays.binarySearch(node.userIds, userId);
+            return found < 0 ? node : node.withUserIds(removeId(node.userIds, found));
+        }
+        int index = node.indexOf(key[position]);
+        if (index < 0 || !startsWith(key, position, node.children[index].label)) {
+            return node;
+        }
+        Node child = node.children[index];
+        Node next = delete(child, key, position + child.label.length, userId);
+        if (next == child) {
+            return node;
+        }
+        if (next.userIds.length == 0 && next.children.length == 0) {
+            return node.withChildRemoved(index);
+        }
+        if (next.userIds.length == 0 && next.children.length == 1) {
+            Node only = next.children[0];
+            char[] label = Arrays.copyOf(next.label, next.label.length + only.label.length);
+            System.arraycopy(only.label, 0, label, next.label.length, only.label.length);
+            next = new Node(label, only.children, only.userIds);
+        }
+        return node.withChildReplaced(index, next);
+    }
+
+    private static int commonPrefix(char[] label, char[] key, int position) {
+        int length = Math.min(label.length, key.length - position);
+        int i = 0;
+        while (i < length && label[i] == key[position + i]) {
+            i++;
+        }
+        return i;
+    }
+
+    private static boolean startsWith(char[] key, int position, char[] label) {
+        return key.length - position >= label.length && commonPrefix(label, key, position) == label.length;
+    }
+
+    private static long[] addId(long[] ids, long id) {
+        long[] next = Arrays.copyOf(ids, ids.length + 1);
+        next[ids.length] = id;
+        Arrays.sort(next);
+        return next;
+    }
+
+    private static long[] removeId(long[] ids, int index) {
+        long[] next = new long[ids.length - 1];
+        System.arraycopy(ids, 0, next, 0, index);
+        System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+        return next;
+    }
+
+    private static class Node {
+        private final char[] label;
+        private final Node[] children;
+        private final long[] userIds;
+
+        private Node(char[] label, Node[] children, long[] userIds) {
+            this.label = label;
+            this.children = children;
+            this.userIds = userIds;
+        }
+
+        // 자식은 첫 글자 순으로 정렬돼 있다. 없으면 (-(삽입 위치) - 1)
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label[0];
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        private Node childOf(char first) {
+            int index = indexOf(first);
+            return index < 0 ? null : children[index];
+        }
+
+        private Node withUserIds(long[] nextUserIds) {
+            return new Node(label, children, nextUserIds);
+        }
+
+        private Node withChildReplaced(int index, Node child) {
+            Node[] next = children.clone();
+            next[index] = child;
+            return new Node(label, next, userIds);
+        }
+
+        private Node withChildInserted(int index, Node child) {
+            Node[] next = new Node[children.length + 1];
+            System.arraycopy(children, 0, next, 0, index);
+            next[index] = child;
+            System.arraycopy(children, index, next, index + 1, children.length - index);
+            return new Node(label, next, userIds);
+        }
+
+        private Node withChildRemoved(int index) {
+            Node[] next = new Node[children.length - 1];
+            System.arraycopy(children, 0, next, 0, index);
+            System.arraycopy(children, index + 1, next, index, children.length - index - 1);
+            return new Node(label, next, userIds);
+        }
+    }
+
+    public static class Match {
+        private final String nickname;
+        private final long userId;
+
+        private Match(String nickname, long userId) {
+            this.nickname = nickname;
+            this.userId = userId;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+
+        public long getUserId() {
+            return userId;
+        }
+    }
+}
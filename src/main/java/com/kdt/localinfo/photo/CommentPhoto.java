@@ -2,9 +2,11 @@ package com.kdt.localinfo.photo;
 
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.common.BaseEntity;
+import com.kdt.localinfo.shard.ShardIdentifierGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -18,7 +20,8 @@ import java.util.Objects;
 public class CommentPhoto extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ShardIdentifierGenerator.NAME)
+    @GenericGenerator(name = ShardIdentifierGenerator.NAME, strategy = ShardIdentifierGenerator.STRATEGY)
     @Column(name = "comment_photo_id")
     private Long commentPhotoId;
 
@@ -1,9 +1,18 @@
 package com.kdt.localinfo.photo;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentPhotoRepository extends JpaRepository<CommentPhoto, Long> {
     List<CommentPhoto> findAllByCommentId(Long commentId);
+
+    @Modifying
+    @Query(value = "UPDATE CommentPhoto p SET p.deletedAt = :deletedAt WHERE p.comment.id IN :commentIds AND p.deletedAt IS NULL")
+    int softDeleteByCommentIds(@Param("commentIds") Collection<Long> commentIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
@@ -1,11 +1,14 @@
 package com.kdt.localinfo.photo;
 
 import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.shard.ShardIdentifierGenerator;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.*;
+import java.time.LocalDateTime;
 
 @NoArgsConstructor
 @Getter
@@ -14,7 +17,8 @@ import javax.persistence.*;
 public class Photo {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = ShardIdentifierGenerator.NAME)
+    @GenericGenerator(name = ShardIdentifierGenerator.NAME, strategy = ShardIdentifierGenerator.STRATEGY)
     @Column(name = "photo_id")
     private Long id;
 
@@ -25,6 +29,9 @@ public class Photo {
     @JoinColumn(name = "post_id", referencedColumnName = "post_id", foreignKey = @ForeignKey(name = "fk_photo_to_post"))
     private Post post;
 
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @Builder
     public Photo(String url) {
         this.url = url;
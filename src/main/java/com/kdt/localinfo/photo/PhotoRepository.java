@@ -1,6 +1,16 @@
 package com.kdt.localinfo.photo;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 
 public interface PhotoRepository extends JpaRepository<Photo, Long> {
+
+    @Modifying
+    @Query(value = "UPDATE Photo p SET p.deletedAt = :deletedAt WHERE p.post.id IN :postIds AND p.deletedAt IS NULL")
+    int softDeleteByPostIds(@Param("postIds") Collection<Long> postIds, @Param("deletedAt") LocalDateTime deletedAt);
 }
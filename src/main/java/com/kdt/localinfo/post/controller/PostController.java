@@ -1,11 +1,16 @@
 package com.kdt.localinfo.post.controller;
 
 import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.post.dto.CityPostCountResponse;
 import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.dto.PostFeedResponse;
 import com.kdt.localinfo.post.dto.PostResponse;
 import com.kdt.localinfo.post.dto.PostUpdateRequest;
+import com.kdt.localinfo.post.service.CityPostCountSnapshot;
 import com.kdt.localinfo.post.service.PostService;
-import javassist.NotFoundException;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.tag.TagCountResponse;
+import com.kdt.localinfo.user.entity.Region;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.MediaTypes;
 import org.springframework.http.ResponseEntity;
@@ -27,20 +32,25 @@ import static org.springframework.hateoas.server.mvc.WebMvcLinkBuilder.methodOn;
 public class PostController {
 
     private final PostService postService;
+    private final ShardExecutor shardExecutor;
+    private final CityPostCountSnapshot cityPostCountSnapshot;
 
-    public PostController(PostService postService) {
+    public PostController(PostService postService, ShardExecutor shardExecutor, CityPostCountSnapshot cityPostCountSnapshot) {
         this.postService = postService;
+        this.shardExecutor = shardExecutor;
+        this.cityPostCountSnapshot = cityPostCountSnapshot;
     }
 
     @PostMapping(produces = MediaTypes.HAL_JSON_VALUE, consumes = MediaTypes.HAL_JSON_VALUE)
     public ResponseEntity<EntityModel<PostResponse>> write(
             @RequestParam(value = "images", required = false) List<MultipartFile> multipartFiles,
             @RequestBody @Validated PostCreateRequest request,
-            Errors errors) throws IOException, NotFoundException {
+            Errors errors) throws IOException {
         if (errors.hasErrors()) {
             throw new InvalidInputException("PostCreateRequest Invalid Input", errors);
         }
-        PostResponse postResponse = postService.savePost(request, multipartFiles);
+        String city = postService.findCityOfUser(request.getUserId());
+        PostResponse postResponse = shardExecutor.onCity(city, () -> postService.savePost(request, multipartFiles));
         URI createdUri = linkTo(methodOn(PostController.class).write(multipartFiles, request, errors)).toUri();
 
         EntityModel<PostResponse> entityModel = EntityModel.of(postResponse,
@@ -50,8 +60,15 @@ public class PostController {
     }
 
     @GetMapping(value = "/{post-id}")
-    public ResponseEntity<PostResponse> findDetailPost(@PathVariable(name = "post-id") Long postId) throws NotFoundException {
-        return ResponseEntity.ok(postService.findDetailPost(postId));
+    public ResponseEntity<PostResponse> findDetailPost(
+            @PathVariable(name = "post-id") Long postId,
+            @RequestHeader(value = "X-Visitor-Id", required = false) String visitorId) {
+        return ResponseEntity.ok(shardExecutor.onId(postId, () -> postService.findDetailPost(postId, visitorId)));
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<PostResponse>> findPosts(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(postService.findPosts(ids));
     }
 
     @GetMapping(value = "/categories/{category-id}")
@@ -60,18 +77,100 @@ public class PostController {
         return ResponseEntity.ok(posts);
     }
 
+    @GetMapping
+    public ResponseEntity<PostFeedResponse> findRegionFeed(
+            @RequestParam String city,
+            @RequestParam String district,
+            @RequestParam String neighborhood,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Region region = new Region(neighborhood, district, city);
+        return ResponseEntity.ok(postService.findRegionFeed(region, categoryId, cursor, size));
+    }
+
+    @GetMapping(value = "/nearby")
+    public ResponseEntity<PostFeedResponse> findNearbyFeed(
+            @RequestParam String city,
+            @RequestParam String district,
+            @RequestParam String neighborhood,
+            @RequestParam(defaultValue = "1") int hops,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        Region region = new Region(neighborhood, district, city);
+        return ResponseEntity.ok(postService.findNearbyFeed(region, hops, categoryId, cursor, size));
+    }
+
+    @GetMapping(value = "/trending")
+    public ResponseEntity<List<PostResponse>> findTrendingPosts(
+            @RequestParam String city,
+            @RequestParam String district,
+            @RequestParam String neighborhood,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(defaultValue = "20") int size) {
+        Region region = new Region(neighborhood, district, city);
+        return ResponseEntity.ok(postService.findTrendingPosts(region, categoryId, size));
+    }
+
+    @GetMapping(value = "/within")
+    public ResponseEntity<List<PostResponse>> findPostsWithin(
+            @RequestParam(value = "lat") Double latitude,
+            @RequestParam(value = "lng") Double longitude,
+            @RequestParam(defaultValue = "1") double km,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.findPostsWithin(latitude, longitude, km, size));
+    }
+
+    @GetMapping(value = "/tags/{tag}")
+    public ResponseEntity<PostFeedResponse> findTagFeed(
+            @PathVariable String tag,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(postService.findTagFeed(tag, cursor, size));
+    }
+
+    @GetMapping(value = "/tags")
+    public ResponseEntity<List<TagCountResponse>> findPopularTags(
+            @RequestParam String city,
+            @RequestParam String district,
+            @RequestParam String neighborhood,
+            @RequestParam(defaultValue = "10") int size) {
+        Region region = new Region(neighborhood, district, city);
+        return ResponseEntity.ok(postService.findPopularTags(region, size));
+    }
+
+    @GetMapping(value = "/search")
+    public ResponseEntity<List<PostResponse>> searchPosts(
+            @RequestParam(value = "q") String query,
+            @RequestParam(value = "category", required = false) Long categoryId,
+            @RequestParam(required = false) String city,
+            @RequestParam(required = false) String district,
+            @RequestParam(required = false) String neighborhood,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        Region region = city == null || district == null || neighborhood == null
+                ? null : new Region(neighborhood, district, city);
+        return ResponseEntity.ok(postService.searchPosts(query, categoryId, region, page, size));
+    }
+
+    @GetMapping(value = "/counts")
+    public ResponseEntity<List<CityPostCountResponse>> countPostsByCity() {
+        return ResponseEntity.ok(cityPostCountSnapshot.current());
+    }
+
     @PostMapping(value = "/{postId}", produces = MediaTypes.HAL_JSON_VALUE, consumes = MediaTypes.HAL_JSON_VALUE)
     public ResponseEntity<EntityModel<PostResponse>> updatePost(
             @PathVariable Long postId,
             @RequestParam(value = "images", required = false) List<MultipartFile> multipartFiles,
             @RequestBody @Validated PostUpdateRequest request,
-            Errors errors) throws NotFoundException, IOException {
+            Errors errors) throws IOException {
 
         if (errors.hasErrors()) {
             throw new InvalidInputException("PostUpdateRequest Invalid Input", errors);
         }
 
-        PostResponse postResponse = postService.updatePost(postId, request, multipartFiles);
+        PostResponse postResponse = shardExecutor.onId(postId, () -> postService.updatePost(postId, request, multipartFiles));
         URI updatedUri = linkTo(methodOn(PostController.class)
                 .updatePost(postId, multipartFiles, request, errors))
                 .toUri();
@@ -84,6 +183,6 @@ public class PostController {
 
     @DeleteMapping(value = "/{post-id}")
     public ResponseEntity<Long> deletePost(@PathVariable(name = "post-id") Long postId) {
-        return ResponseEntity.ok(postService.deletePost(postId));
+        return ResponseEntity.ok(shardExecutor.onId(postId, () -> postService.deletePost(postId)));
     }
 }
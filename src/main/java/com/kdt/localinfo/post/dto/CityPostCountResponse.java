@@ -0,0 +1,16 @@
+package com.kdt.localinfo.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class CityPostCountResponse {
+
+    private String city;
+    private long postCount;
+}
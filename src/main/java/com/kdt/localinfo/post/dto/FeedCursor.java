@@ -0,0 +1,52 @@
+package com.kdt.localinfo.post.dto;
+
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * (created_at, post_id) 내림차순 keyset 페이지네이션 커서.
+ * 클라이언트에는 "생성시각_게시글ID" 형태의 문자열로 전달한다.
+ */
+@Getter
+@AllArgsConstructor
+public class FeedCursor {
+
+    private static final String DELIMITER = "_";
+    private static final FeedCursor FIRST = new FeedCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+
+    private final LocalDateTime createdAt;
+    private final Long postId;
+
+    public static FeedCursor first() {
+        return FIRST;
+    }
+
+    public static FeedCursor of(Post post) {
+        return new FeedCursor(post.getCreatedAt(), post.getId());
+    }
+
+    public static FeedCursor from(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+        int position = cursor.lastIndexOf(DELIMITER);
+        if (position < 0) {
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+        try {
+            return new FeedCursor(LocalDateTime.parse(cursor.substring(0, position)),
+                    Long.valueOf(cursor.substring(position + 1)));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new InvalidInputException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        return createdAt + DELIMITER + postId;
+    }
+}
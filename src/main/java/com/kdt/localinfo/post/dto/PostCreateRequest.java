@@ -1,5 +1,6 @@
 package com.kdt.localinfo.post.dto;
 
+import com.kdt.localinfo.banword.NoBannedWords;
 import lombok.*;
 
 @Getter
@@ -9,8 +10,11 @@ import lombok.*;
 @NoArgsConstructor
 public class PostCreateRequest {
 
+    @NoBannedWords
     private String contents;
     private Long categoryId;
     private Long userId;
+    private Double latitude;
+    private Double longitude;
 
 }
\ No newline at end of file
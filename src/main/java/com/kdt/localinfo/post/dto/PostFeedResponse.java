@@ -0,0 +1,24 @@
+package com.kdt.localinfo.post.dto;
+
+import com.kdt.localinfo.post.entity.Post;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.util.List;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PostFeedResponse {
+
+    private List<PostResponse> posts;
+    private String nextCursor;
+
+    public static PostFeedResponse of(List<Post> posts, int size) {
+        String nextCursor = posts.size() < size ? null : FeedCursor.of(posts.get(posts.size() - 1)).encode();
+        return new PostFeedResponse(PostResponse.summariesOf(posts), nextCursor);
+    }
+}
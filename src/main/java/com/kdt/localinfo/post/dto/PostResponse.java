@@ -18,28 +18,75 @@ public class PostResponse {
 
     private Long id;
     private String contents;
+    private String preview;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String category;
     private String user;
+    private Double latitude;
+    private Double longitude;
+    private long viewCount;
+    private long likeCount;
+    private long commentCount;
     private List<Photo> photos;
     private List<Comment> comments;
 
     public static PostResponse of(Post post) {
+        return of(post, post.getViewCount());
+    }
+
+    /**
+     * 상세 응답. 지워진 댓글은 담지 않는다.
+     */
+    public static PostResponse of(Post post, long viewCount) {
         return PostResponse.builder()
                 .id(post.getId())
                 .contents(post.getContents())
+                .preview(post.getPreview())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .category(post.getCategory().getName())
                 .user(post.getUser().getName())
+                .latitude(post.getLatitude())
+                .longitude(post.getLongitude())
+                .viewCount(viewCount)
+                .commentCount(post.getCommentCount())
                 .photos(post.getPhotos())
-                .comments(post.getComments())
+                .comments(liveComments(post.getComments()))
                 .build();
     }
 
+    private static List<Comment> liveComments(List<Comment> comments) {
+        return comments.stream()
+                .filter(comment -> comment.getDeletedAt() == null)
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * 목록용 응답. 본문은 읽지 않고 preview 만 담는다. 댓글은 commentCount 로만 알려 주고,
+     * 사진은 행마다 컬렉션을 읽게 되므로 담지 않는다. 사진은 상세나 id 묶음 조회로 받는다.
+     */
+    public static PostResponse summaryOf(Post post) {
+        return PostResponse.builder()
+                .id(post.getId())
+                .preview(post.getPreview())
+                .createdAt(post.getCreatedAt())
+                .updatedAt(post.getUpdatedAt())
+                .category(post.getCategory().getName())
+                .user(post.getUser().getName())
+                .latitude(post.getLatitude())
+                .longitude(post.getLongitude())
+                .viewCount(post.getViewCount())
+                .commentCount(post.getCommentCount())
+                .build();
+    }
+
+    public void setLikeCount(long likeCount) {
+        this.likeCount = likeCount;
+    }
 
-    public static List<PostResponse> of(List<Post> posts) {
-        return posts.stream().map(PostResponse::of).collect(Collectors.toList());
+    public static List<PostResponse> summariesOf(List<Post> posts) {
+        return posts.stream().map(PostResponse::summaryOf).collect(Collectors.toList());
     }
 }
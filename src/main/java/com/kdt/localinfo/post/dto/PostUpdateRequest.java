@@ -1,5 +1,6 @@
 package com.kdt.localinfo.post.dto;
 
+import com.kdt.localinfo.banword.NoBannedWords;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -10,6 +11,9 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 @NoArgsConstructor
 public class PostUpdateRequest {
+    @NoBannedWords
     private String contents;
     private Long categoryId;
+    private Double latitude;
+    private Double longitude;
 }
@@ -0,0 +1,21 @@
+package com.kdt.localinfo.post.entity;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * 긴 본문은 압축해 저장하고, 압축하지 않은 기존 값도 그대로 읽는다.
+ */
+@Converter
+public class CompressedTextConverter implements AttributeConverter<String, byte[]> {
+
+    @Override
+    public byte[] convertToDatabaseColumn(String text) {
+        return text == null ? null : TextCodec.encode(text);
+    }
+
+    @Override
+    public String convertToEntityAttribute(byte[] bytes) {
+        return bytes == null ? null : TextCodec.decode(bytes);
+    }
+}
@@ -4,13 +4,20 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import com.kdt.localinfo.category.Category;
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.common.BaseEntity;
+import com.kdt.localinfo.geo.GeoCell;
 import com.kdt.localinfo.photo.Photo;
+import com.kdt.localinfo.region.RegionConverter;
+import com.kdt.localinfo.region.RegionRegistrar;
+import com.kdt.localinfo.region.Regional;
+import com.kdt.localinfo.shard.ShardIdentifierGenerator;
 import com.kdt.localinfo.user.entity.Region;
 import com.kdt.localinfo.user.entity.User;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import javax.persistence.*;
@@ -21,28 +28,64 @@ import java.util.Objects;
 
 @ToString
 @Getter
-@Table(name = "posts")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_region_feed", columnList = "region_id, deleted_at, created_at, post_id"),
+        @Index(name = "idx_posts_region_category_feed", columnList = "region_id, category_id, deleted_at, created_at, post_id"),
+        @Index(name = "idx_posts_geo_cell", columnList = "geo_cell")
+})
+@EntityListeners({AuditingEntityListener.class, RegionRegistrar.class})
 @NoArgsConstructor
 @Entity
-public class Post extends BaseEntity {
+public class Post extends BaseEntity implements Regional {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @GeneratedValue(generator = ShardIdentifierGenerator.NAME)
+    @GenericGenerator(name = ShardIdentifierGenerator.NAME, strategy = ShardIdentifierGenerator.STRATEGY)
     @Column(name = "post_id")
     private Long id;
 
-    @Lob
-    @Column(name = "contents", nullable = false)
-    private String contents;
+    //본문은 상세 조회에서만 읽으므로 지연 로딩하고, 목록에는 preview 만 쓴다.
+    @ToString.Exclude
+    @OneToOne(fetch = FetchType.LAZY, optional = false, cascade = CascadeType.ALL)
+    @JoinColumn(name = "body_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_to_body"))
+    private PostBody body;
 
-    @Embedded
+    @Column(name = "preview", nullable = false, length = PostPreview.MAX_LENGTH)
+    private String preview;
+
+    @Convert(converter = RegionConverter.class)
+    @Column(name = "region_id", nullable = false)
     private Region region;
 
+    //조회 조건용 읽기 전용 매핑
+    @Column(name = "region_id", insertable = false, updatable = false)
+    private Integer regionId;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @Column(name = "geo_cell")
+    private Long geoCell;
+
+    @Column(name = "simhash")
+    private Long simhash;
+
+    //조회수는 ViewCounter 가 모아서 UPDATE 하므로 엔티티 변경으로는 덮어쓰지 않는다.
+    @Column(name = "view_count", nullable = false, updatable = false)
+    private long viewCount;
+
+    //댓글 작성, 삭제 때 UPDATE 로만 증감하고 CommentCountReconciler 가 주기적으로 맞춘다.
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    private long commentCount;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_to_category"))
     private Category category;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post", cascade = CascadeType.REMOVE)
     private List<Comment> comments = new ArrayList<>();
 
@@ -51,13 +94,14 @@ public class Post extends BaseEntity {
     @JoinColumn(name = "user_id", referencedColumnName = "user_id", nullable = false, foreignKey = @ForeignKey(name = "fk_post_to_user"))
     private User user;
 
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "post")
     private List<Photo> photos = new ArrayList<>();
 
     //Create요청시 사용하는 builder
     @Builder
     public Post(String contents, User user, List<Photo> photos, Category category) {
-        this.contents = contents;
+        setContents(contents);
         this.region = user.getRegion();
         setUser(user);
         this.photos = photos;
@@ -68,19 +112,19 @@ public class Post extends BaseEntity {
     @Builder
     public Post(Long id, String contents, Category category, Region region) {
         this.id = id;
-        this.contents = contents;
+        setContents(contents);
         this.category = category;
         this.region = region;
     }
 
     public Post(String contents, Region region, Category category) {
-        this.contents = contents;
+        setContents(contents);
         this.region = region;
         setCategory(category);
     }
 
     public Long updatePost(String contents, Category category, List<Photo> photos) {
-        this.contents = contents;
+        setContents(contents);
         this.category = category;
         setCategory(category);
         this.photos = photos;
@@ -116,12 +160,35 @@ public class Post extends BaseEntity {
         this.category = category;
     }
 
+    public String getContents() {
+        return body == null ? null : body.getContents();
+    }
+
     public void setContents(String contents) {
-        this.contents = contents;
+        if (body == null) {
+            body = new PostBody(contents);
+        } else {
+            body.setContents(contents);
+        }
+        this.preview = PostPreview.of(contents);
     }
 
     public void setPhotos(List<Photo> photos) {
         this.photos = photos;
     }
 
+    public void setLocation(double latitude, double longitude) {
+        this.latitude = latitude;
+        this.longitude = longitude;
+        this.geoCell = GeoCell.encode(latitude, longitude);
+    }
+
+    public void setSimhash(Long simhash) {
+        this.simhash = simhash;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+
 }
@@ -0,0 +1,35 @@
+package com.kdt.localinfo.post.entity;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 게시글 본문. 목록 조회에서 본문을 읽지 않도록 posts 와 나눠 두고 상세 조회 때만 지연 로딩한다.
+ * 긴 본문은 압축해서 저장한다.
+ */
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name = "post_bodies")
+public class PostBody {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "body_id")
+    private Long id;
+
+    @Lob
+    @Convert(converter = CompressedTextConverter.class)
+    @Column(name = "contents", nullable = false)
+    private String contents;
+
+    public PostBody(String contents) {
+        this.contents = contents;
+    }
+
+    public void setContents(String contents) {
+        this.contents = contents;
+    }
+}
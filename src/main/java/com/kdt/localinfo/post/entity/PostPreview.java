@@ -0,0 +1,29 @@
+package com.kdt.localinfo.post.entity;
+
+import java.text.BreakIterator;
+import java.util.Locale;
+
+/**
+ * 목록에 보여줄 본문 앞부분. 이모지나 결합 문자가 깨지지 않도록 문자 경계에서 자른다.
+ */
+public final class PostPreview {
+
+    public static final int MAX_LENGTH = 200;
+
+    private PostPreview() {
+    }
+
+    public static String of(String contents) {
+        if (contents == null || contents.length() <= MAX_LENGTH) {
+            return contents;
+        }
+        BreakIterator graphemes = BreakIterator.getCharacterInstance(Locale.ROOT);
+        graphemes.setText(contents);
+        int end = graphemes.preceding(MAX_LENGTH + 1);
+        if (end <= 0) {
+            //한 글자가 최대 길이보다 긴 경우. 서로게이트 쌍만 깨지 않게 자른다.
+            end = Character.isHighSurrogate(contents.charAt(MAX_LENGTH - 1)) ? MAX_LENGTH - 1 : MAX_LENGTH;
+        }
+        return contents.substring(0, end);
+    }
+}
@@ -0,0 +1,127 @@
+package com.kdt.localinfo.post.entity;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Exception;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 긴 본문을 압축해 저장하는 형식.
+ * 압축한 값은 [0xFF, 버전, 코덱, 원본 길이(4바이트)] 헤더 뒤에 압축 결과가 온다. 새로 쓰는 값은 LZ4 로 압축하고,
+ * LZ4 도입 전에 deflate 로 쓴 값도 코덱 바이트를 보고 그대로 읽는다.
+ * 0xFF 는 UTF-8 의 첫 바이트가 될 수 없으므로, 헤더가 없는 값은 압축하지 않은 UTF-8 본문으로 읽는다.
+ */
+public final class TextCodec {
+
+    public static final int COMPRESS_THRESHOLD = 1024;
+
+    private static final int MARKER = 0xFF;
+    private static final int VERSION = 1;
+    private static final int CODEC_DEFLATE = 1;
+    private static final int CODEC_LZ4 = 2;
+    private static final int HEADER_SIZE = 7;
+    //헤더의 원본 길이를 믿고 그대로 할당하지 않도록 상한을 둔다. 게시글 본문은 이보다 훨씬 짧다.
+    private static final int MAX_RAW_LENGTH = 16 * 1024 * 1024;
+    private static final int DEFAULT_BUFFER_SIZE = COMPRESS_THRESHOLD * 16;
+    private static final int MAX_CACHED_BUFFER_SIZE = COMPRESS_THRESHOLD * 256;
+
+    //LZ4 압축기는 상태가 없어 공유한다. Inflater 와 출력 버퍼는 네이티브 메모리와 할당을 아끼려고 스레드마다 재사용한다.
+    //버퍼는 MAX_CACHED_BUFFER_SIZE 까지만 키워 두고, 그보다 큰 본문은 그때만 따로 할당해 스레드에 남기지 않는다.
+    private static final LZ4Compressor LZ4_COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4SafeDecompressor LZ4_DECOMPRESSOR = LZ4Factory.fastestInstance().safeDecompressor();
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(() -> new Inflater(true));
+    private static final ThreadLocal<byte[]> BUFFERS = ThreadLocal.withInitial(() -> new byte[DEFAULT_BUFFER_SIZE]);
+
+    private TextCodec() {
+    }
+
+    public static byte[] encode(String text) {
+        byte[] raw = text.getBytes(StandardCharsets.UTF_8);
+        if (raw.length < COMPRESS_THRESHOLD || raw.length > MAX_RAW_LENGTH) {
+            return raw;
+        }
+        byte[] buffer = buffer(LZ4_COMPRESSOR.maxCompressedLength(raw.length));
+        int length = LZ4_COMPRESSOR.compress(raw, 0, raw.length, buffer, 0, buffer.length);
+        //줄어들지 않는 본문은 그대로 둔다.
+        if (HEADER_SIZE + length >= raw.length) {
+            return raw;
+        }
+
+        byte[] encoded = new byte[HEADER_SIZE + length];
+        encoded[0] = (byte) MARKER;
+        encoded[1] = VERSION;
+        encoded[2] = CODEC_LZ4;
+        encoded[3] = (byte) (raw.length >>> 24);
+        encoded[4] = (byte) (raw.length >>> 16);
+        encoded[5] = (byte) (raw.length >>> 8);
+        encoded[6] = (byte) raw.length;
+        System.arraycopy(buffer, 0, encoded, HEADER_SIZE, length);
+        return encoded;
+    }
+
+    public static String decode(byte[] bytes) {
+        if (!isCompressed(bytes)) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        if (bytes.length < HEADER_SIZE || bytes[1] != VERSION || (bytes[2] != CODEC_LZ4 && bytes[2] != CODEC_DEFLATE)) {
+            throw new IllegalStateException("Unsupported text format: version=" + bytes[1] + ", codec=" + bytes[2]);
+        }
+        int rawLength = (bytes[3] & 0xFF) << 24 | (bytes[4] & 0xFF) << 16 | (bytes[5] & 0xFF) << 8 | (bytes[6] & 0xFF);
+        if (rawLength < 0 || rawLength > MAX_RAW_LENGTH) {
+            throw new IllegalStateException("Compressed text is corrupted: raw length " + rawLength);
+        }
+        byte[] raw = new byte[rawLength];
+        int length = bytes[2] == CODEC_LZ4 ? decompressLz4(bytes, raw) : inflate(bytes, raw);
+        if (length != rawLength) {
+            throw new IllegalStateException("Compressed text is truncated: expected " + rawLength + " bytes, got " + length);
+        }
+        return new String(raw, StandardCharsets.UTF_8);
+    }
+
+    public static boolean isCompressed(byte[] bytes) {
+        return bytes.length > 0 && (bytes[0] & 0xFF) == MARKER;
+    }
+
+    private static int decompressLz4(byte[] bytes, byte[] raw) {
+        try {
+            return LZ4_DECOMPRESSOR.decompress(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE, raw, 0, raw.length);
+        } catch (LZ4Exception e) {
+            throw new IllegalStateException("Compressed text is corrupted", e);
+        }
+    }
+
+    private static int inflate(byte[] bytes, byte[] raw) {
+        Inflater inflater = INFLATERS.get();
+        inflater.reset();
+        inflater.setInput(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+        try {
+            int length = 0;
+            while (length < raw.length) {
+                int inflated = inflater.inflate(raw, length, raw.length - length);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            return length;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Compressed text is corrupted", e);
+        }
+    }
+
+    private static byte[] buffer(int size) {
+        if (size > MAX_CACHED_BUFFER_SIZE) {
+            return new byte[size];
+        }
+        byte[] buffer = BUFFERS.get();
+        if (buffer.length < size) {
+            buffer = new byte[Math.min(Math.max(size, buffer.length * 2), MAX_CACHED_BUFFER_SIZE)];
+            BUFFERS.set(buffer);
+        }
+        return buffer;
+    }
+}
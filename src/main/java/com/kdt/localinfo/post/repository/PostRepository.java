@@ -2,15 +2,105 @@ package com.kdt.localinfo.post.repository;
 
 import com.kdt.localinfo.photo.Photo;
 import com.kdt.localinfo.post.entity.Post;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
-public interface PostRepository extends JpaRepository<Post, Long> {
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+public interface PostRepository extends JpaRepository<Post, Long>, PostViewCountRepository {
     @Query(value = "SELECT url FROM Photo WHERE post_id = :id")
     List<Photo> findPhotoByPostId(@Param("id") Long postId);
 
+    @EntityGraph(attributePaths = {"user", "category"})
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
     List<Post> findPostByCategoryId(Long categoryId);
+
+    //상세 조회. 응답에 필요한 연관을 한 번에 읽고 스냅샷을 남기지 않는다.
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user JOIN FETCH p.category JOIN FETCH p.body " +
+            "WHERE p.id = :postId AND p.deletedAt IS NULL")
+    Optional<Post> findDetail(@Param("postId") Long postId);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.user JOIN FETCH p.category JOIN FETCH p.body " +
+            "WHERE p.id IN :postIds AND p.deletedAt IS NULL")
+    List<Post> findDetails(@Param("postIds") Collection<Long> postIds);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p WHERE p.id IN :postIds AND p.deletedAt IS NULL")
+    List<Post> findLiveByIds(@Param("postIds") Collection<Long> postIds);
+
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p JOIN FETCH p.body WHERE p.id > :lastId AND p.deletedAt IS NULL ORDER BY p.id")
+    List<Post> findLiveChunk(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query(value = "SELECT p FROM Post p WHERE p.user.id = :userId AND p.id > :lastId AND p.deletedAt IS NULL ORDER BY p.id")
+    List<Post> findLiveChunkByUserId(@Param("userId") Long userId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE Post p SET p.deletedAt = :deletedAt WHERE p.id IN :postIds AND p.deletedAt IS NULL")
+    int softDeleteByIds(@Param("postIds") Collection<Long> postIds, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query(value = "SELECT region_id, COUNT(*) FROM posts WHERE deleted_at IS NULL GROUP BY region_id", nativeQuery = true)
+    List<Object[]> countLiveByRegion();
+
+    @Query(value = "SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id")
+    List<Long> findIdChunk(@Param("lastId") Long lastId, Pageable pageable);
+
+    //연쇄 삭제가 중간에 실패해 댓글이나 사진이 살아 남은 삭제된 게시글
+    @Query(value = "SELECT p.id FROM Post p WHERE p.id > :lastId AND p.deletedAt IS NOT NULL " +
+            "AND (EXISTS (SELECT c.id FROM Comment c WHERE c.post = p AND c.deletedAt IS NULL) " +
+            "OR EXISTS (SELECT ph.id FROM Photo ph WHERE ph.post = p AND ph.deletedAt IS NULL)) ORDER BY p.id")
+    List<Long> findDeletedIdChunkWithLiveChildren(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Modifying
+    @Query(value = "UPDATE posts SET comment_count = comment_count + :delta WHERE post_id = :postId", nativeQuery = true)
+    int addCommentCount(@Param("postId") Long postId, @Param("delta") long delta);
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL) " +
+            "WHERE p.post_id > :fromId AND p.post_id <= :toId AND p.comment_count <> " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL)", nativeQuery = true)
+    int reconcileCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Modifying
+    @Query(value = "UPDATE posts p SET comment_count = " +
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.post_id AND c.deleted_at IS NULL) " +
+            "WHERE p.post_id IN (:postIds)", nativeQuery = true)
+    int recountComments(@Param("postIds") Collection<Long> postIds);
+
+    @EntityGraph(attributePaths = {"user", "category"})
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p " +
+            "WHERE p.regionId = :regionId AND p.deletedAt IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findRegionFeed(@Param("regionId") Integer regionId,
+                              @Param("createdAt") LocalDateTime createdAt,
+                              @Param("postId") Long postId,
+                              Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user", "category"})
+    @QueryHints(@QueryHint(name = HINT_READONLY, value = "true"))
+    @Query(value = "SELECT p FROM Post p " +
+            "WHERE p.regionId = :regionId AND p.category.id = :categoryId AND p.deletedAt IS NULL " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :postId)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Post> findRegionCategoryFeed(@Param("regionId") Integer regionId,
+                                      @Param("categoryId") Long categoryId,
+                                      @Param("createdAt") LocalDateTime createdAt,
+                                      @Param("postId") Long postId,
+                                      Pageable pageable);
 }
@@ -0,0 +1,11 @@
+package com.kdt.localinfo.post.repository;
+
+import java.util.Map;
+
+public interface PostViewCountRepository {
+
+    /**
+     * 게시글별 증가분을 UPDATE ... CASE 한 문장으로 더한다.
+     */
+    int addViewCounts(Map<Long, Long> deltas);
+}
@@ -0,0 +1,36 @@
+package com.kdt.localinfo.post.repository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import java.util.Map;
+
+public class PostViewCountRepositoryImpl implements PostViewCountRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addViewCounts(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder("UPDATE posts SET view_count = view_count + CASE post_id");
+        StringBuilder ids = new StringBuilder();
+        int position = 1;
+        for (int i = 0; i < deltas.size(); i++) {
+            sql.append(" WHEN ?").append(position).append(" THEN ?").append(position + 1);
+            ids.append(i == 0 ? "?" : ", ?").append(position);
+            position += 2;
+        }
+        sql.append(" ELSE 0 END WHERE post_id IN (").append(ids).append(')');
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        position = 1;
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            query.setParameter(position++, delta.getKey());
+            query.setParameter(position++, delta.getValue());
+        }
+        return query.executeUpdate();
+    }
+}
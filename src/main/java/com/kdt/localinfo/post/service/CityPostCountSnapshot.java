@@ -0,0 +1,43 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.dto.CityPostCountResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 도시별 게시글 수는 모든 shard 를 훑어야 하므로 요청마다 세지 않고 주기적으로 센 결과를 돌려준다.
+ * 누구나 부를 수 있는 API 라서 호출 수와 상관없이 shard 부하가 일정하도록 한다.
+ */
+@Slf4j
+@Component
+public class CityPostCountSnapshot {
+
+    private final PostService postService;
+
+    private volatile List<CityPostCountResponse> counts = List.of();
+
+    public CityPostCountSnapshot(PostService postService) {
+        this.postService = postService;
+    }
+
+    public List<CityPostCountResponse> current() {
+        return counts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.post-count.refresh-interval-ms:60000}",
+            initialDelayString = "${local-info.post-count.refresh-interval-ms:60000}")
+    public void refresh() {
+        counts = List.copyOf(postService.countLivePostsByCity());
+        log.debug("City post counts refreshed: {} cities", counts.size());
+    }
+}
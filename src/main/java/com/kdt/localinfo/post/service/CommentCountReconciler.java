@@ -0,0 +1,60 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * posts.comment_count 가 실제 살아있는 댓글 수와 어긋난 행을 고친다.
+ * id 구간마다 짧은 트랜잭션으로 나눠 돌려 한 번에 많은 행을 잠그지 않는다.
+ */
+@Slf4j
+@Component
+public class CommentCountReconciler {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+
+    public CommentCountReconciler(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                                  ShardExecutor shardExecutor) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.comment-count.reconcile-interval-ms:600000}",
+            initialDelayString = "${local-info.comment-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        shardExecutor.forEachShard(shard -> reconcileShard());
+    }
+
+    private void reconcileShard() {
+        long lastId = 0L;
+        int fixed = 0;
+        List<Long> chunk;
+        do {
+            chunk = postRepository.findIdChunk(lastId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            long fromId = lastId;
+            long toId = chunk.get(chunk.size() - 1);
+            Integer updated = transactionTemplate.execute(status -> postRepository.reconcileCommentCounts(fromId, toId));
+            fixed += updated == null ? 0 : updated;
+            lastId = toId;
+        } while (chunk.size() == CHUNK_SIZE);
+        if (fixed > 0) {
+            log.info("Comment counts reconciled: {} posts fixed", fixed);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.entity.Post;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * (created_at, post_id) 내림차순으로 정렬된 여러 피드를 힙으로 병합한다.
+ */
+public class FeedMerger {
+
+    private static final Comparator<Post> FEED_ORDER = Comparator.comparing(Post::getCreatedAt)
+            .thenComparing(Post::getId)
+            .reversed();
+
+    private FeedMerger() {
+    }
+
+    public static List<Post> merge(List<List<Post>> feeds, int size) {
+        PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(feeds.size(), 1),
+                (a, b) -> FEED_ORDER.compare(feeds.get(a[0]).get(a[1]), feeds.get(b[0]).get(b[1])));
+        for (int i = 0; i < feeds.size(); i++) {
+            if (!feeds.get(i).isEmpty()) {
+                heap.add(new int[]{i, 0});
+            }
+        }
+
+        List<Post> merged = new ArrayList<>(size);
+        while (merged.size() < size && !heap.isEmpty()) {
+            int[] head = heap.poll();
+            List<Post> feed = feeds.get(head[0]);
+            merged.add(feed.get(head[1]));
+            if (++head[1] < feed.size()) {
+                heap.add(head);
+            }
+        }
+        return merged;
+    }
+}
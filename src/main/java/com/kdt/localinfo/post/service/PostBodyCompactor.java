@@ -0,0 +1,108 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.entity.TextCodec;
+import com.kdt.localinfo.shard.ShardExecutor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 압축 형식 도입 전에 저장된 긴 본문을 압축 형식으로 다시 쓴다.
+ * 새로 쓰는 본문은 변환기가 압축하므로 shard 마다 한 바퀴 다 돌면 멈춘다.
+ */
+@Slf4j
+@Component
+public class PostBodyCompactor {
+
+    private static final int CHUNK_SIZE = 100;
+    private static final int MAX_CHUNKS_PER_RUN = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ShardExecutor shardExecutor;
+    private final Map<Integer, Long> lastIds = new HashMap<>();
+    private final Set<Integer> finishedShards = new HashSet<>();
+
+    public PostBodyCompactor(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, ShardExecutor shardExecutor) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.shardExecutor = shardExecutor;
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.post-body.compact-interval-ms:60000}",
+            initialDelayString = "${local-info.post-body.compact-interval-ms:60000}")
+    public synchronized void compact() {
+        shardExecutor.forEachShard(this::compact);
+    }
+
+    private void compact(int shard) {
+        if (finishedShards.contains(shard)) {
+            return;
+        }
+        int rewritten = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN && !finishedShards.contains(shard); chunk++) {
+            long fromId = lastIds.getOrDefault(shard, 0L);
+            Chunk result = transactionTemplate.execute(status -> compactChunk(fromId));
+            if (result == null || result.rows < CHUNK_SIZE) {
+                finishedShards.add(shard);
+            }
+            if (result != null) {
+                lastIds.put(shard, result.lastId);
+                rewritten += result.rewritten;
+            }
+        }
+        if (rewritten > 0) {
+            log.info("Post bodies compressed on shard {}: {} rows", shard, rewritten);
+        }
+    }
+
+    // 읽은 행을 잠가 두고 다시 쓰므로 그 사이에 수정된 본문을 옛 값으로 덮어쓰지 않는다.
+    private Chunk compactChunk(long fromId) {
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT body_id, contents FROM post_bodies WHERE body_id > ? ORDER BY body_id LIMIT ? FOR UPDATE",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getBytes(2)}, fromId, CHUNK_SIZE);
+        if (rows.isEmpty()) {
+            return new Chunk(0, fromId, 0);
+        }
+
+        List<Object[]> updates = new ArrayList<>();
+        for (Object[] row : rows) {
+            byte[] stored = (byte[]) row[1];
+            if (stored == null || stored.length < TextCodec.COMPRESS_THRESHOLD || TextCodec.isCompressed(stored)) {
+                continue;
+            }
+            byte[] encoded = TextCodec.encode(new String(stored, StandardCharsets.UTF_8));
+            if (TextCodec.isCompressed(encoded)) {
+                updates.add(new Object[]{encoded, row[0]});
+            }
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate("UPDATE post_bodies SET contents = ? WHERE body_id = ?", updates);
+        }
+        return new Chunk(rows.size(), (Long) rows.get(rows.size() - 1)[0], updates.size());
+    }
+
+    private static class Chunk {
+
+        private final int rows;
+        private final long lastId;
+        private final int rewritten;
+
+        private Chunk(int rows, long lastId, int rewritten) {
+            this.rows = rows;
+            this.lastId = lastId;
+            this.rewritten = rewritten;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.geo.GeoPostIndex;
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.spam.DuplicatePostGuard;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 애플리케이션 시작 시 shard 마다 살아있는 게시글을 id 순서로 나눠 읽어 메모리 인덱스를 채운다.
+ */
+@Slf4j
+@Component
+public class PostIndexLoader {
+
+    private static final int CHUNK_SIZE = 1000;
+
+    private final PostRepository postRepository;
+    private final GeoPostIndex geoPostIndex;
+    private final PostSearchService postSearchService;
+    private final DuplicatePostGuard duplicatePostGuard;
+    private final ShardExecutor shardExecutor;
+
+    public PostIndexLoader(PostRepository postRepository, GeoPostIndex geoPostIndex, PostSearchService postSearchService,
+                           DuplicatePostGuard duplicatePostGuard, ShardExecutor shardExecutor) {
+        this.postRepository = postRepository;
+        this.geoPostIndex = geoPostIndex;
+        this.postSearchService = postSearchService;
+        this.duplicatePostGuard = duplicatePostGuard;
+        this.shardExecutor = shardExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        shardExecutor.forEachShard(shard -> loadShard());
+        postSearchService.maintain();
+        log.info("Post indexes loaded: {} located posts, {} searchable posts", geoPostIndex.size(), postSearchService.size());
+    }
+
+    private void loadShard() {
+        long lastId = 0L;
+        List<Post> chunk;
+        do {
+            chunk = postRepository.findLiveChunk(lastId, PageRequest.of(0, CHUNK_SIZE));
+            for (Post post : chunk) {
+                index(post);
+                lastId = post.getId();
+            }
+        } while (chunk.size() == CHUNK_SIZE);
+    }
+
+    private void index(Post post) {
+        postSearchService.index(post);
+        duplicatePostGuard.register(post);
+        if (post.hasLocation()) {
+            geoPostIndex.put(post.getId(), post.getLatitude(), post.getLongitude());
+        }
+    }
+}
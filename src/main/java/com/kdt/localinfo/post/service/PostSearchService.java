@@ -0,0 +1,77 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.search.InvertedIndex;
+import com.kdt.localinfo.search.NGramTokenizer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 본문 역색인. 카테고리와 지역은 색인과 따로 들고 있다가 검색 필터로 쓴다.
+ */
+@Component
+public class PostSearchService {
+
+    private static final int BUFFER_LIMIT = 1000;
+    private static final int MAX_SEGMENTS = 8;
+
+    private final InvertedIndex invertedIndex = new InvertedIndex(new NGramTokenizer(), BUFFER_LIMIT);
+    private final Map<Long, Facet> facets = new ConcurrentHashMap<>();
+    private final RegionDictionary regionDictionary;
+
+    public PostSearchService(RegionDictionary regionDictionary) {
+        this.regionDictionary = regionDictionary;
+    }
+
+    public void index(Post post) {
+        Long categoryId = post.getCategory() == null ? null : post.getCategory().getId();
+        Integer regionId = post.getRegion() == null ? null : regionDictionary.findId(post.getRegion()).orElse(null);
+        facets.put(post.getId(), new Facet(categoryId, regionId));
+        invertedIndex.add(post.getId(), post.getContents());
+    }
+
+    public void remove(Long postId) {
+        invertedIndex.remove(postId);
+        facets.remove(postId);
+    }
+
+    public int size() {
+        return invertedIndex.docCount();
+    }
+
+    /**
+     * 점수 순으로 정렬된 게시글 ID 를 돌려준다. categoryId, regionId 가 null 이면 거르지 않는다.
+     */
+    public List<Long> search(String query, Long categoryId, Integer regionId, int offset, int limit) {
+        return invertedIndex.search(query, postId -> {
+            Facet facet = facets.get(postId);
+            return facet != null && facet.matches(categoryId, regionId);
+        }, offset, limit);
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.search.merge-interval-ms:5000}")
+    public void maintain() {
+        invertedIndex.flush();
+        invertedIndex.mergeSmallest(MAX_SEGMENTS);
+    }
+
+    private static class Facet {
+        private final Long categoryId;
+        private final Integer regionId;
+
+        private Facet(Long categoryId, Integer regionId) {
+            this.categoryId = categoryId;
+            this.regionId = regionId;
+        }
+
+        private boolean matches(Long categoryId, Integer regionId) {
+            return (categoryId == null || categoryId.equals(this.categoryId))
+                    && (regionId == null || regionId.equals(this.regionId));
+        }
+    }
+}
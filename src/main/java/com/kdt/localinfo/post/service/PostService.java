@@ -1,27 +1,55 @@
 package com.kdt.localinfo.post.service;
 
+import com.kdt.localinfo.analytics.VisitorAnalyticsService;
 import com.kdt.localinfo.aws.service.AwsS3Service;
 import com.kdt.localinfo.category.Category;
 import com.kdt.localinfo.category.CategoryRepository;
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.common.AfterCommit;
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.geo.GeoCell;
+import com.kdt.localinfo.geo.GeoPostIndex;
 import com.kdt.localinfo.photo.Photo;
 import com.kdt.localinfo.photo.PhotoRepository;
+import com.kdt.localinfo.post.dto.CityPostCountResponse;
+import com.kdt.localinfo.post.dto.FeedCursor;
 import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.dto.PostFeedResponse;
 import com.kdt.localinfo.post.dto.PostResponse;
 import com.kdt.localinfo.post.dto.PostUpdateRequest;
 import com.kdt.localinfo.post.entity.Post;
 import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.reaction.ReactionService;
+import com.kdt.localinfo.reaction.ReactionTarget;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.region.RegionGraph;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.spam.DuplicatePostGuard;
+import com.kdt.localinfo.tag.Hashtags;
+import com.kdt.localinfo.tag.TagCountResponse;
+import com.kdt.localinfo.tag.TagDictionary;
+import com.kdt.localinfo.tag.TagService;
+import com.kdt.localinfo.trending.TrendingService;
+import com.kdt.localinfo.user.entity.Region;
 import com.kdt.localinfo.user.entity.User;
 import com.kdt.localinfo.user.repository.UserRepository;
-import javassist.NotFoundException;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import javax.transaction.Transactional;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +59,13 @@ public class PostService {
     private final String NOT_FOUND_MESSAGE_CATEGORY = "해당 카테고리를 찾을 수 없습니다.";
     private final String NOT_DELETE_MESSAGE = "해당 게시글을 지울 수 없습니다.";
     private final String NOT_FOUND_MESSAGE_USER = "해당 유저를 찾을 수 없습니다.";
+    private final int MAX_FEED_SIZE = 100;
+    private final int MAX_NEARBY_HOPS = 3;
+    private final double MAX_RADIUS_KM = 20.0;
+    private final String INVALID_LOCATION_MESSAGE = "위치 정보가 올바르지 않습니다.";
+    private final String EMPTY_QUERY_MESSAGE = "검색어를 입력해주세요.";
+    private final String INVALID_TAG_MESSAGE = "태그 형식이 올바르지 않습니다.";
+    private final String TOO_MANY_IDS_MESSAGE = "한 번에 조회할 수 있는 게시글은 " + MAX_FEED_SIZE + "개까지입니다.";
 
     private final PostRepository postRepository;
     private final UserRepository userRepository;
@@ -38,84 +73,336 @@ public class PostService {
     private final CommentRepository commentRepository;
     private final AwsS3Service awsS3Service;
     private final PhotoRepository photoRepository;
+    private final RegionDictionary regionDictionary;
+    private final RegionGraph regionGraph;
+    private final GeoPostIndex geoPostIndex;
+    private final PostSearchService postSearchService;
+    private final TagService tagService;
+    private final TagDictionary tagDictionary;
+    private final DuplicatePostGuard duplicatePostGuard;
+    private final TrendingService trendingService;
+    private final ViewCounter viewCounter;
+    private final VisitorAnalyticsService visitorAnalyticsService;
+    private final ReactionService reactionService;
+    private final SoftDeleteCascade softDeleteCascade;
+    private final ShardExecutor shardExecutor;
 
     public PostService(PostRepository postRepository, AwsS3Service awsS3Service, UserRepository userRepository,
-                       CategoryRepository categoryRepository, CommentRepository commentRepository, PhotoRepository photoRepository) {
+                       CategoryRepository categoryRepository, CommentRepository commentRepository, PhotoRepository photoRepository,
+                       RegionDictionary regionDictionary, RegionGraph regionGraph, GeoPostIndex geoPostIndex,
+                       PostSearchService postSearchService, TagService tagService, TagDictionary tagDictionary,
+                       DuplicatePostGuard duplicatePostGuard, TrendingService trendingService, ViewCounter viewCounter,
+                       VisitorAnalyticsService visitorAnalyticsService, ReactionService reactionService,
+                       SoftDeleteCascade softDeleteCascade, ShardExecutor shardExecutor) {
         this.postRepository = postRepository;
         this.userRepository = userRepository;
         this.categoryRepository = categoryRepository;
         this.commentRepository = commentRepository;
         this.awsS3Service = awsS3Service;
         this.photoRepository = photoRepository;
+        this.regionDictionary = regionDictionary;
+        this.regionGraph = regionGraph;
+        this.geoPostIndex = geoPostIndex;
+        this.postSearchService = postSearchService;
+        this.tagService = tagService;
+        this.tagDictionary = tagDictionary;
+        this.duplicatePostGuard = duplicatePostGuard;
+        this.trendingService = trendingService;
+        this.viewCounter = viewCounter;
+        this.visitorAnalyticsService = visitorAnalyticsService;
+        this.reactionService = reactionService;
+        this.softDeleteCascade = softDeleteCascade;
+        this.shardExecutor = shardExecutor;
     }
 
     @Transactional
-    public Post createPost(PostCreateRequest request, List<MultipartFile> multipartFiles) throws IOException, NotFoundException {
+    public Post createPost(PostCreateRequest request, List<MultipartFile> multipartFiles) throws IOException {
+        Long simhash = duplicatePostGuard.fingerprint(request.getContents());
+        duplicatePostGuard.check(simhash);
+
         Long userId = Long.valueOf(request.getUserId());
         userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_USER));
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_USER));
         List<Photo> postPhotos = fileUpload(multipartFiles);
         List<Photo> savedPhotos = photoRepository.saveAll(postPhotos);
         User user = userRepository.findById(Long.valueOf(request.getUserId()))
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_USER));
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_USER));
 
         Category category = categoryRepository.findById(Long.valueOf(request.getCategoryId()))
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_CATEGORY));
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_CATEGORY));
 
-        return Post.builder()
+        Post post = Post.builder()
                 .contents(request.getContents())
                 .category(category)
                 .user(user)
                 .photos(savedPhotos)
                 .build();
+        applyLocation(post, request.getLatitude(), request.getLongitude());
+        post.setSimhash(simhash);
+        return post;
+    }
+
+    /**
+     * 게시글을 쓸 shard 를 정하려고 작성자의 도시를 읽는다. users 는 모든 shard 에 있으므로 어느 shard 에서 읽어도 된다.
+     */
+    @Transactional(readOnly = true)
+    public String findCityOfUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_USER))
+                .getRegion().getCity();
     }
 
     @Transactional
-    public PostResponse savePost(PostCreateRequest request, List<MultipartFile> multipartFiles) throws IOException, NotFoundException {
+    public PostResponse savePost(PostCreateRequest request, List<MultipartFile> multipartFiles) throws IOException {
         Post post = createPost(request, multipartFiles);
+        Integer regionId = regionDictionary.idOf(post.getRegion());
         Post savedPost = postRepository.save(post);
+        tagService.syncTags(savedPost, regionId);
+        // INSERT 는 커밋할 때 나가므로 메모리 인덱스는 커밋이 끝난 뒤에 바꾼다.
+        AfterCommit.run("Post indexing " + savedPost.getId(), () -> {
+            indexLocation(savedPost);
+            postSearchService.index(savedPost);
+            duplicatePostGuard.register(savedPost);
+            trendingService.onPostCreated(savedPost);
+        });
 
         return PostResponse.of(post);
     }
 
-    @Transactional
-    public PostResponse findDetailPost(Long postId) throws NotFoundException {
-        Post post = postRepository.findById(postId).filter(foundPost -> foundPost.getDeletedAt() == null)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_POST));
+    @Transactional(readOnly = true)
+    public PostResponse findDetailPost(Long postId) {
+        return findDetailPost(postId, null);
+    }
+
+    @Transactional(readOnly = true)
+    public PostResponse findDetailPost(Long postId, String visitorId) {
+        Post post = postRepository.findDetail(postId)
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_POST));
 
         List<Comment> comments = commentRepository.findCommentsByPostId(postId);
         post.setComments(comments);
 
-        User user = userRepository.findById(post.getUser().getId())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_USER));
-        post.setUser(user);
+        viewCounter.increment(postId);
+        visitorAnalyticsService.recordView(post, visitorId);
+        PostResponse postResponse = PostResponse.of(post, post.getViewCount() + viewCounter.pendingOf(postId));
+        postResponse.setLikeCount(reactionService.countOf(ReactionTarget.POST, postId));
+        return postResponse;
+    }
 
-        return PostResponse.of(post);
+    /**
+     * 여러 게시글을 요청한 순서대로 한 번에 읽는다. 지워졌거나 없는 id 는 빼고, 조회수는 올리지 않는다.
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> findPosts(List<Long> postIds) {
+        if (postIds.size() > MAX_FEED_SIZE) {
+            throw new InvalidInputException(TOO_MANY_IDS_MESSAGE);
+        }
+        List<Long> distinctIds = postIds.stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+
+        // shard 마다 IN 쿼리 한 번으로 본문까지 읽고, 사진과 댓글은 @BatchSize 로 묶어서 읽는다.
+        // 지연 로딩이 그 shard 의 트랜잭션 안에서 끝나도록 응답도 작업 안에서 만든다.
+        Map<Integer, List<Long>> idsByShard = shardExecutor.groupByShard(distinctIds);
+        Map<Long, PostResponse> responsesById = new HashMap<>();
+        shardExecutor.scatterGather(idsByShard.keySet(), shard -> postRepository.findDetails(idsByShard.get(shard)).stream()
+                        .map(PostResponse::of)
+                        .collect(Collectors.toList()))
+                .forEach(responses -> responses.forEach(response -> responsesById.put(response.getId(), response)));
+
+        return withLikeCounts(distinctIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public List<PostResponse> findAllByCategory(Long categoryId) {
-        return postRepository.findPostByCategoryId(categoryId)
+        List<List<PostResponse>> responsesByShard = shardExecutor.scatterGather(shard -> postRepository.findPostByCategoryId(categoryId)
                 .stream().filter(foundPost -> foundPost.getDeletedAt() == null)
-                .map(PostResponse::of)
+                .map(PostResponse::summaryOf)
+                .collect(Collectors.toList()));
+        return withLikeCounts(responsesByShard.stream()
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+    }
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse findRegionFeed(Region region, Long categoryId, String cursor, int size) {
+        FeedCursor feedCursor = FeedCursor.from(cursor);
+        int feedSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        PageRequest page = PageRequest.of(0, feedSize);
+
+        Optional<Integer> regionId = regionDictionary.findId(region);
+        if (regionId.isEmpty()) {
+            return PostFeedResponse.of(List.of(), feedSize);
+        }
+
+        List<List<Post>> feeds = shardExecutor.scatterGather(shardExecutor.shardsOfCity(region.getCity()),
+                shard -> findRegionPage(regionId.get(), categoryId, feedCursor, page));
+        return withLikeCounts(PostFeedResponse.of(FeedMerger.merge(feeds, feedSize), feedSize));
+    }
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse findNearbyFeed(Region region, int hops, Long categoryId, String cursor, int size) {
+        FeedCursor feedCursor = FeedCursor.from(cursor);
+        int feedSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        PageRequest page = PageRequest.of(0, feedSize);
+
+        Optional<Integer> regionId = regionDictionary.findId(region);
+        if (regionId.isEmpty()) {
+            return PostFeedResponse.of(List.of(), feedSize);
+        }
+
+        int[] nearbyRegionIds = regionGraph.withinHops(regionId.get(), Math.min(Math.max(hops, 0), MAX_NEARBY_HOPS));
+        // 이웃 동네가 다른 도시면 다른 shard 에 있으므로 동네를 shard 별로 모아 shard 마다 한 번씩 읽는다.
+        Map<Integer, List<Integer>> regionIdsByShard = new LinkedHashMap<>();
+        for (int nearbyRegionId : nearbyRegionIds) {
+            for (int shard : shardExecutor.shardsOfCity(regionDictionary.regionOf(nearbyRegionId).getCity())) {
+                regionIdsByShard.computeIfAbsent(shard, key -> new ArrayList<>()).add(nearbyRegionId);
+            }
+        }
+        List<List<Post>> feeds = shardExecutor.scatterGather(regionIdsByShard.keySet(), shard -> {
+            List<List<Post>> regionFeeds = new ArrayList<>();
+            for (Integer nearbyRegionId : regionIdsByShard.get(shard)) {
+                regionFeeds.add(findRegionPage(nearbyRegionId, categoryId, feedCursor, page));
+            }
+            return FeedMerger.merge(regionFeeds, feedSize);
+        });
+
+        return withLikeCounts(PostFeedResponse.of(FeedMerger.merge(feeds, feedSize), feedSize));
+    }
+
+    @Transactional(readOnly = true)
+    public PostFeedResponse findTagFeed(String tag, String cursor, int size) {
+        FeedCursor feedCursor = FeedCursor.from(cursor);
+        int feedSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+
+        String tagName = Hashtags.normalize(tag);
+        if (tagName == null) {
+            throw new InvalidInputException(INVALID_TAG_MESSAGE);
+        }
+        Optional<Long> tagId = tagDictionary.findId(tagName);
+        if (tagId.isEmpty()) {
+            return PostFeedResponse.of(List.of(), feedSize);
+        }
+
+        // 태그 피드는 도시를 가리지 않으므로 shard 마다 한 페이지씩 읽어 병합한다.
+        List<List<Post>> feeds = shardExecutor.scatterGather(shard -> {
+            List<Long> postIds = tagService.findPostIds(tagId.get(), feedCursor.getCreatedAt(), feedCursor.getPostId(), feedSize);
+            Map<Long, Post> postsById = postRepository.findLiveByIds(postIds).stream()
+                    .collect(Collectors.toMap(Post::getId, Function.identity()));
+            return postIds.stream()
+                    .map(postsById::get)
+                    .filter(Objects::nonNull)
+                    .map(this::withSummaryAssociations)
+                    .collect(Collectors.toList());
+        });
+        return withLikeCounts(PostFeedResponse.of(FeedMerger.merge(feeds, feedSize), feedSize));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> findPopularTags(Region region, int size) {
+        Optional<Integer> regionId = regionDictionary.findId(region);
+        if (regionId.isEmpty()) {
+            return List.of();
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        List<Integer> shards = shardExecutor.shardsOfCity(region.getCity());
+        if (shards.size() == 1) {
+            return shardExecutor.scatterGather(shards, shard -> tagService.findPopularTags(regionId.get(), limit)).get(0);
+        }
+
+        // shard 마다 상위 몇 개만 받아 합치면 순위가 틀어지므로, 동네의 태그 카운트를 모두 받아 더한 뒤 자른다.
+        Map<String, Long> postCounts = new HashMap<>();
+        shardExecutor.scatterGather(shards, shard -> tagService.findTagCounts(regionId.get()))
+                .forEach(counts -> counts.forEach(count -> postCounts.merge(count.getTag(), count.getPostCount(), Long::sum)));
+        return postCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(count -> new TagCountResponse(count.getKey(), count.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> findTrendingPosts(Region region, Long categoryId, int size) {
+        Optional<Integer> regionId = regionDictionary.findId(region);
+        if (regionId.isEmpty()) {
+            return List.of();
+        }
+        List<Long> postIds = trendingService.findTop(regionId.get(), categoryId, Math.min(Math.max(size, 1), MAX_FEED_SIZE));
+        return findLivePostsInOrder(postIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> findPostsWithin(Double latitude, Double longitude, double radiusKm, int size) {
+        if (!GeoCell.isValid(latitude, longitude) || radiusKm <= 0) {
+            throw new InvalidInputException(INVALID_LOCATION_MESSAGE);
+        }
+        List<Long> postIds = geoPostIndex.findWithin(latitude, longitude, Math.min(radiusKm, MAX_RADIUS_KM),
+                Math.min(Math.max(size, 1), MAX_FEED_SIZE));
+        return findLivePostsInOrder(postIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<PostResponse> searchPosts(String query, Long categoryId, Region region, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new InvalidInputException(EMPTY_QUERY_MESSAGE);
+        }
+        int pageSize = Math.min(Math.max(size, 1), MAX_FEED_SIZE);
+        Integer regionId = null;
+        if (region != null) {
+            Optional<Integer> foundRegionId = regionDictionary.findId(region);
+            if (foundRegionId.isEmpty()) {
+                return List.of();
+            }
+            regionId = foundRegionId.get();
+        }
+        List<Long> postIds = postSearchService.search(query, categoryId, regionId, Math.max(page, 0) * pageSize, pageSize);
+        return findLivePostsInOrder(postIds);
+    }
+
+    /**
+     * 모든 shard 에서 지역별 살아있는 게시글 수를 모아 도시별로 더한다. API 는 CityPostCountSnapshot 이 주기적으로 센 결과를 쓴다.
+     */
+    public List<CityPostCountResponse> countLivePostsByCity() {
+        Map<String, Long> countsByCity = new HashMap<>();
+        shardExecutor.scatterGather(shard -> postRepository.countLiveByRegion())
+                .forEach(rows -> rows.forEach(row -> {
+                    Region region = regionDictionary.regionOf(((Number) row[0]).intValue());
+                    countsByCity.merge(region.getCity(), ((Number) row[1]).longValue(), Long::sum);
+                }));
+        return countsByCity.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(count -> new CityPostCountResponse(count.getKey(), count.getValue()))
                 .collect(Collectors.toList());
     }
 
     @Transactional
-    public PostResponse updatePost(Long postId, PostUpdateRequest request, List<MultipartFile> multipartFiles) throws NotFoundException, IOException {
+    public PostResponse updatePost(Long postId, PostUpdateRequest request, List<MultipartFile> multipartFiles) throws IOException {
         Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_CATEGORY));
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_CATEGORY));
 
         List<Photo> postPhotos = fileUpload(multipartFiles);
         List<Photo> savedPhotos = photoRepository.saveAll(postPhotos);
 
         Post foundPost = postRepository.findById(postId)
                 .filter(unidentifiedPost -> unidentifiedPost.getDeletedAt() == null)
-                .orElseThrow(() -> new NotFoundException(NOT_FOUND_MESSAGE_POST));
+                .orElseThrow(() -> new ResourceNotFoundException(NOT_FOUND_MESSAGE_POST));
 
+        Long previousSimhash = foundPost.getSimhash();
+        Long previousCategoryId = foundPost.getCategory().getId();
         foundPost.setContents(request.getContents());
+        foundPost.setSimhash(duplicatePostGuard.fingerprint(request.getContents()));
         foundPost.setCategory(category);
         foundPost.setPhotos(savedPhotos);
+        applyLocation(foundPost, request.getLatitude(), request.getLongitude());
+        tagService.syncTags(foundPost, regionDictionary.idOf(foundPost.getRegion()));
+        AfterCommit.run("Post indexing " + postId, () -> {
+            indexLocation(foundPost);
+            postSearchService.index(foundPost);
+            duplicatePostGuard.remove(postId, previousSimhash);
+            duplicatePostGuard.register(foundPost);
+            trendingService.onCategoryChanged(foundPost, previousCategoryId);
+        });
 
         return PostResponse.of(foundPost);
     }
@@ -127,12 +414,74 @@ public class PostService {
                 .map(foundPost -> {
                     foundPost.deletePost();
                     postRepository.save(foundPost);
+                    softDeleteCascade.evictIndexes(foundPost);
+                    softDeleteCascade.cascadePost(postId);
                     return postId;
                 })
-                .orElseThrow(() -> new IllegalArgumentException(NOT_DELETE_MESSAGE));
+                .orElseThrow(() -> new InvalidInputException(NOT_DELETE_MESSAGE));
         return postId;
     }
 
+    private void applyLocation(Post post, Double latitude, Double longitude) {
+        if (latitude == null && longitude == null) {
+            return;
+        }
+        if (!GeoCell.isValid(latitude, longitude)) {
+            throw new InvalidInputException(INVALID_LOCATION_MESSAGE);
+        }
+        post.setLocation(latitude, longitude);
+    }
+
+    private void indexLocation(Post post) {
+        if (post.hasLocation()) {
+            geoPostIndex.put(post.getId(), post.getLatitude(), post.getLongitude());
+        }
+    }
+
+    private List<PostResponse> findLivePostsInOrder(List<Long> postIds) {
+        Map<Integer, List<Long>> idsByShard = shardExecutor.groupByShard(postIds);
+        Map<Long, PostResponse> responsesById = new HashMap<>();
+        shardExecutor.scatterGather(idsByShard.keySet(), shard -> postRepository.findLiveByIds(idsByShard.get(shard)).stream()
+                        .map(PostResponse::summaryOf)
+                        .collect(Collectors.toList()))
+                .forEach(responses -> responses.forEach(response -> responsesById.put(response.getId(), response)));
+
+        return withLikeCounts(postIds.stream()
+                .map(responsesById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList()));
+    }
+
+    private PostFeedResponse withLikeCounts(PostFeedResponse feed) {
+        withLikeCounts(feed.getPosts());
+        return feed;
+    }
+
+    // 좋아요는 게시글과 같은 shard 에 있으므로 shard 별로 나눠 센다.
+    private List<PostResponse> withLikeCounts(List<PostResponse> postResponses) {
+        Map<Integer, List<Long>> idsByShard = shardExecutor.groupByShard(
+                postResponses.stream().map(PostResponse::getId).collect(Collectors.toList()));
+        Map<Long, Long> likeCounts = new HashMap<>();
+        shardExecutor.scatterGather(idsByShard.keySet(), shard -> reactionService.countAll(ReactionTarget.POST, idsByShard.get(shard)))
+                .forEach(likeCounts::putAll);
+        postResponses.forEach(postResponse -> postResponse.setLikeCount(likeCounts.getOrDefault(postResponse.getId(), 0L)));
+        return postResponses;
+    }
+
+    // 병합한 뒤 목록 응답을 만들 게시글은 summaryOf 가 쓰는 연관만 그 shard 의 트랜잭션 안에서 미리 읽어 둔다.
+    private Post withSummaryAssociations(Post post) {
+        Hibernate.initialize(post.getCategory());
+        Hibernate.initialize(post.getUser());
+        return post;
+    }
+
+    private List<Post> findRegionPage(Integer regionId, Long categoryId, FeedCursor feedCursor, PageRequest page) {
+        return categoryId == null
+                ? postRepository.findRegionFeed(regionId, feedCursor.getCreatedAt(), feedCursor.getPostId(), page)
+                : postRepository.findRegionCategoryFeed(regionId, categoryId,
+                feedCursor.getCreatedAt(), feedCursor.getPostId(), page);
+    }
+
     private List<Photo> fileUpload(List<MultipartFile> multipartFiles) throws IOException {
         List<Photo> uploadPhotos = new ArrayList<>();
 
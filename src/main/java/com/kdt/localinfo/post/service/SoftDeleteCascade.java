@@ -0,0 +1,206 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.comment.service.CommentSearchService;
+import com.kdt.localinfo.common.AfterCommit;
+import com.kdt.localinfo.geo.GeoPostIndex;
+import com.kdt.localinfo.photo.CommentPhotoRepository;
+import com.kdt.localinfo.photo.PhotoRepository;
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.spam.DuplicatePostGuard;
+import com.kdt.localinfo.tag.TagService;
+import com.kdt.localinfo.trending.TrendingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글, 사용자 삭제를 댓글, 사진, 댓글 사진까지 집합 단위 UPDATE 로 이어서 soft delete 한다.
+ * 엔티티 컬렉션을 읽지 않고 id 구간을 나눠 구간마다 짧은 트랜잭션으로 처리하므로 오래 잠그는 행이 없다.
+ * 자식부터 지우고 살아 있는 행만 골라 지우므로, 사용자 삭제는 중간에 실패해도 다시 삭제하면 이어서 지운다.
+ * 게시글 삭제의 연쇄가 실패하면 주기적으로 도는 sweep 이 남은 댓글과 사진을 마저 지운다.
+ */
+@Slf4j
+@Component
+public class SoftDeleteCascade {
+
+    private static final int POST_CHUNK_SIZE = 100;
+    private static final int COMMENT_CHUNK_SIZE = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final PhotoRepository photoRepository;
+    private final CommentPhotoRepository commentPhotoRepository;
+    private final GeoPostIndex geoPostIndex;
+    private final PostSearchService postSearchService;
+    private final CommentSearchService commentSearchService;
+    private final TagService tagService;
+    private final RegionDictionary regionDictionary;
+    private final DuplicatePostGuard duplicatePostGuard;
+    private final TrendingService trendingService;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ShardExecutor shardExecutor;
+
+    public SoftDeleteCascade(PostRepository postRepository, CommentRepository commentRepository,
+                             PhotoRepository photoRepository, CommentPhotoRepository commentPhotoRepository,
+                             GeoPostIndex geoPostIndex, PostSearchService postSearchService,
+                             CommentSearchService commentSearchService, TagService tagService,
+                             RegionDictionary regionDictionary, DuplicatePostGuard duplicatePostGuard,
+                             TrendingService trendingService, PlatformTransactionManager transactionManager,
+                             ShardExecutor shardExecutor) {
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.photoRepository = photoRepository;
+        this.commentPhotoRepository = commentPhotoRepository;
+        this.geoPostIndex = geoPostIndex;
+        this.postSearchService = postSearchService;
+        this.commentSearchService = commentSearchService;
+        this.tagService = tagService;
+        this.regionDictionary = regionDictionary;
+        this.duplicatePostGuard = duplicatePostGuard;
+        this.trendingService = trendingService;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.shardExecutor = shardExecutor;
+    }
+
+    /**
+     * 게시글을 지운 트랜잭션이 커밋된 뒤 댓글과 사진을 지운다.
+     */
+    public void cascadePost(Long postId) {
+        afterCommit(() -> deletePostChildren(List.of(postId)));
+    }
+
+    /**
+     * 사용자를 지운 트랜잭션이 커밋된 뒤 모든 shard 에서 그 사용자의 게시글과 댓글을 지운다.
+     */
+    public void cascadeUser(Long userId) {
+        afterCommit(() -> shardExecutor.forEachShard(shard -> deleteUserContent(userId)));
+    }
+
+    /**
+     * 삭제된 게시글 중 댓글이나 사진이 남은 것을 찾아 연쇄 삭제를 다시 돌린다.
+     */
+    @Scheduled(fixedDelayString = "${local-info.soft-delete.sweep-interval-ms:600000}",
+            initialDelayString = "${local-info.soft-delete.sweep-interval-ms:600000}")
+    public void sweep() {
+        shardExecutor.forEachShard(shard -> sweepShard());
+    }
+
+    /**
+     * 지운 게시글을 메모리 인덱스에서 뺀다. 태그 카운트를 고치므로 트랜잭션 안에서 부른다.
+     */
+    public void evictIndexes(Post post) {
+        geoPostIndex.remove(post.getId());
+        postSearchService.remove(post.getId());
+        tagService.removeTags(post.getId(), regionDictionary.idOf(post.getRegion()));
+        duplicatePostGuard.remove(post.getId(), post.getSimhash());
+        trendingService.remove(post);
+    }
+
+    void sweepShard() {
+        long lastPostId = 0L;
+        int swept = 0;
+        List<Long> postIds;
+        do {
+            long fromId = lastPostId;
+            postIds = requiresNewTemplate.execute(status ->
+                    postRepository.findDeletedIdChunkWithLiveChildren(fromId, PageRequest.of(0, POST_CHUNK_SIZE)));
+            if (postIds == null || postIds.isEmpty()) {
+                break;
+            }
+            deletePostChildren(postIds);
+            swept += postIds.size();
+            lastPostId = postIds.get(postIds.size() - 1);
+        } while (postIds.size() == POST_CHUNK_SIZE);
+        if (swept > 0) {
+            log.info("Soft delete sweep finished: {} posts cleaned up", swept);
+        }
+    }
+
+    void deleteUserContent(Long userId) {
+        long lastPostId = 0L;
+        List<Post> posts;
+        do {
+            long fromId = lastPostId;
+            posts = requiresNewTemplate.execute(status ->
+                    postRepository.findLiveChunkByUserId(userId, fromId, PageRequest.of(0, POST_CHUNK_SIZE)));
+            if (posts == null || posts.isEmpty()) {
+                break;
+            }
+            List<Long> postIds = posts.stream().map(Post::getId).collect(Collectors.toList());
+            deletePostChildren(postIds);
+            List<Post> deletedPosts = posts;
+            requiresNewTemplate.executeWithoutResult(status -> {
+                postRepository.softDeleteByIds(postIds, LocalDateTime.now());
+                deletedPosts.forEach(this::evictIndexes);
+            });
+            lastPostId = postIds.get(postIds.size() - 1);
+        } while (posts.size() == POST_CHUNK_SIZE);
+
+        long lastCommentId = 0L;
+        List<Object[]> rows;
+        do {
+            long fromId = lastCommentId;
+            rows = requiresNewTemplate.execute(status ->
+                    commentRepository.findLiveChunkByUserId(userId, fromId, PageRequest.of(0, COMMENT_CHUNK_SIZE)));
+            if (rows == null || rows.isEmpty()) {
+                break;
+            }
+            List<Long> commentIds = new ArrayList<>(rows.size());
+            Set<Long> postIds = new LinkedHashSet<>();
+            for (Object[] row : rows) {
+                commentIds.add((Long) row[0]);
+                postIds.add((Long) row[1]);
+            }
+            deleteComments(commentIds);
+            requiresNewTemplate.executeWithoutResult(status -> postRepository.recountComments(postIds));
+            lastCommentId = commentIds.get(commentIds.size() - 1);
+        } while (rows.size() == COMMENT_CHUNK_SIZE);
+    }
+
+    void deletePostChildren(List<Long> postIds) {
+        long lastCommentId = 0L;
+        List<Long> commentIds;
+        do {
+            long fromId = lastCommentId;
+            commentIds = requiresNewTemplate.execute(status ->
+                    commentRepository.findLiveIdChunkByPostIds(postIds, fromId, PageRequest.of(0, COMMENT_CHUNK_SIZE)));
+            if (commentIds == null || commentIds.isEmpty()) {
+                break;
+            }
+            deleteComments(commentIds);
+            lastCommentId = commentIds.get(commentIds.size() - 1);
+        } while (commentIds.size() == COMMENT_CHUNK_SIZE);
+
+        requiresNewTemplate.executeWithoutResult(status -> photoRepository.softDeleteByPostIds(postIds, LocalDateTime.now()));
+    }
+
+    private void deleteComments(List<Long> commentIds) {
+        requiresNewTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            commentPhotoRepository.softDeleteByCommentIds(commentIds, now);
+            commentRepository.softDeleteByIds(commentIds, now);
+        });
+        commentIds.forEach(commentSearchService::remove);
+    }
+
+    // 커밋 후 콜백에서는 원래 트랜잭션 자원이 아직 묶여 있어 구간마다 REQUIRES_NEW 로 연다.
+    private void afterCommit(Runnable cascade) {
+        AfterCommit.run("Soft delete cascade", cascade);
+    }
+}
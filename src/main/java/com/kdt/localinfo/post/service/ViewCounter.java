@@ -0,0 +1,114 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.shard.ShardContext;
+import com.kdt.localinfo.shard.ShardIds;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에서 모았다가 주기적으로 한 번에 반영한다.
+ * 게시글마다 LongAdder 를 두므로 같은 글을 동시에 읽어도 하나의 락이나 행을 두고 경합하지 않는다.
+ */
+@Slf4j
+@Component
+public class ViewCounter {
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ViewCounter(PostRepository postRepository, PlatformTransactionManager transactionManager,
+                       @Value("${local-info.view-count.batch-size:500}") int batchSize) {
+        this.postRepository = postRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    public void increment(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null) {
+            adder = pending.computeIfAbsent(postId, id -> new LongAdder());
+        }
+        adder.increment();
+    }
+
+    /**
+     * 아직 DB 에 반영하지 않은 증가분.
+     */
+    public long pendingOf(Long postId) {
+        LongAdder adder = pending.get(postId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        // 락 순서가 노드마다 같도록 post_id 순으로 반영하고, 게시글이 있는 shard 마다 따로 쓴다.
+        Map<Integer, Map<Long, Long>> deltasByShard = new TreeMap<>();
+        List<Long> idlePostIds = new ArrayList<>();
+        pending.forEach((postId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta == 0L) {
+                idlePostIds.add(postId);
+            } else {
+                deltasByShard.computeIfAbsent(ShardIds.shardOf(postId), shard -> new TreeMap<>()).put(postId, delta);
+            }
+        });
+        idlePostIds.forEach(this::evictIdle);
+        deltasByShard.forEach((shard, deltas) -> ShardContext.run(shard, () -> writeInBatches(deltas)));
+    }
+
+    @PreDestroy
+    public void close() {
+        flush();
+    }
+
+    private void writeInBatches(Map<Long, Long> deltas) {
+        Map<Long, Long> batch = new TreeMap<>();
+        for (Map.Entry<Long, Long> delta : deltas.entrySet()) {
+            batch.put(delta.getKey(), delta.getValue());
+            if (batch.size() == batchSize) {
+                write(batch);
+                batch = new TreeMap<>();
+            }
+        }
+        write(batch);
+    }
+
+    private void write(Map<Long, Long> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> postRepository.addViewCounts(batch));
+        } catch (RuntimeException e) {
+            log.warn("View count flush failed, retrying {} posts on next flush", batch.size(), e);
+            batch.forEach((postId, delta) -> pending.computeIfAbsent(postId, id -> new LongAdder()).add(delta));
+        }
+    }
+
+    // 한 주기 동안 조회가 없던 카운터는 지운다. 지우는 사이에 들어온 증가분은 새 카운터로 옮긴다.
+    private void evictIdle(Long postId) {
+        LongAdder adder = pending.get(postId);
+        if (adder == null || !pending.remove(postId, adder)) {
+            return;
+        }
+        long straggler = adder.sumThenReset();
+        if (straggler != 0L) {
+            pending.computeIfAbsent(postId, id -> new LongAdder()).add(straggler);
+        }
+    }
+}
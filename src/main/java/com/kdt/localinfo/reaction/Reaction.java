@@ -0,0 +1,40 @@
+package com.kdt.localinfo.reaction;
+
+import com.kdt.localinfo.common.BaseEntity;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+/**
+ * 사용자별 좋아요. 같은 대상에 한 번만 누를 수 있도록 유니크 인덱스를 둔다.
+ */
+@Getter
+@Table(name = "reactions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reactions_target_user", columnNames = {"target_type", "target_id", "user_id"})
+})
+@NoArgsConstructor
+@Entity
+public class Reaction extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @Column(name = "reaction_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false, length = 10)
+    private ReactionTarget targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    public Reaction(ReactionTarget targetType, Long targetId, Long userId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.userId = userId;
+    }
+}
@@ -0,0 +1,58 @@
+package com.kdt.localinfo.reaction;
+
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.shard.ShardExecutor;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.Errors;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping(produces = MediaTypes.HAL_JSON_VALUE)
+public class ReactionController {
+
+    private final ReactionService reactionService;
+    private final ShardExecutor shardExecutor;
+
+    public ReactionController(ReactionService reactionService, ShardExecutor shardExecutor) {
+        this.reactionService = reactionService;
+        this.shardExecutor = shardExecutor;
+    }
+
+    @PostMapping(path = "/posts/{post-id}/likes")
+    public ResponseEntity<ReactionResponse> likePost(
+            @PathVariable("post-id") Long postId,
+            @RequestBody @Validated ReactionRequest request,
+            Errors errors) {
+        if (errors.hasErrors()) {
+            throw new InvalidInputException("ReactionRequest Invalid Input", errors);
+        }
+        return ResponseEntity.ok(shardExecutor.onId(postId, () -> reactionService.like(ReactionTarget.POST, postId, request.getUserId())));
+    }
+
+    @DeleteMapping(path = "/posts/{post-id}/likes/{user-id}")
+    public ResponseEntity<ReactionResponse> unlikePost(
+            @PathVariable("post-id") Long postId,
+            @PathVariable("user-id") Long userId) {
+        return ResponseEntity.ok(shardExecutor.onId(postId, () -> reactionService.unlike(ReactionTarget.POST, postId, userId)));
+    }
+
+    @PostMapping(path = "/comments/{comment-id}/likes")
+    public ResponseEntity<ReactionResponse> likeComment(
+            @PathVariable("comment-id") Long commentId,
+            @RequestBody @Validated ReactionRequest request,
+            Errors errors) {
+        if (errors.hasErrors()) {
+            throw new InvalidInputException("ReactionRequest Invalid Input", errors);
+        }
+        return ResponseEntity.ok(shardExecutor.onId(commentId, () -> reactionService.like(ReactionTarget.COMMENT, commentId, request.getUserId())));
+    }
+
+    @DeleteMapping(path = "/comments/{comment-id}/likes/{user-id}")
+    public ResponseEntity<ReactionResponse> unlikeComment(
+            @PathVariable("comment-id") Long commentId,
+            @PathVariable("user-id") Long userId) {
+        return ResponseEntity.ok(shardExecutor.onId(commentId, () -> reactionService.unlike(ReactionTarget.COMMENT, commentId, userId)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.kdt.localinfo.reaction;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 샤드 합계를 잠깐 들고 있는 캐시. 이 노드에서 생긴 증감은 바로 더하고, 다른 노드의 변경은 ttl 안에 반영된다.
+ */
+class ReactionCountCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    ReactionCountCache(long ttlMillis, int maxEntries) {
+        this.ttlMillis = ttlMillis;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 없거나 만료되었으면 null 을 돌려준다.
+     */
+    Long get(ReactionTarget targetType, Long targetId, long nowMillis) {
+        Entry entry = entries.get(new Key(targetType, targetId));
+        return entry == null || entry.expiresAt < nowMillis ? null : entry.count;
+    }
+
+    void put(ReactionTarget targetType, Long targetId, long count, long nowMillis) {
+        if (entries.size() >= maxEntries) {
+            evict(nowMillis);
+        }
+        entries.put(new Key(targetType, targetId), new Entry(count, nowMillis + ttlMillis));
+    }
+
+    void add(ReactionTarget targetType, Long targetId, long delta) {
+        entries.computeIfPresent(new Key(targetType, targetId), (key, entry) -> new Entry(entry.count + delta, entry.expiresAt));
+    }
+
+    private void evict(long nowMillis) {
+        entries.values().removeIf(entry -> entry.expiresAt < nowMillis);
+        if (entries.size() >= maxEntries) {
+            entries.clear();
+        }
+    }
+
+    private static class Entry {
+        private final long count;
+        private final long expiresAt;
+
+        private Entry(long count, long expiresAt) {
+            this.count = count;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static class Key {
+        private final ReactionTarget targetType;
+        private final Long targetId;
+
+        private Key(ReactionTarget targetType, Long targetId) {
+            this.targetType = targetType;
+            this.targetId = targetId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) o;
+            return targetType == key.targetType && targetId.equals(key.targetId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(targetType, targetId);
+        }
+    }
+}
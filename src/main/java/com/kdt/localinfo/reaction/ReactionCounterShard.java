@@ -0,0 +1,53 @@
+package com.kdt.localinfo.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 대상별 좋아요 수를 여러 행에 나눠 센다. 증감마다 임의의 샤드 하나만 잠그므로 인기글도 한 행에 몰리지 않는다.
+ * 전체 수는 샤드 합이다.
+ */
+@Getter
+@Table(name = "reaction_counter_shards")
+@IdClass(ReactionCounterShard.Key.class)
+@NoArgsConstructor
+@Entity
+public class ReactionCounterShard {
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", length = 10)
+    private ReactionTarget targetType;
+
+    @Id
+    @Column(name = "target_id")
+    private Long targetId;
+
+    @Id
+    @Column(name = "shard")
+    private Integer shard;
+
+    @Column(name = "reaction_count", nullable = false)
+    private long reactionCount;
+
+    public ReactionCounterShard(ReactionTarget targetType, Long targetId, Integer shard) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.shard = shard;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private ReactionTarget targetType;
+        private Long targetId;
+        private Integer shard;
+    }
+}
@@ -0,0 +1,26 @@
+package com.kdt.localinfo.reaction;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ReactionCounterShardRepository extends JpaRepository<ReactionCounterShard, ReactionCounterShard.Key> {
+
+    @Modifying
+    @Query(value = "UPDATE ReactionCounterShard s SET s.reactionCount = s.reactionCount + :delta " +
+            "WHERE s.targetType = :targetType AND s.targetId = :targetId AND s.shard = :shard")
+    int addCount(@Param("targetType") ReactionTarget targetType, @Param("targetId") Long targetId,
+                 @Param("shard") Integer shard, @Param("delta") long delta);
+
+    @Query(value = "SELECT COALESCE(SUM(s.reactionCount), 0) FROM ReactionCounterShard s " +
+            "WHERE s.targetType = :targetType AND s.targetId = :targetId")
+    long sumCount(@Param("targetType") ReactionTarget targetType, @Param("targetId") Long targetId);
+
+    @Query(value = "SELECT s.targetId, SUM(s.reactionCount) FROM ReactionCounterShard s " +
+            "WHERE s.targetType = :targetType AND s.targetId IN :targetIds GROUP BY s.targetId")
+    List<Object[]> sumCounts(@Param("targetType") ReactionTarget targetType, @Param("targetIds") Collection<Long> targetIds);
+}
@@ -0,0 +1,16 @@
+package com.kdt.localinfo.reaction;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ReactionRepository extends JpaRepository<Reaction, Long> {
+
+    boolean existsByTargetTypeAndTargetIdAndUserId(ReactionTarget targetType, Long targetId, Long userId);
+
+    @Modifying
+    @Query(value = "DELETE FROM Reaction r WHERE r.targetType = :targetType AND r.targetId = :targetId AND r.userId = :userId")
+    int deleteReaction(@Param("targetType") ReactionTarget targetType, @Param("targetId") Long targetId,
+                       @Param("userId") Long userId);
+}
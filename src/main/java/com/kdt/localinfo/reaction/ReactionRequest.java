@@ -0,0 +1,16 @@
+package com.kdt.localinfo.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReactionRequest {
+
+    @NotNull
+    private Long userId;
+}
@@ -0,0 +1,17 @@
+package com.kdt.localinfo.reaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReactionResponse {
+
+    private Long targetId;
+    private boolean liked;
+    private long likeCount;
+}
@@ -0,0 +1,161 @@
+package com.kdt.localinfo.reaction;
+
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.post.repository.PostRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 게시글, 댓글 좋아요. 누른 사용자는 reactions 에, 개수는 대상별 샤드 카운터에 나눠 기록한다.
+ */
+@Service
+public class ReactionService {
+
+    private final ReactionRepository reactionRepository;
+    private final ReactionCounterShardRepository reactionCounterShardRepository;
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ReactionCountCache countCache;
+    private final int shards;
+
+    public ReactionService(ReactionRepository reactionRepository,
+                           ReactionCounterShardRepository reactionCounterShardRepository,
+                           PostRepository postRepository, CommentRepository commentRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${local-info.reaction.shards:16}") int shards,
+                           @Value("${local-info.reaction.cache-ttl:PT5S}") Duration cacheTtl,
+                           @Value("${local-info.reaction.cache-size:100000}") int cacheSize) {
+        this.reactionRepository = reactionRepository;
+        this.reactionCounterShardRepository = reactionCounterShardRepository;
+        this.postRepository = postRepository;
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.countCache = new ReactionCountCache(cacheTtl.toMillis(), cacheSize);
+        this.shards = shards;
+    }
+
+    public ReactionResponse like(ReactionTarget targetType, Long targetId, Long userId) {
+        validateTarget(targetType, targetId);
+        boolean added;
+        try {
+            added = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                if (reactionRepository.existsByTargetTypeAndTargetIdAndUserId(targetType, targetId, userId)) {
+                    return false;
+                }
+                reactionRepository.saveAndFlush(new Reaction(targetType, targetId, userId));
+                addCount(targetType, targetId, 1);
+                return true;
+            }));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자가 동시에 두 번 누른 경우. 먼저 들어간 요청만 센다.
+            added = false;
+        }
+        if (added) {
+            countCache.add(targetType, targetId, 1);
+        }
+        return new ReactionResponse(targetId, true, countOf(targetType, targetId));
+    }
+
+    public ReactionResponse unlike(ReactionTarget targetType, Long targetId, Long userId) {
+        boolean removed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+            if (reactionRepository.deleteReaction(targetType, targetId, userId) == 0) {
+                return false;
+            }
+            addCount(targetType, targetId, -1);
+            return true;
+        }));
+        if (removed) {
+            countCache.add(targetType, targetId, -1);
+        }
+        return new ReactionResponse(targetId, false, countOf(targetType, targetId));
+    }
+
+    public long countOf(ReactionTarget targetType, Long targetId) {
+        long now = System.currentTimeMillis();
+        Long cached = countCache.get(targetType, targetId, now);
+        if (cached != null) {
+            return cached;
+        }
+        long count = reactionCounterShardRepository.sumCount(targetType, targetId);
+        countCache.put(targetType, targetId, count, now);
+        return count;
+    }
+
+    /**
+     * 캐시에 없는 대상만 한 번의 GROUP BY 쿼리로 합산한다. 좋아요가 없는 대상은 0 이다.
+     */
+    public Map<Long, Long> countAll(ReactionTarget targetType, Collection<Long> targetIds) {
+        long now = System.currentTimeMillis();
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (Long targetId : targetIds) {
+            Long cached = countCache.get(targetType, targetId, now);
+            if (cached != null) {
+                counts.put(targetId, cached);
+            } else {
+                counts.put(targetId, 0L);
+                missing.add(targetId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Object[] row : reactionCounterShardRepository.sumCounts(targetType, missing)) {
+                counts.put((Long) row[0], ((Number) row[1]).longValue());
+            }
+            missing.forEach(targetId -> countCache.put(targetType, targetId, counts.get(targetId), now));
+        }
+        return counts;
+    }
+
+    private void addCount(ReactionTarget targetType, Long targetId, long delta) {
+        int shard = ThreadLocalRandom.current().nextInt(shards);
+        if (reactionCounterShardRepository.addCount(targetType, targetId, shard, delta) == 0) {
+            createShards(targetType, targetId);
+            reactionCounterShardRepository.addCount(targetType, targetId, shard, delta);
+        }
+    }
+
+    // 샤드 행은 별도 트랜잭션에서 한 번에 만들어 두고, 본 트랜잭션에서는 UPDATE 로만 증감한다.
+    private void createShards(ReactionTarget targetType, Long targetId) {
+        try {
+            requiresNewTemplate.executeWithoutResult(status -> {
+                if (reactionCounterShardRepository.existsById(new ReactionCounterShard.Key(targetType, targetId, 0))) {
+                    return;
+                }
+                List<ReactionCounterShard> rows = new ArrayList<>(shards);
+                for (int shard = 0; shard < shards; shard++) {
+                    rows.add(new ReactionCounterShard(targetType, targetId, shard));
+                }
+                reactionCounterShardRepository.saveAllAndFlush(rows);
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 샤드를 먼저 만든 경우
+        }
+    }
+
+    private void validateTarget(ReactionTarget targetType, Long targetId) {
+        boolean exists = targetType == ReactionTarget.POST
+                ? postRepository.findById(targetId).filter(post -> post.getDeletedAt() == null).isPresent()
+                : commentRepository.findById(targetId).filter(comment -> comment.getDeletedAt() == null).isPresent();
+        if (!exists) {
+            throw new ResourceNotFoundException(targetType == ReactionTarget.POST
+                    ? "해당 게시글을 찾을 수 없습니다." : "댓글에 대한 정보를 찾을 수 없습니다.");
+        }
+    }
+}
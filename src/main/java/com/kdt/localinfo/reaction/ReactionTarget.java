@@ -0,0 +1,6 @@
+package com.kdt.localinfo.reaction;
+
+public enum ReactionTarget {
+    POST,
+    COMMENT
+}
@@ -0,0 +1,31 @@
+package com.kdt.localinfo.region;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Table(name = "region_adjacency", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_region_adjacency", columnNames = {"region_id", "adjacent_region_id"})
+})
+@NoArgsConstructor
+@Entity
+public class RegionAdjacency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "region_adjacency_id")
+    private Long id;
+
+    @Column(name = "region_id", nullable = false)
+    private Integer regionId;
+
+    @Column(name = "adjacent_region_id", nullable = false)
+    private Integer adjacentRegionId;
+
+    public RegionAdjacency(Integer regionId, Integer adjacentRegionId) {
+        this.regionId = regionId;
+        this.adjacentRegionId = adjacentRegionId;
+    }
+}
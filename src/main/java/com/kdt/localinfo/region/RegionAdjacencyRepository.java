@@ -0,0 +1,6 @@
+package com.kdt.localinfo.region;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface RegionAdjacencyRepository extends JpaRepository<RegionAdjacency, Long> {
+}
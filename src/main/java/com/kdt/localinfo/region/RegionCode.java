@@ -0,0 +1,40 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.user.entity.Region;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+
+@Getter
+@Table(name = "regions", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_regions_name", columnNames = {"city", "district", "neighborhood"})
+})
+@NoArgsConstructor
+@Entity
+public class RegionCode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "region_id")
+    private Integer id;
+
+    @Column(name = "city", nullable = false, length = 30)
+    private String city;
+
+    @Column(name = "district", nullable = false, length = 30)
+    private String district;
+
+    @Column(name = "neighborhood", nullable = false, length = 30)
+    private String neighborhood;
+
+    public RegionCode(Region region) {
+        this.city = region.getCity();
+        this.district = region.getDistrict();
+        this.neighborhood = region.getNeighborhood();
+    }
+
+    public Region toRegion() {
+        return new Region(neighborhood, district, city);
+    }
+}
@@ -0,0 +1,9 @@
+package com.kdt.localinfo.region;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface RegionCodeRepository extends JpaRepository<RegionCode, Integer> {
+    Optional<RegionCode> findByCityAndDistrictAndNeighborhood(String city, String district, String neighborhood);
+}
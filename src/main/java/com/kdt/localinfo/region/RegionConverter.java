@@ -0,0 +1,39 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.user.entity.Region;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.Converter;
+
+/**
+ * Region 값을 regions 테이블의 정수 키로 저장한다.
+ * EntityManagerFactory 생성 중에 만들어지므로 RegionDictionary 는 지연 주입한다.
+ * 플러시 중에 새 트랜잭션을 열지 않도록 조회만 하며, 새 지역은 저장 직전에 RegionRegistrar 가 등록한다.
+ */
+@Component
+@Converter
+public class RegionConverter implements AttributeConverter<Region, Integer> {
+
+    private final RegionDictionary regionDictionary;
+
+    public RegionConverter(@Lazy RegionDictionary regionDictionary) {
+        this.regionDictionary = regionDictionary;
+    }
+
+    @Override
+    public Integer convertToDatabaseColumn(Region region) {
+        if (region == null) {
+            return null;
+        }
+        return regionDictionary.findId(region)
+                .orElseThrow(() -> new IllegalStateException("Region not registered before save: "
+                        + region.getCity() + " " + region.getDistrict() + " " + region.getNeighborhood()));
+    }
+
+    @Override
+    public Region convertToEntityAttribute(Integer regionId) {
+        return regionId == null ? null : regionDictionary.regionOf(regionId);
+    }
+}
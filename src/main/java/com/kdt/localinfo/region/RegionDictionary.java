@@ -0,0 +1,119 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.shard.ReferenceReplicator;
+import com.kdt.localinfo.shard.ReferenceTable;
+import com.kdt.localinfo.shard.ShardContext;
+import com.kdt.localinfo.shard.ShardMap;
+import com.kdt.localinfo.user.entity.Region;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * regions 테이블을 메모리에 올려 두고 지역 이름과 정수 키를 양방향으로 변환한다.
+ * 같은 지역은 항상 같은 Region 인스턴스를 돌려주므로 엔티티마다 문자열을 새로 만들지 않는다.
+ * 새 지역은 기본 shard 에만 추가하고 나머지 shard 로 복사해, 어느 shard 에서나 같은 키를 쓴다.
+ */
+@Slf4j
+@Component
+public class RegionDictionary {
+
+    private final RegionCodeRepository regionCodeRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReferenceReplicator referenceReplicator;
+
+    private final Map<Region, Integer> idsByRegion = new ConcurrentHashMap<>();
+    private final Map<Integer, Region> regionsById = new ConcurrentHashMap<>();
+    private final Map<Region, Object> internLocks = new ConcurrentHashMap<>();
+
+    public RegionDictionary(RegionCodeRepository regionCodeRepository, PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher, ReferenceReplicator referenceReplicator) {
+        this.regionCodeRepository = regionCodeRepository;
+        this.eventPublisher = eventPublisher;
+        this.referenceReplicator = referenceReplicator;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void load() {
+        regionCodeRepository.findAll().forEach(this::register);
+        log.info("Region dictionary loaded: {} regions", regionsById.size());
+    }
+
+    public Optional<Integer> findId(Region region) {
+        return Optional.ofNullable(idsByRegion.get(region));
+    }
+
+    /**
+     * 처음 보는 지역이면 별도 트랜잭션으로 regions 에 추가한다.
+     * 플러시 중에는 커넥션을 하나 더 잡게 되므로 엔티티를 저장하기 전에 서비스에서 호출한다.
+     */
+    public Integer idOf(Region region) {
+        Integer id = idsByRegion.get(region);
+        return id != null ? id : intern(region);
+    }
+
+    public Region regionOf(Integer id) {
+        Region region = regionsById.get(id);
+        if (region != null) {
+            return region;
+        }
+        return ShardContext.call(ShardMap.DEFAULT_SHARD, () -> requiresNewTemplate.execute(status -> regionCodeRepository.findById(id)))
+                .map(this::register)
+                .orElseThrow(() -> new IllegalStateException("Unknown region id: " + id));
+    }
+
+    public Collection<Region> regions() {
+        return regionsById.values();
+    }
+
+    private Integer intern(Region region) {
+        // 같은 지역끼리만 직렬화해 서로 다른 지역의 등록이 커넥션을 쥔 채 줄서지 않게 한다
+        Object lock = internLocks.computeIfAbsent(region, key -> new Object());
+        synchronized (lock) {
+            try {
+                Integer id = idsByRegion.get(region);
+                if (id != null) {
+                    return id;
+                }
+                RegionCode regionCode = ShardContext.call(ShardMap.DEFAULT_SHARD, () -> {
+                    try {
+                        return requiresNewTemplate.execute(status -> findOrSave(region));
+                    } catch (DataIntegrityViolationException e) {
+                        // 다른 노드가 같은 지역을 먼저 추가한 경우
+                        return requiresNewTemplate.execute(status -> findOrSave(region));
+                    }
+                });
+                referenceReplicator.copy(ReferenceTable.REGIONS, regionCode.getId());
+                eventPublisher.publishEvent(new RegionRegisteredEvent(register(regionCode)));
+                return regionCode.getId();
+            } finally {
+                internLocks.remove(region, lock);
+            }
+        }
+    }
+
+    private RegionCode findOrSave(Region region) {
+        return regionCodeRepository.findByCityAndDistrictAndNeighborhood(region.getCity(), region.getDistrict(), region.getNeighborhood())
+                .orElseGet(() -> regionCodeRepository.saveAndFlush(new RegionCode(region)));
+    }
+
+    private Region register(RegionCode regionCode) {
+        Region region = regionCode.toRegion();
+        Region canonical = regionsById.computeIfAbsent(regionCode.getId(), id -> region);
+        idsByRegion.putIfAbsent(canonical, regionCode.getId());
+        return canonical;
+    }
+}
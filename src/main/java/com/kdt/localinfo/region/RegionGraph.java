@@ -0,0 +1,96 @@
+package com.kdt.localinfo.region;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 지역 인접 그래프를 CSR(offsets/targets) 형태의 int 배열로 보관한다.
+ * 인접 관계는 양방향으로 취급하며, 재적재 시 스냅샷을 통째로 교체한다.
+ */
+@Slf4j
+@Component
+public class RegionGraph {
+
+    private final RegionAdjacencyRepository regionAdjacencyRepository;
+
+    private volatile Snapshot snapshot = new Snapshot(new int[]{0}, new int[0]);
+
+    public RegionGraph(RegionAdjacencyRepository regionAdjacencyRepository) {
+        this.regionAdjacencyRepository = regionAdjacencyRepository;
+    }
+
+    @PostConstruct
+    public void reload() {
+        List<RegionAdjacency> edges = regionAdjacencyRepository.findAll();
+        int maxId = 0;
+        for (RegionAdjacency edge : edges) {
+            maxId = Math.max(maxId, Math.max(edge.getRegionId(), edge.getAdjacentRegionId()));
+        }
+
+        int[] offsets = new int[maxId + 2];
+        for (RegionAdjacency edge : edges) {
+            offsets[edge.getRegionId() + 1]++;
+            offsets[edge.getAdjacentRegionId() + 1]++;
+        }
+        for (int i = 1; i < offsets.length; i++) {
+            offsets[i] += offsets[i - 1];
+        }
+
+        int[] targets = new int[offsets[offsets.length - 1]];
+        int[] cursor = Arrays.copyOf(offsets, offsets.length);
+        for (RegionAdjacency edge : edges) {
+            targets[cursor[edge.getRegionId()]++] = edge.getAdjacentRegionId();
+            targets[cursor[edge.getAdjacentRegionId()]++] = edge.getRegionId();
+        }
+
+        snapshot = new Snapshot(offsets, targets);
+        log.info("Region graph loaded: {} edges", edges.size());
+    }
+
+    /**
+     * regionId 에서 hops 단계 이내에 있는 지역 키를 가까운 순서로 돌려준다. 자기 자신이 첫 번째다.
+     */
+    public int[] withinHops(int regionId, int hops) {
+        Snapshot current = snapshot;
+        int regionCount = Math.max(current.offsets.length - 1, regionId + 1);
+        boolean[] visited = new boolean[regionCount];
+        int[] queue = new int[regionCount];
+
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = regionId;
+        visited[regionId] = true;
+
+        for (int depth = 0; depth < hops && head < tail; depth++) {
+            int levelEnd = tail;
+            while (head < levelEnd) {
+                int node = queue[head++];
+                if (node >= current.offsets.length - 1) {
+                    continue;
+                }
+                for (int i = current.offsets[node]; i < current.offsets[node + 1]; i++) {
+                    int next = current.targets[i];
+                    if (!visited[next]) {
+                        visited[next] = true;
+                        queue[tail++] = next;
+                    }
+                }
+            }
+        }
+        return Arrays.copyOf(queue, tail);
+    }
+
+    private static class Snapshot {
+        private final int[] offsets;
+        private final int[] targets;
+
+        private Snapshot(int[] offsets, int[] targets) {
+            this.offsets = offsets;
+            this.targets = targets;
+        }
+    }
+}
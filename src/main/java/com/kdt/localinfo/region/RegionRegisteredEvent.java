@@ -0,0 +1,15 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.user.entity.Region;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * regions 테이블에 새 지역이 추가됐을 때 발행한다.
+ */
+@Getter
+@AllArgsConstructor
+public class RegionRegisteredEvent {
+
+    private final Region region;
+}
@@ -0,0 +1,30 @@
+package com.kdt.localinfo.region;
+
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
+
+/**
+ * 엔티티를 저장하거나 수정하기 직전에 지역을 regions 에 등록해, RegionConverter 가 조회만으로 키를 찾게 한다.
+ * 이미 아는 지역은 메모리에서 끝나고 처음 보는 지역만 RegionDictionary 가 기본 shard 에 추가한다.
+ * @PreUpdate 는 플러시 중에 돌므로 지역을 바꾸는 서비스는 저장 전에 미리 등록해 두어 플러시 중에 연결을 더 잡지 않게 한다.
+ */
+@Component
+public class RegionRegistrar {
+
+    private final RegionDictionary regionDictionary;
+
+    public RegionRegistrar(@Lazy RegionDictionary regionDictionary) {
+        this.regionDictionary = regionDictionary;
+    }
+
+    @PrePersist
+    @PreUpdate
+    public void register(Regional entity) {
+        if (entity.getRegion() != null) {
+            regionDictionary.idOf(entity.getRegion());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.user.entity.Region;
+
+/**
+ * 지역을 정수 키로 저장하는 엔티티. RegionRegistrar 가 저장 직전에 지역을 regions 에 등록한다.
+ */
+public interface Regional {
+
+    Region getRegion();
+}
@@ -0,0 +1,225 @@
+package com.kdt.localinfo.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongPredicate;
+
+/**
+ * 메모리 내장 역색인. 새 문서는 버퍼에 쌓였다가 불변 세그먼트로 내려가고,
+ * 세그먼트는 백그라운드에서 병합된다. 점수는 BM25 로 계산하고, 문서 빈도는 살아있는 문서만 센다.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final long BUFFER = -1L;
+    private static final long ABSENT = -2L;
+
+    private final Tokenizer tokenizer;
+    private final int bufferLimit;
+
+    private final Map<Long, DocInfo> docs = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+    private final AtomicLong segmentSequence = new AtomicLong();
+
+    private volatile Map<Long, Map<Long, Integer>> buffer = new ConcurrentHashMap<>();
+    private volatile List<Segment> segments = List.of();
+
+    public InvertedIndex(Tokenizer tokenizer, int bufferLimit) {
+        this.tokenizer = tokenizer;
+        this.bufferLimit = bufferLimit;
+    }
+
+    public synchronized void add(long docId, CharSequence text) {
+        removeInternal(docId);
+        Map<Long, Integer> termFrequencies = new HashMap<>();
+        tokenizer.tokenize(text, (chars, offset, length) ->
+                termFrequencies.merge(TermHash.hash(chars, offset, length), 1, Integer::sum));
+        int docLength = termFrequencies.values().stream().mapToInt(Integer::intValue).sum();
+
+        buffer.put(docId, termFrequencies);
+        docs.put(docId, new DocInfo(BUFFER, docLength));
+        totalLength.addAndGet(docLength);
+        if (buffer.size() >= bufferLimit) {
+            flush();
+        }
+    }
+
+    public synchronized void remove(long docId) {
+        removeInternal(docId);
+    }
+
+    public synchronized void flush() {
+        Map<Long, Map<Long, Integer>> flushing = buffer;
+        if (flushing.isEmpty()) {
+            return;
+        }
+        Segment segment = Segment.build(segmentSequence.incrementAndGet(), flushing);
+        for (long docId : segment.getDocIds()) {
+            docs.computeIfPresent(docId, (key, info) -> info.segmentId == BUFFER ? info.moveTo(segment.getId()) : info);
+        }
+        List<Segment> next = new ArrayList<>(segments);
+        next.add(segment);
+        segments = List.copyOf(next);
+        buffer = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 세그먼트가 maxSegments 개를 넘으면 가장 작은 것들을 하나로 합쳐 maxSegments 개로 줄인다.
+     * 병합은 잠금 밖에서 하고 교체만 잠금 안에서 한다.
+     */
+    public boolean mergeSmallest(int maxSegments) {
+        List<Segment> snapshot = segments;
+        if (snapshot.size() <= Math.max(maxSegments, 1)) {
+            return false;
+        }
+        List<Segment> picked = new ArrayList<>(snapshot);
+        picked.sort(Comparator.comparingInt(Segment::docCount));
+        picked = picked.subList(0, snapshot.size() - Math.max(maxSegments, 1) + 1);
+
+        Set<Long> pickedIds = new HashSet<>();
+        picked.forEach(segment -> pickedIds.add(segment.getId()));
+        Segment merged = Segment.merge(segmentSequence.incrementAndGet(), picked, this::homeOf);
+
+        synchronized (this) {
+            for (long docId : merged.getDocIds()) {
+                docs.computeIfPresent(docId, (key, info) -> pickedIds.contains(info.segmentId) ? info.moveTo(merged.getId()) : info);
+            }
+            List<Segment> next = new ArrayList<>(segments);
+            next.removeIf(segment -> pickedIds.contains(segment.getId()));
+            next.add(merged);
+            segments = List.copyOf(next);
+        }
+        return true;
+    }
+
+    public int docCount() {
+        return docs.size();
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * BM25 점수 순으로 offset 부터 limit 개의 문서 ID 를 돌려준다. filter 를 통과한 문서만 대상이 된다.
+     */
+    public List<Long> search(CharSequence query, LongPredicate filter, int offset, int limit) {
+        Set<Long> terms = new HashSet<>();
+        tokenizer.tokenizeQuery(query, (chars, start, length) -> terms.add(TermHash.hash(chars, start, length)));
+        int docCount = docs.size();
+        if (terms.isEmpty() || docCount == 0 || limit <= 0) {
+            return List.of();
+        }
+
+        double averageLength = Math.max(1.0, (double) totalLength.get() / docCount);
+        List<Segment> segmentSnapshot = segments;
+        Map<Long, Map<Long, Integer>> bufferSnapshot = buffer;
+        ScoreTable scores = new ScoreTable(Math.min(docCount, 1024));
+        TermMatches matches = new TermMatches();
+
+        for (long term : terms) {
+            matches.clear();
+            for (Segment segment : segmentSnapshot) {
+                PostingList postingList = segment.postingsOf(term);
+                if (postingList == null) {
+                    continue;
+                }
+                PostingList.Cursor cursor = postingList.cursor();
+                while (cursor.next()) {
+                    match(matches, cursor.docId(), segment.getId(), cursor.frequency(), averageLength, filter);
+                }
+            }
+            bufferSnapshot.forEach((docId, termFrequencies) -> {
+                Integer frequency = termFrequencies.get(term);
+                if (frequency != null) {
+                    match(matches, docId, BUFFER, frequency, averageLength, filter);
+                }
+            });
+            if (matches.documentFrequency == 0) {
+                continue;
+            }
+            double idf = Math.log(1 + (docCount - matches.documentFrequency + 0.5) / (matches.documentFrequency + 0.5));
+            for (int i = 0; i < matches.size; i++) {
+                scores.add(matches.docIds[i], idf * matches.weights[i]);
+            }
+        }
+        return scores.top(offset, limit);
+    }
+
+    // 지워졌거나 다른 세그먼트로 옮겨 간 문서의 포스팅은 문서 빈도에도 점수에도 넣지 않는다.
+    // 필터는 점수 대상만 거르고 문서 빈도는 살아있는 문서 전체로 센다.
+    private void match(TermMatches matches, long docId, long segmentId, int frequency, double averageLength, LongPredicate filter) {
+        DocInfo info = docs.get(docId);
+        if (info == null || info.segmentId != segmentId) {
+            return;
+        }
+        matches.documentFrequency++;
+        if (!filter.test(docId)) {
+            return;
+        }
+        double norm = K1 * (1 - B + B * info.length / averageLength);
+        matches.add(docId, frequency * (K1 + 1) / (frequency + norm));
+    }
+
+    private long homeOf(long docId) {
+        DocInfo info = docs.get(docId);
+        return info == null ? ABSENT : info.segmentId;
+    }
+
+    private void removeInternal(long docId) {
+        DocInfo previous = docs.remove(docId);
+        if (previous == null) {
+            return;
+        }
+        totalLength.addAndGet(-previous.length);
+        if (previous.segmentId == BUFFER) {
+            buffer.remove(docId);
+        }
+    }
+
+    // 검색어 하나에 걸린 문서와 idf 를 곱하기 전 점수. idf 는 문서 빈도를 다 센 뒤에야 정해진다.
+    private static class TermMatches {
+        private long[] docIds = new long[64];
+        private double[] weights = new double[64];
+        private int size;
+        private int documentFrequency;
+
+        private void add(long docId, double weight) {
+            if (size == docIds.length) {
+                docIds = Arrays.copyOf(docIds, size * 2);
+                weights = Arrays.copyOf(weights, size * 2);
+            }
+            docIds[size] = docId;
+            weights[size] = weight;
+            size++;
+        }
+
+        private void clear() {
+            size = 0;
+            documentFrequency = 0;
+        }
+    }
+
+    private static class DocInfo {
+        private final long segmentId;
+        private final int length;
+
+        private DocInfo(long segmentId, int length) {
+            this.segmentId = segmentId;
+            this.length = length;
+        }
+
+        private DocInfo moveTo(long nextSegmentId) {
+            return new DocInfo(nextSegmentId, length);
+        }
+    }
+}
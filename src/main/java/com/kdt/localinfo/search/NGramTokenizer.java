@@ -0,0 +1,146 @@
+package com.kdt.localinfo.search;
+
+import java.text.Normalizer;
+
+/**
+ * 한글 음절은 2~3글자 n-gram 으로, 그 밖의 글자와 숫자는 단어 단위로 자르는 토크나이저.
+ * 색인할 때는 음절 하나짜리 토큰과, 마지막 음절을 입력 중인 모양으로 바꾼 n-gram 도 함께 넣는다.
+ * 마지막 음절은 받침을 뗀 것("맛지" → "맛집"), 초성만 남긴 것("ㄱ", "가ㄴ" → "가나"),
+ * 받침을 자모로 떼어 낸 것("가ㄴ" → "간") 으로 바꿔, 한 글자나 입력 중인 검색어로도 찾히게 한다.
+ * 검색어에서는 단어 끝에 홀로 붙은 자모 하나만 글자로 보고, "ㅋㅋ" 처럼 자모만 이어진 것은 구분자로 본다.
+ * 문서마다 버퍼 하나만 만들고 토큰은 그 버퍼의 구간으로 넘긴다.
+ */
+public class NGramTokenizer implements Tokenizer {
+
+    private static final char SYLLABLE_FIRST = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final char CONJOINING_JAMO_FIRST = 'ᄀ';
+    private static final char CONJOINING_JAMO_LAST = 'ᇿ';
+    private static final char COMPATIBILITY_JAMO_FIRST = 'ㄱ';
+    private static final char COMPATIBILITY_JAMO_LAST = 'ㆎ';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+    private static final int MIN_GRAM = 2;
+    private static final int MAX_GRAM = 3;
+
+    // 초성 순서대로의 호환 자모
+    private static final String CHOSEONG_JAMO = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+    // 받침 순서대로, 받침을 떼어 낼 때 음절에 남는 받침 번호와 떼어 낸 자모. 겹받침은 앞 자음이 남는다.
+    private static final int[] JONGSEONG_REMAINDER = {0, 0, 0, 1, 0, 4, 4, 0, 0, 8, 8, 8, 8, 8, 8, 8, 0, 0, 17, 0, 0, 0, 0, 0, 0, 0, 0, 0};
+    private static final String JONGSEONG_TAIL = " ㄱㄲㅅㄴㅈㅎㄷㄹㄱㅁㅂㅅㅌㅍㅎㅁㅂㅅㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+
+    @Override
+    public void tokenize(CharSequence text, TokenConsumer consumer) {
+        tokenize(text, consumer, true);
+    }
+
+    @Override
+    public void tokenizeQuery(CharSequence text, TokenConsumer consumer) {
+        tokenize(text, consumer, false);
+    }
+
+    private void tokenize(CharSequence text, TokenConsumer consumer, boolean withPrefixVariants) {
+        CharSequence normalized = normalize(text);
+        char[] buffer = new char[Math.max(normalized.length(), MAX_GRAM)];
+        char[] variant = new char[MAX_GRAM];
+        int length = 0;
+        boolean hangulRun = false;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean jamo = isCompatibilityJamo(c);
+            boolean separator = !Character.isLetterOrDigit(c) || (jamo && (withPrefixVariants || !isTrailingJamo(normalized, i)));
+            boolean hangul = isSyllable(c) || jamo;
+            if (separator || (length > 0 && hangul != hangulRun)) {
+                emitRun(buffer, length, hangulRun, withPrefixVariants, variant, consumer);
+                length = 0;
+            }
+            if (!separator) {
+                buffer[length++] = Character.toLowerCase(c);
+                hangulRun = hangul;
+            }
+        }
+        emitRun(buffer, length, hangulRun, withPrefixVariants, variant, consumer);
+    }
+
+    private void emitRun(char[] buffer, int length, boolean hangul, boolean withPrefixVariants,
+                         char[] variant, TokenConsumer consumer) {
+        if (length == 0) {
+            return;
+        }
+        if (!hangul || (length < MIN_GRAM && !withPrefixVariants)) {
+            consumer.accept(buffer, 0, length);
+            return;
+        }
+        for (int start = 0; start < length; start++) {
+            if (withPrefixVariants) {
+                // 한 글자 검색어("맛")도 여러 음절 단어("맛집")에 맞도록 음절 하나씩도 색인한다
+                consumer.accept(buffer, start, 1);
+                emitTyping(buffer, start, 1, variant, consumer);
+            }
+            for (int size = MIN_GRAM; size <= MAX_GRAM && start + size <= length; size++) {
+                consumer.accept(buffer, start, size);
+                if (withPrefixVariants) {
+                    emitWithoutJongseong(buffer, start, size, variant, consumer);
+                    emitTyping(buffer, start, size, variant, consumer);
+                }
+            }
+        }
+    }
+
+    private void emitWithoutJongseong(char[] buffer, int start, int size, char[] variant, TokenConsumer consumer) {
+        char last = buffer[start + size - 1];
+        int jongseong = (last - SYLLABLE_FIRST) % JONGSEONG_COUNT;
+        if (jongseong == 0) {
+            return;
+        }
+        System.arraycopy(buffer, start, variant, 0, size);
+        variant[size - 1] = (char) (last - jongseong);
+        consumer.accept(variant, 0, size);
+    }
+
+    // 마지막 음절을 초성만 남긴 모양과, 받침을 자모로 떼어 낸 모양으로 넣는다. 길이가 MAX_GRAM 을 넘는 변형은 넣지 않는다.
+    private void emitTyping(char[] buffer, int start, int size, char[] variant, TokenConsumer consumer) {
+        char last = buffer[start + size - 1];
+        if (!isSyllable(last)) {
+            return;
+        }
+        int index = last - SYLLABLE_FIRST;
+        System.arraycopy(buffer, start, variant, 0, size);
+        variant[size - 1] = CHOSEONG_JAMO.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT));
+        consumer.accept(variant, 0, size);
+
+        int jongseong = index % JONGSEONG_COUNT;
+        if (jongseong == 0 || size + 1 > MAX_GRAM) {
+            return;
+        }
+        variant[size - 1] = (char) (last - jongseong + JONGSEONG_REMAINDER[jongseong]);
+        variant[size] = JONGSEONG_TAIL.charAt(jongseong);
+        consumer.accept(variant, 0, size + 1);
+    }
+
+    // 자모가 단어 끝에 하나만 붙어 있을 때만 입력 중인 글자로 본다.
+    private boolean isTrailingJamo(CharSequence text, int index) {
+        boolean afterJamo = index > 0 && isCompatibilityJamo(text.charAt(index - 1));
+        boolean beforeLetter = index + 1 < text.length() && Character.isLetterOrDigit(text.charAt(index + 1));
+        return !afterJamo && !beforeLetter;
+    }
+
+    private CharSequence normalize(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= CONJOINING_JAMO_FIRST && c <= CONJOINING_JAMO_LAST) {
+                return Normalizer.normalize(text, Normalizer.Form.NFC);
+            }
+        }
+        return text;
+    }
+
+    private boolean isSyllable(char c) {
+        return c >= SYLLABLE_FIRST && c <= SYLLABLE_LAST;
+    }
+
+    private boolean isCompatibilityJamo(char c) {
+        return c >= COMPATIBILITY_JAMO_FIRST && c <= COMPATIBILITY_JAMO_LAST;
+    }
+}
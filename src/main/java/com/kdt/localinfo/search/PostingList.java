@@ -0,0 +1,108 @@
+package com.kdt.localinfo.search;
+
+import java.util.Arrays;
+
+/**
+ * 문서 ID 차분값과 출현 빈도를 가변 길이 정수(varint)로 압축한 포스팅 리스트.
+ * 문서 ID 는 오름차순으로만 추가할 수 있다.
+ */
+public class PostingList {
+
+    private final byte[] data;
+    private final int length;
+    private final int docCount;
+
+    private PostingList(byte[] data, int length, int docCount) {
+        this.data = data;
+        this.length = length;
+        this.docCount = docCount;
+    }
+
+    public int getDocCount() {
+        return docCount;
+    }
+
+    public int sizeInBytes() {
+        return length;
+    }
+
+    public Cursor cursor() {
+        return new Cursor();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public class Cursor {
+        private int position;
+        private long docId;
+        private int frequency;
+
+        public boolean next() {
+            if (position >= length) {
+                return false;
+            }
+            docId += readVarLong();
+            frequency = (int) readVarLong();
+            return true;
+        }
+
+        public long docId() {
+            return docId;
+        }
+
+        public int frequency() {
+            return frequency;
+        }
+
+        private long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+    }
+
+    public static class Builder {
+        private byte[] data = new byte[16];
+        private int length;
+        private int docCount;
+        private long lastDocId;
+
+        public Builder add(long docId, int frequency) {
+            if (docCount > 0 && docId <= lastDocId) {
+                throw new IllegalArgumentException("Posting doc ids must be strictly increasing");
+            }
+            writeVarLong(docCount == 0 ? docId : docId - lastDocId);
+            writeVarLong(frequency);
+            lastDocId = docId;
+            docCount++;
+            return this;
+        }
+
+        public boolean isEmpty() {
+            return docCount == 0;
+        }
+
+        public PostingList build() {
+            return new PostingList(Arrays.copyOf(data, length), length, docCount);
+        }
+
+        private void writeVarLong(long value) {
+            if (length + 10 > data.length) {
+                data = Arrays.copyOf(data, data.length * 2);
+            }
+            while ((value & ~0x7FL) != 0) {
+                data[length++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            data[length++] = (byte) value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.kdt.localinfo.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 검색 한 번 동안 문서별 점수를 더하는 표. 문서 ID 와 점수를 박싱하지 않도록 배열 위에 열린 주소법으로 둔다.
+ * 상위 문서는 점수 순, 같으면 큰 문서 ID 순으로 크기 offset + limit 의 최소 힙에서 고른다.
+ */
+final class ScoreTable {
+
+    private long[] docIds;
+    private double[] scores;
+    private boolean[] used;
+    private int size;
+
+    ScoreTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        allocate(capacity);
+    }
+
+    void add(long docId, double score) {
+        if ((size + 1) * 2 > docIds.length) {
+            resize();
+        }
+        int slot = slotOf(docId);
+        if (!used[slot]) {
+            used[slot] = true;
+            docIds[slot] = docId;
+            size++;
+        }
+        scores[slot] += score;
+    }
+
+    int size() {
+        return size;
+    }
+
+    List<Long> top(int offset, int limit) {
+        int wanted = offset + limit;
+        int[] heap = new int[Math.min(wanted, size)];
+        int heapSize = 0;
+        for (int slot = 0; slot < docIds.length; slot++) {
+            if (!used[slot]) {
+                continue;
+            }
+            if (heapSize < heap.length) {
+                heap[heapSize] = slot;
+                siftUp(heap, heapSize++);
+            } else if (heapSize > 0 && ranksAbove(slot, heap[0])) {
+                heap[0] = slot;
+                siftDown(heap, heapSize);
+            }
+        }
+
+        // 힙에서 가장 낮은 것부터 꺼내 뒤에서부터 채우면 높은 순으로 정렬된다.
+        long[] ranked = new long[heapSize];
+        for (int i = heapSize - 1; i >= 0; i--) {
+            ranked[i] = docIds[heap[0]];
+            heap[0] = heap[i];
+            siftDown(heap, i);
+        }
+        List<Long> page = new ArrayList<>(limit);
+        for (int i = offset; i < ranked.length && page.size() < limit; i++) {
+            page.add(ranked[i]);
+        }
+        return page;
+    }
+
+    private boolean ranksAbove(int slot, int other) {
+        return scores[slot] > scores[other] || (scores[slot] == scores[other] && docIds[slot] > docIds[other]);
+    }
+
+    private void siftUp(int[] heap, int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (!ranksAbove(heap[parent], heap[position])) {
+                break;
+            }
+            swap(heap, parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int[] heap, int heapSize) {
+        int position = 0;
+        while (true) {
+            int lowest = position;
+            int left = position * 2 + 1;
+            int right = left + 1;
+            if (left < heapSize && ranksAbove(heap[lowest], heap[left])) {
+                lowest = left;
+            }
+            if (right < heapSize && ranksAbove(heap[lowest], heap[right])) {
+                lowest = right;
+            }
+            if (lowest == position) {
+                return;
+            }
+            swap(heap, position, lowest);
+            position = lowest;
+        }
+    }
+
+    private static void swap(int[] heap, int i, int j) {
+        int value = heap[i];
+        heap[i] = heap[j];
+        heap[j] = value;
+    }
+
+    private int slotOf(long docId) {
+        int mask = docIds.length - 1;
+        int slot = (int) ((docId * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+        while (used[slot] && docIds[slot] != docId) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] previousDocIds = docIds;
+        double[] previousScores = scores;
+        boolean[] previousUsed = used;
+        allocate(previousDocIds.length * 2);
+        for (int i = 0; i < previousDocIds.length; i++) {
+            if (previousUsed[i]) {
+                int slot = slotOf(previousDocIds[i]);
+                used[slot] = true;
+                docIds[slot] = previousDocIds[i];
+                scores[slot] = previousScores[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        docIds = new long[capacity];
+        scores = new double[capacity];
+        used = new boolean[capacity];
+    }
+}
@@ -0,0 +1,90 @@
+package com.kdt.localinfo.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 한 번 만들어지면 바뀌지 않는 색인 조각. 용어 해시별 압축 포스팅 리스트를 가진다.
+ */
+class Segment {
+
+    private final long id;
+    private final Map<Long, PostingList> postings;
+    private final long[] docIds;
+
+    private Segment(long id, Map<Long, PostingList> postings, long[] docIds) {
+        this.id = id;
+        this.postings = postings;
+        this.docIds = docIds;
+    }
+
+    static Segment build(long id, Map<Long, Map<Long, Integer>> termFrequenciesByDoc) {
+        long[] docIds = termFrequenciesByDoc.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+        Map<Long, PostingList.Builder> builders = new HashMap<>();
+        for (long docId : docIds) {
+            termFrequenciesByDoc.get(docId).forEach((term, frequency) ->
+                    builders.computeIfAbsent(term, key -> PostingList.builder()).add(docId, frequency));
+        }
+        return new Segment(id, buildAll(builders), docIds);
+    }
+
+    /**
+     * 여러 조각을 합친다. 문서가 현재 속한 조각(homeOf)의 포스팅만 남기고 수정·삭제로 낡은 포스팅은 버린다.
+     */
+    static Segment merge(long id, List<Segment> segments, LongUnaryOperator homeOf) {
+        Map<Long, List<long[]>> merged = new HashMap<>();
+        List<Long> liveDocIds = new ArrayList<>();
+        for (Segment segment : segments) {
+            for (long docId : segment.docIds) {
+                if (homeOf.applyAsLong(docId) == segment.id) {
+                    liveDocIds.add(docId);
+                }
+            }
+            segment.postings.forEach((term, postingList) -> {
+                PostingList.Cursor cursor = postingList.cursor();
+                while (cursor.next()) {
+                    if (homeOf.applyAsLong(cursor.docId()) == segment.id) {
+                        merged.computeIfAbsent(term, key -> new ArrayList<>())
+                                .add(new long[]{cursor.docId(), cursor.frequency()});
+                    }
+                }
+            });
+        }
+
+        Map<Long, PostingList.Builder> builders = new HashMap<>();
+        merged.forEach((term, entries) -> {
+            entries.sort((a, b) -> Long.compare(a[0], b[0]));
+            PostingList.Builder builder = PostingList.builder();
+            entries.forEach(entry -> builder.add(entry[0], (int) entry[1]));
+            builders.put(term, builder);
+        });
+        long[] docIds = liveDocIds.stream().mapToLong(Long::longValue).sorted().toArray();
+        return new Segment(id, buildAll(builders), docIds);
+    }
+
+    private static Map<Long, PostingList> buildAll(Map<Long, PostingList.Builder> builders) {
+        Map<Long, PostingList> postings = new HashMap<>(builders.size() * 2);
+        builders.forEach((term, builder) -> postings.put(term, builder.build()));
+        return postings;
+    }
+
+    long getId() {
+        return id;
+    }
+
+    PostingList postingsOf(long term) {
+        return postings.get(term);
+    }
+
+    long[] getDocIds() {
+        return Arrays.copyOf(docIds, docIds.length);
+    }
+
+    int docCount() {
+        return docIds.length;
+    }
+}
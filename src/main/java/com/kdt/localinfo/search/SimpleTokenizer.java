@@ -0,0 +1,27 @@
+package com.kdt.localinfo.search;
+
+/**
+ * 글자와 숫자가 아닌 문자를 경계로 자르고 소문자로 바꾸는 기본 토크나이저.
+ */
+public class SimpleTokenizer implements Tokenizer {
+
+    @Override
+    public void tokenize(CharSequence text, TokenConsumer consumer) {
+        char[] buffer = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                buffer[length++] = Character.toLowerCase(c);
+                continue;
+            }
+            if (length > 0) {
+                consumer.accept(buffer, 0, length);
+                length = 0;
+            }
+        }
+        if (length > 0) {
+            consumer.accept(buffer, 0, length);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.kdt.localinfo.search;
+
+/**
+ * 토큰을 64비트 FNV-1a 해시로 바꿔 색인 키로 쓴다. 토큰마다 String 을 만들지 않기 위함이다.
+ */
+public class TermHash {
+
+    private static final long OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long PRIME = 0x100000001b3L;
+
+    private TermHash() {
+    }
+
+    public static long hash(char[] buffer, int offset, int length) {
+        long hash = OFFSET_BASIS;
+        for (int i = offset; i < offset + length; i++) {
+            char c = buffer[i];
+            hash ^= c & 0xff;
+            hash *= PRIME;
+            hash ^= c >>> 8;
+            hash *= PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,21 @@
+package com.kdt.localinfo.search;
+
+/**
+ * 본문을 검색어 단위로 자른다. 토큰은 문자열을 만들지 않고 버퍼 구간으로 넘긴다.
+ */
+public interface Tokenizer {
+
+    void tokenize(CharSequence text, TokenConsumer consumer);
+
+    /**
+     * 검색어를 자른다. 색인 전용 변형 토큰을 빼야 하는 구현만 재정의한다.
+     */
+    default void tokenizeQuery(CharSequence text, TokenConsumer consumer) {
+        tokenize(text, consumer);
+    }
+
+    @FunctionalInterface
+    interface TokenConsumer {
+        void accept(char[] buffer, int offset, int length);
+    }
+}
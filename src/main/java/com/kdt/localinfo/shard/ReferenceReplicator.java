@@ -0,0 +1,157 @@
+package com.kdt.localinfo.shard;
+
+import com.kdt.localinfo.common.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 기본 shard 에 쓴 참조 테이블 행을 나머지 shard 에 같은 키로 복사한다.
+ * 참조 테이블은 기본 shard 의 IDENTITY 로만 키를 받으므로 shard 마다 키가 달라지지 않는다.
+ * 커밋 뒤 복사가 실패해도 시작할 때 전체를 다시 맞추므로, 다른 shard 의 참조 행은 늦어도 다음 시작에 따라온다.
+ */
+@Slf4j
+@Component
+public class ReferenceReplicator {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ShardMap shardMap;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTemplate;
+
+    public ReferenceReplicator(ShardMap shardMap, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.shardMap = shardMap;
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 기본 shard 에 커밋된 행 하나를 바로 복사한다. 호출한 트랜잭션과 별개로 shard 마다 새 트랜잭션을 연다.
+     */
+    public void copy(ReferenceTable table, long id) {
+        if (shardMap.size() == 1) {
+            return;
+        }
+        write(table, read(table, id - 1, id, 1));
+    }
+
+    /**
+     * 지금 트랜잭션이 커밋된 뒤에 복사한다. 롤백되면 복사하지 않는다.
+     */
+    public void copyAfterCommit(ReferenceTable table, long id) {
+        if (shardMap.size() == 1) {
+            return;
+        }
+        AfterCommit.run("Reference copy " + table.getTable() + " " + id, () -> copy(table, id));
+    }
+
+    /**
+     * 시작할 때 기본 shard 의 참조 테이블 전체를 구간마다 나눠 다른 shard 로 복사한다.
+     * 다른 준비 작업이 다른 shard 를 읽기 전에 끝나도록 가장 먼저 돈다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void copyAll() {
+        if (shardMap.size() == 1) {
+            return;
+        }
+        for (ReferenceTable table : ReferenceTable.values()) {
+            long lastId = 0L;
+            int copied = 0;
+            Chunk chunk;
+            do {
+                chunk = read(table, lastId, Long.MAX_VALUE, CHUNK_SIZE);
+                write(table, chunk);
+                copied += chunk.rows.size();
+                lastId = chunk.untilId;
+            } while (chunk.rows.size() == CHUNK_SIZE);
+            log.info("Reference table {} copied to {} shards: {} rows", table.getTable(), shardMap.size() - 1, copied);
+        }
+    }
+
+    // 호출한 트랜잭션이 다른 shard 의 연결을 잡고 있을 수 있어 읽을 때도 새 트랜잭션을 연다.
+    private Chunk read(ReferenceTable table, long afterId, long untilId, int limit) {
+        return ShardContext.call(ShardMap.DEFAULT_SHARD, () -> requiresNewTemplate.execute(status -> {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT * FROM " + table.getTable() + " WHERE " + table.getIdColumn() + " > ? AND " + table.getIdColumn() + " <= ?"
+                            + " ORDER BY " + table.getIdColumn() + " LIMIT ?", afterId, untilId, limit);
+            long lastId = rows.isEmpty() ? afterId : ((Number) rows.get(rows.size() - 1).get(table.getIdColumn())).longValue();
+            List<Map<String, Object>> children = Collections.emptyList();
+            if (table.hasChildTable() && !rows.isEmpty()) {
+                children = jdbcTemplate.queryForList(
+                        "SELECT * FROM " + table.getChildTable() + " WHERE " + table.getChildIdColumn() + " > ? AND " + table.getChildIdColumn() + " <= ?",
+                        afterId, lastId);
+            }
+            return new Chunk(afterId, lastId, rows, children);
+        }));
+    }
+
+    private void write(ReferenceTable table, Chunk chunk) {
+        if (chunk.rows.isEmpty()) {
+            return;
+        }
+        for (int shard : shardMap.shards()) {
+            if (shard == ShardMap.DEFAULT_SHARD) {
+                continue;
+            }
+            ShardContext.run(shard, () -> requiresNewTemplate.executeWithoutResult(status -> {
+                chunk.rows.forEach(row -> upsert(table.getTable(), table.getIdColumn(), row));
+                if (table.hasChildTable()) {
+                    jdbcTemplate.update("DELETE FROM " + table.getChildTable() + " WHERE " + table.getChildIdColumn() + " > ? AND "
+                            + table.getChildIdColumn() + " <= ?", chunk.afterId, chunk.untilId);
+                    chunk.children.forEach(row -> insert(table.getChildTable(), row));
+                }
+            }));
+        }
+    }
+
+    private void upsert(String table, String idColumn, Map<String, Object> row) {
+        List<String> columns = row.keySet().stream()
+                .filter(column -> !column.equalsIgnoreCase(idColumn))
+                .collect(Collectors.toList());
+        List<Object> values = new ArrayList<>(columns.size() + 1);
+        columns.forEach(column -> values.add(row.get(column)));
+        values.add(row.get(idColumn));
+        String assignments = columns.stream().map(column -> column + " = ?").collect(Collectors.joining(", "));
+        if (jdbcTemplate.update("UPDATE " + table + " SET " + assignments + " WHERE " + idColumn + " = ?", values.toArray()) == 0) {
+            insert(table, row);
+        }
+    }
+
+    private void insert(String table, Map<String, Object> row) {
+        List<String> columns = new ArrayList<>(row.keySet());
+        String placeholders = String.join(", ", Collections.nCopies(columns.size(), "?"));
+        jdbcTemplate.update("INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES (" + placeholders + ")",
+                columns.stream().map(row::get).toArray());
+    }
+
+    private static class Chunk {
+
+        private final long afterId;
+        private final long untilId;
+        private final List<Map<String, Object>> rows;
+        private final List<Map<String, Object>> children;
+
+        private Chunk(long afterId, long untilId, List<Map<String, Object>> rows, List<Map<String, Object>> children) {
+            this.afterId = afterId;
+            this.untilId = untilId;
+            this.rows = rows;
+            this.children = children;
+        }
+    }
+}
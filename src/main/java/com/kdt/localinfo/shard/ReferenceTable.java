@@ -0,0 +1,37 @@
+package com.kdt.localinfo.shard;
+
+import lombok.Getter;
+
+/**
+ * 모든 shard 에 같은 내용으로 두는 참조 테이블. 기본 shard 에만 쓰고 ReferenceReplicator 가 나머지 shard 로 복사한다.
+ * 순서대로 복사하므로 다른 테이블이 참조하는 테이블을 앞에 둔다.
+ */
+@Getter
+public enum ReferenceTable {
+
+    REGIONS("regions", "region_id"),
+    REGION_ADJACENCY("region_adjacency", "region_adjacency_id"),
+    CATEGORIES("categories", "category_id"),
+    TAGS("tags", "tag_id"),
+    USERS("users", "user_id", "user_roles", "user_user_id");
+
+    private final String table;
+    private final String idColumn;
+    private final String childTable;
+    private final String childIdColumn;
+
+    ReferenceTable(String table, String idColumn) {
+        this(table, idColumn, null, null);
+    }
+
+    ReferenceTable(String table, String idColumn, String childTable, String childIdColumn) {
+        this.table = table;
+        this.idColumn = idColumn;
+        this.childTable = childTable;
+        this.childIdColumn = childIdColumn;
+    }
+
+    public boolean hasChildTable() {
+        return childTable != null;
+    }
+}
@@ -0,0 +1,7 @@
+package com.kdt.localinfo.shard;
+
+@FunctionalInterface
+public interface ShardCallable<T, E extends Exception> {
+
+    T call() throws E;
+}
@@ -0,0 +1,39 @@
+package com.kdt.localinfo.shard;
+
+/**
+ * 현재 스레드가 쓸 shard 번호. 정하지 않으면 기본 shard(0) 를 쓴다.
+ * 연결은 트랜잭션이 처음 쿼리를 낼 때 잡히므로, 이미 연결을 잡은 트랜잭션 안에서 바꾸면 REQUIRES_NEW 트랜잭션에만 적용된다.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    public static int current() {
+        Integer shard = CURRENT.get();
+        return shard == null ? ShardMap.DEFAULT_SHARD : shard;
+    }
+
+    public static <T, E extends Exception> T call(int shard, ShardCallable<T, E> action) throws E {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.call();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void run(int shard, Runnable action) {
+        call(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,121 @@
+package com.kdt.localinfo.shard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+/**
+ * 도시나 id 로 shard 를 정해 작업을 돌리고, 여러 shard 에 걸친 조회는 shard 마다 나눠 동시에 돌려 모은다.
+ */
+@Component
+public class ShardExecutor {
+
+    private final ShardMap shardMap;
+    private final TransactionTemplate readOnlyTemplate;
+    private final ExecutorService executor;
+    private final long timeoutMillis;
+
+    public ShardExecutor(ShardMap shardMap, PlatformTransactionManager transactionManager,
+                         @Value("${local-info.sharding.scatter-timeout-ms:5000}") long timeoutMillis) {
+        this.shardMap = shardMap;
+        this.readOnlyTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTemplate.setReadOnly(true);
+        this.timeoutMillis = timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(shardMap.size(), 2), runnable -> {
+            Thread thread = new Thread(runnable, "shard-scatter-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public <T, E extends Exception> T onCity(String city, ShardCallable<T, E> action) throws E {
+        return ShardContext.call(shardMap.shardOfCity(city), action);
+    }
+
+    public <T, E extends Exception> T onId(Long id, ShardCallable<T, E> action) throws E {
+        return ShardContext.call(shardMap.shardOfId(id), action);
+    }
+
+    /**
+     * shard 를 하나씩 차례로 돌며 작업한다. 배치 작업처럼 트랜잭션 밖에서 부르는 곳에서 쓴다.
+     */
+    public void forEachShard(IntConsumer action) {
+        for (int shard : shardMap.shards()) {
+            ShardContext.run(shard, () -> action.accept(shard));
+        }
+    }
+
+    public List<Integer> shardsOfCity(String city) {
+        return shardMap.shardsOfCity(city);
+    }
+
+    public Map<Integer, List<Long>> groupByShard(Collection<Long> ids) {
+        return ids.stream().collect(Collectors.groupingBy(shardMap::shardOfId, LinkedHashMap::new, Collectors.toList()));
+    }
+
+    public <T> List<T> scatterGather(Function<Integer, T> query) {
+        return scatterGather(shardMap.shards(), query);
+    }
+
+    /**
+     * shard 마다 읽기 전용 트랜잭션을 따로 열어 동시에 조회하고, 결과를 넘겨준 shard 순서대로 돌려준다.
+     * 현재 shard 하나만 필요하면 다른 스레드로 넘기지 않고 호출한 트랜잭션 안에서 바로 조회한다.
+     */
+    public <T> List<T> scatterGather(Collection<Integer> shards, Function<Integer, T> query) {
+        if (shards.isEmpty()) {
+            return List.of();
+        }
+        if (shards.size() == 1 && shards.contains(ShardContext.current())) {
+            return List.of(query.apply(ShardContext.current()));
+        }
+
+        List<Future<T>> futures = new ArrayList<>(shards.size());
+        for (int shard : shards) {
+            futures.add(executor.submit(() -> ShardContext.call(shard, () -> readOnlyTemplate.execute(status -> query.apply(shard)))));
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        List<T> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<T> future : futures) {
+                results.add(future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException("shard query failed", e.getCause());
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("shard query timed out after " + timeoutMillis + "ms", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("shard query interrupted", e);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        executor.shutdownNow();
+    }
+}
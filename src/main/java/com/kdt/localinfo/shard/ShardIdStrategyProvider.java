@@ -0,0 +1,24 @@
+package com.kdt.localinfo.shard;
+
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.jpa.spi.IdentifierGeneratorStrategyProvider;
+
+import java.util.Map;
+
+/**
+ * ShardIdentifierGenerator.STRATEGY 이름에 실제 생성기를 연결한다.
+ * 샤딩을 끄면 DB 의 IDENTITY 로 id 를 받아 예전처럼 작은 값을 쓰고, 켜면 shard 번호가 들어간 id 를 만든다.
+ */
+public class ShardIdStrategyProvider implements IdentifierGeneratorStrategyProvider {
+
+    private final boolean shardingEnabled;
+
+    public ShardIdStrategyProvider(boolean shardingEnabled) {
+        this.shardingEnabled = shardingEnabled;
+    }
+
+    @Override
+    public Map<String, Class<?>> getStrategies() {
+        return Map.of(ShardIdentifierGenerator.STRATEGY, shardingEnabled ? ShardIdentifierGenerator.class : IdentityGenerator.class);
+    }
+}
@@ -0,0 +1,21 @@
+package com.kdt.localinfo.shard;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+
+/**
+ * 저장하는 shard 번호를 담은 id 를 DB 왕복 없이 만든다.
+ * 엔티티는 STRATEGY 이름으로만 가리키고, 샤딩을 켰을 때만 ShardIdStrategyProvider 가 이 생성기를 연결한다.
+ */
+public class ShardIdentifierGenerator implements IdentifierGenerator {
+
+    public static final String NAME = "shard-id";
+    public static final String STRATEGY = "shard-id";
+
+    @Override
+    public Serializable generate(SharedSessionContractImplementor session, Object object) {
+        return ShardIds.next(ShardContext.current());
+    }
+}
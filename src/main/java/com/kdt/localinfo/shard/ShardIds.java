@@ -0,0 +1,72 @@
+package com.kdt.localinfo.shard;
+
+/**
+ * shard 안에서 중앙 시퀀스 없이 만드는 id.
+ * [37비트 epoch 이후 10ms 단위 시각][5비트 shard][3비트 노드][8비트 순번] 으로, id 만 보고 어느 shard 의 행인지 안다.
+ * JavaScript 의 Number 로 받아도 값이 바뀌지 않도록 53비트 안에 넣는다. 시각은 2065 년까지 쓸 수 있다.
+ * 샤딩 전에 시퀀스로 만든 작은 id 는 모두 기본 shard 의 것으로 본다.
+ */
+public final class ShardIds {
+
+    private static final long EPOCH = 1640995200000L; // 2022-01-01T00:00:00Z
+    private static final long TICK_MILLIS = 10L;
+    private static final int TIME_BITS = 37;
+    private static final int SHARD_BITS = 5;
+    private static final int NODE_BITS = 3;
+    private static final int SEQUENCE_BITS = 8;
+    private static final int SHARD_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final int TIME_SHIFT = SHARD_BITS + SHARD_SHIFT;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TICK = (1L << TIME_BITS) - 1;
+    private static final long MIN_SHARDED_ID = 1L << 40;
+
+    public static final long MAX_ID = (1L << (TIME_BITS + TIME_SHIFT)) - 1;
+
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+    public static final int MAX_NODES = 1 << NODE_BITS;
+
+    private static volatile int nodeId;
+    private static long lastTick = -1L;
+    private static long sequence;
+
+    private ShardIds() {
+    }
+
+    /**
+     * 같은 shard 에 여러 애플리케이션 노드가 쓸 때 id 가 겹치지 않도록 노드마다 다른 번호를 준다.
+     */
+    public static void useNode(int nodeId) {
+        if (nodeId < 0 || nodeId >= MAX_NODES) {
+            throw new IllegalArgumentException("node id must be in [0, " + MAX_NODES + "): " + nodeId);
+        }
+        ShardIds.nodeId = nodeId;
+    }
+
+    // 시계가 뒤로 가거나 한 틱에 순번을 다 쓰면 논리 시각을 앞으로 밀어 단조 증가를 지킨다.
+    public static synchronized long next(int shard) {
+        if (shard < 0 || shard >= MAX_SHARDS) {
+            throw new IllegalArgumentException("shard must be in [0, " + MAX_SHARDS + "): " + shard);
+        }
+        long tick = Math.max((System.currentTimeMillis() - EPOCH) / TICK_MILLIS, lastTick);
+        if (tick == lastTick) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                tick++;
+            }
+        } else {
+            sequence = 0;
+        }
+        if (tick > MAX_TICK) {
+            throw new IllegalStateException("shard id time bits exhausted");
+        }
+        lastTick = tick;
+        return tick << TIME_SHIFT | (long) shard << SHARD_SHIFT | (long) nodeId << SEQUENCE_BITS | sequence;
+    }
+
+    public static int shardOf(long id) {
+        if (id < MIN_SHARDED_ID) {
+            return ShardMap.DEFAULT_SHARD;
+        }
+        return (int) (id >>> SHARD_SHIFT) & (MAX_SHARDS - 1);
+    }
+}
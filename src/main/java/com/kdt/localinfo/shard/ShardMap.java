@@ -0,0 +1,81 @@
+package com.kdt.localinfo.shard;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 시/도(Region.city) 를 shard 번호로 바꾼다. 목록에 없는 도시는 기본 shard 에 둔다.
+ * 다른 기준으로 나누려면 이 클래스를 상속한 빈을 등록하면 된다.
+ */
+public class ShardMap {
+
+    public static final int DEFAULT_SHARD = 0;
+
+    private final List<String> names;
+    private final Map<String, Integer> shardsByCity;
+
+    public ShardMap(List<String> names, Map<String, Integer> shardsByCity) {
+        if (names.isEmpty() || names.size() > ShardIds.MAX_SHARDS) {
+            throw new IllegalArgumentException("shard count must be in [1, " + ShardIds.MAX_SHARDS + "]: " + names.size());
+        }
+        shardsByCity.forEach((city, shard) -> {
+            if (shard < 0 || shard >= names.size()) {
+                throw new IllegalArgumentException("unknown shard for " + city + ": " + shard);
+            }
+        });
+        this.names = List.copyOf(names);
+        this.shardsByCity = Map.copyOf(shardsByCity);
+    }
+
+    public static ShardMap single() {
+        return new ShardMap(List.of("default"), Map.of());
+    }
+
+    public static ShardMap of(ShardingProperties properties) {
+        List<ShardingProperties.Shard> shards = properties.getShards();
+        Map<String, Integer> shardsByCity = new HashMap<>();
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (String city : shards.get(shard).getCities()) {
+                if (shardsByCity.put(city, shard) != null) {
+                    throw new IllegalArgumentException("city mapped to more than one shard: " + city);
+                }
+            }
+        }
+        return new ShardMap(shards.stream().map(ShardingProperties.Shard::getName).collect(Collectors.toList()), shardsByCity);
+    }
+
+    public int shardOfCity(String city) {
+        return city == null ? DEFAULT_SHARD : shardsByCity.getOrDefault(city, DEFAULT_SHARD);
+    }
+
+    /**
+     * 도시의 게시글이 있을 수 있는 shard. 도시에 shard 를 정하기 전에 쓴 글은 기본 shard 에 남아 있으므로 기본 shard 도 함께 돌려준다.
+     */
+    public List<Integer> shardsOfCity(String city) {
+        int shard = shardOfCity(city);
+        return shard == DEFAULT_SHARD ? List.of(DEFAULT_SHARD) : List.of(shard, DEFAULT_SHARD);
+    }
+
+    /**
+     * id 에 담긴 shard 번호. 없는 shard 를 가리키는 id 는 기본 shard 에서 찾게 해 404 로 끝나게 한다.
+     */
+    public int shardOfId(Long id) {
+        int shard = id == null ? DEFAULT_SHARD : ShardIds.shardOf(id);
+        return shard < names.size() ? shard : DEFAULT_SHARD;
+    }
+
+    public List<Integer> shards() {
+        return IntStream.range(0, names.size()).boxed().collect(Collectors.toList());
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    public String nameOf(int shard) {
+        return names.get(shard);
+    }
+}
@@ -0,0 +1,65 @@
+package com.kdt.localinfo.shard;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.hibernate.tool.hbm2ddl.SchemaExport;
+import org.hibernate.tool.hbm2ddl.SchemaUpdate;
+import org.hibernate.tool.hbm2ddl.SchemaValidator;
+import org.hibernate.tool.schema.Action;
+import org.hibernate.tool.schema.TargetType;
+
+import java.util.EnumSet;
+import java.util.List;
+
+/**
+ * hibernate.hbm2ddl.auto 는 기본 shard 에만 적용되므로, 같은 설정으로 나머지 shard 의 스키마도 만든다.
+ * create-drop 이어도 종료할 때 지우지는 않는다.
+ */
+public class ShardSchemaIntegrator implements Integrator {
+
+    private final List<Integer> shards;
+
+    public ShardSchemaIntegrator(List<Integer> shards) {
+        this.shards = List.copyOf(shards);
+    }
+
+    @Override
+    public void integrate(Metadata metadata, SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        Action action = Action.interpretHbm2ddlSetting(serviceRegistry.getService(ConfigurationService.class)
+                .getSettings().get(AvailableSettings.HBM2DDL_AUTO));
+        for (int shard : shards) {
+            if (shard == ShardMap.DEFAULT_SHARD) {
+                continue;
+            }
+            ShardContext.run(shard, () -> apply(action, metadata));
+        }
+    }
+
+    private void apply(Action action, Metadata metadata) {
+        switch (action) {
+            case CREATE:
+            case CREATE_DROP:
+                new SchemaExport().create(EnumSet.of(TargetType.DATABASE), metadata);
+                break;
+            case CREATE_ONLY:
+                new SchemaExport().createOnly(EnumSet.of(TargetType.DATABASE), metadata);
+                break;
+            case UPDATE:
+                new SchemaUpdate().execute(EnumSet.of(TargetType.DATABASE), metadata);
+                break;
+            case VALIDATE:
+                new SchemaValidator().validate(metadata);
+                break;
+            default:
+                break;
+        }
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+    }
+}
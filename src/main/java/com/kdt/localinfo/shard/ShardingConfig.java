@@ -0,0 +1,36 @@
+package com.kdt.localinfo.shard;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 샤딩을 켜지 않으면 shard 하나짜리 ShardMap 을 써서 모든 요청이 spring.datasource 로 간다.
+ * 샤딩을 켜면 노드마다 id 가 겹치지 않도록 local-info.sharding.node-id 를 반드시 지정해야 한다.
+ */
+@Configuration
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ShardMap shardMap(ShardingProperties properties) {
+        if (!properties.isEnabled()) {
+            return ShardMap.single();
+        }
+        if (properties.getNodeId() == null) {
+            throw new IllegalStateException("local-info.sharding.node-id must be set when sharding is enabled");
+        }
+        ShardIds.useNode(properties.getNodeId());
+        return ShardMap.of(properties);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardIdStrategyCustomizer(ShardingProperties properties) {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.IDENTIFIER_GENERATOR_STRATEGY_PROVIDER,
+                new ShardIdStrategyProvider(properties.isEnabled()));
+    }
+}
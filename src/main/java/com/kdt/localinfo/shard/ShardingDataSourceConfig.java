@@ -0,0 +1,98 @@
+package com.kdt.localinfo.shard;
+
+import com.kdt.localinfo.datasource.ReplicaStickiness;
+import com.kdt.localinfo.datasource.ReplicaStickinessFilter;
+import com.kdt.localinfo.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * local-info.sharding.enabled=true 이면 shard 마다 풀을 따로 두고 ShardContext 로 고른다.
+ * shard 마다 replica-url 을 주면 그 shard 안에서 읽기 전용 트랜잭션을 replica 로 보낸다.
+ * users, categories 같은 참조 테이블은 기본 shard 에만 쓰고 ReferenceReplicator 가 나머지 shard 로 복사한다.
+ * 스키마는 spring.jpa.hibernate.ddl-auto 설정대로 모든 shard 에 만든다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "local-info.sharding", name = "enabled", havingValue = "true")
+public class ShardingDataSourceConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+    private static final String REPLICA_HIKARI_PREFIX = "local-info.datasource.replica.hikari";
+
+    @Bean
+    public ReplicaStickiness replicaStickiness(@Value("${local-info.datasource.replica.sticky-window-ms:2000}") long windowMillis) {
+        return new ReplicaStickiness(windowMillis);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReplicaStickinessFilter> replicaStickinessFilter(ReplicaStickiness replicaStickiness) {
+        return new FilterRegistrationBean<>(new ReplicaStickinessFilter(replicaStickiness));
+    }
+
+    //shard 풀도 spring.datasource.hikari.* 를 그대로 받고, shard 의 maximum-pool-size 가 있으면 그것만 덮어쓴다.
+    //replica-url 이 있는 shard 는 읽기 전용 트랜잭션을 그 shard 의 replica 로 보낸다.
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource(DataSourceProperties primaryProperties, ShardingProperties properties,
+                                                         Environment environment, ReplicaStickiness replicaStickiness) {
+        Binder binder = Binder.get(environment);
+        List<DataSource> shards = new ArrayList<>();
+        for (ShardingProperties.Shard shard : properties.getShards()) {
+            String username = shard.getUsername() == null ? primaryProperties.getUsername() : shard.getUsername();
+            String password = shard.getPassword() == null ? primaryProperties.getPassword() : shard.getPassword();
+            HikariDataSource pool = pool(primaryProperties, binder, shard.getUrl(), username, password);
+            pool.setPoolName("shard-" + shard.getName());
+            if (shard.getMaximumPoolSize() != null) {
+                pool.setMaximumPoolSize(shard.getMaximumPoolSize());
+            }
+            if (shard.getReplicaUrl() == null) {
+                shards.add(pool);
+                continue;
+            }
+            HikariDataSource replica = pool(primaryProperties, binder, shard.getReplicaUrl(), username, password);
+            binder.bind(REPLICA_HIKARI_PREFIX, Bindable.ofInstance(replica));
+            replica.setPoolName("shard-" + shard.getName() + "-replica");
+            replica.setReadOnly(true);
+            shards.add(new ReplicationRoutingDataSource(pool, replica, replicaStickiness));
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Primary
+    @Bean
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    private HikariDataSource pool(DataSourceProperties primaryProperties, Binder binder, String url, String username, String password) {
+        HikariDataSource pool = primaryProperties.initializeDataSourceBuilder().type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(pool));
+        return pool;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(ShardMap shardMap) {
+        IntegratorProvider integratorProvider = () -> List.of(new ShardSchemaIntegrator(shardMap.shards()));
+        return hibernateProperties -> hibernateProperties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, integratorProvider);
+    }
+}
@@ -0,0 +1,35 @@
+package com.kdt.localinfo.shard;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * local-info.sharding 설정. shards 의 순서가 shard 번호이고, 첫 번째 shard 가 기본 shard 다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "local-info.sharding")
+public class ShardingProperties {
+
+    private boolean enabled;
+    private Integer nodeId;
+    private long scatterTimeoutMs = 5000L;
+    private List<Shard> shards = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Shard {
+
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+        private Integer maximumPoolSize;
+        private String replicaUrl;
+        private List<String> cities = new ArrayList<>();
+    }
+}
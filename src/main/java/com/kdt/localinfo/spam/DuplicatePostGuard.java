@@ -0,0 +1,72 @@
+package com.kdt.localinfo.spam;
+
+import com.kdt.localinfo.error.DuplicatePostException;
+import com.kdt.localinfo.post.entity.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.ZoneId;
+
+/**
+ * 최근 게시글과 거의 같은 본문을 반복해서 올리면 막는다.
+ * 보관 기간 안에 비슷한 게시글이 max-duplicates 개 이상 있으면 작성을 거절한다.
+ */
+@Component
+public class DuplicatePostGuard {
+
+    private static final String DUPLICATE_MESSAGE = "비슷한 게시글이 이미 여러 번 등록되었습니다.";
+
+    private final SimHashIndex simHashIndex;
+    private final int minLength;
+    private final int maxDistance;
+    private final int maxDuplicates;
+    private final long retentionMillis;
+
+    public DuplicatePostGuard(@Value("${local-info.spam.min-length:30}") int minLength,
+                              @Value("${local-info.spam.max-distance:3}") int maxDistance,
+                              @Value("${local-info.spam.max-duplicates:2}") int maxDuplicates,
+                              @Value("${local-info.spam.retention:PT24H}") Duration retention) {
+        this.minLength = minLength;
+        this.maxDistance = Math.min(maxDistance, SimHashIndex.BANDS - 1);
+        this.maxDuplicates = maxDuplicates;
+        this.retentionMillis = retention.toMillis();
+        this.simHashIndex = new SimHashIndex(retentionMillis, 64);
+    }
+
+    /**
+     * 본문이 짧아 판단할 수 없으면 null 을 돌려준다.
+     */
+    public Long fingerprint(String contents) {
+        if (contents == null) {
+            return null;
+        }
+        long fingerprint = SimHash.of(contents, minLength);
+        return fingerprint == 0L ? null : fingerprint;
+    }
+
+    public void check(Long fingerprint) {
+        if (fingerprint == null) {
+            return;
+        }
+        if (simHashIndex.findSimilar(fingerprint, maxDistance, System.currentTimeMillis()).size() >= maxDuplicates) {
+            throw new DuplicatePostException(DUPLICATE_MESSAGE);
+        }
+    }
+
+    public void register(Post post) {
+        if (post.getSimhash() == null || post.getCreatedAt() == null) {
+            return;
+        }
+        long createdAtMillis = post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (createdAtMillis >= System.currentTimeMillis() - retentionMillis) {
+            simHashIndex.put(post.getId(), post.getSimhash(), createdAtMillis);
+        }
+    }
+
+    public void remove(Long postId, Long fingerprint) {
+        if (fingerprint != null) {
+            simHashIndex.remove(postId, fingerprint);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.kdt.localinfo.spam;
+
+import com.kdt.localinfo.search.TermHash;
+
+/**
+ * 본문의 64비트 SimHash. 공백과 기호를 뺀 소문자 본문에서 3글자 shingle 을 특징으로 쓴다.
+ * 비슷한 본문일수록 해밍 거리가 작다.
+ */
+public final class SimHash {
+
+    private static final int SHINGLE = 3;
+
+    private SimHash() {
+    }
+
+    /**
+     * 특징을 만들 만큼 글자가 없으면 0 을 돌려준다.
+     */
+    public static long of(CharSequence text, int minLength) {
+        char[] normalized = new char[text.length()];
+        int length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                normalized[length++] = Character.toLowerCase(c);
+            }
+        }
+        if (length < Math.max(minLength, SHINGLE)) {
+            return 0L;
+        }
+
+        int[] weights = new int[Long.SIZE];
+        for (int start = 0; start + SHINGLE <= length; start++) {
+            long hash = mix(TermHash.hash(normalized, start, SHINGLE));
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                weights[bit] += ((hash >>> bit) & 1L) == 1L ? 1 : -1;
+            }
+        }
+        long fingerprint = 0L;
+        for (int bit = 0; bit < Long.SIZE; bit++) {
+            if (weights[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    // 짧은 입력의 FNV 값은 상위 비트가 고르게 섞이지 않아 murmur3 finalizer 로 한 번 더 섞는다.
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 33)) * 0xff51afd7ed558ccdL;
+        hash = (hash ^ (hash >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    public static int distance(long left, long right) {
+        return Long.bitCount(left ^ right);
+    }
+}
@@ -0,0 +1,92 @@
+package com.kdt.localinfo.spam;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 최근 게시글 SimHash 를 16비트씩 4개 밴드로 나눠 담은 다중 인덱스.
+ * 해밍 거리 3 이하인 두 값은 적어도 한 밴드가 같으므로 밴드 4번만 조회하면 된다.
+ * 버킷 크기는 제한되고, 보관 기간이 지난 항목은 조회하면서 버린다.
+ */
+public class SimHashIndex {
+
+    public static final int BANDS = 4;
+    private static final int BAND_BITS = Long.SIZE / BANDS;
+    private static final long BAND_MASK = (1L << BAND_BITS) - 1;
+
+    private final long retentionMillis;
+    private final int bucketCapacity;
+    private final Map<Integer, Deque<Entry>> buckets = new ConcurrentHashMap<>();
+
+    public SimHashIndex(long retentionMillis, int bucketCapacity) {
+        this.retentionMillis = retentionMillis;
+        this.bucketCapacity = bucketCapacity;
+    }
+
+    public void put(long postId, long fingerprint, long createdAtMillis) {
+        Entry entry = new Entry(postId, fingerprint, createdAtMillis);
+        for (int band = 0; band < BANDS; band++) {
+            Deque<Entry> bucket = buckets.computeIfAbsent(bucketKey(fingerprint, band), key -> new ConcurrentLinkedDeque<>());
+            bucket.addLast(entry);
+            while (bucket.size() > bucketCapacity) {
+                bucket.pollFirst();
+            }
+        }
+    }
+
+    public void remove(long postId, long fingerprint) {
+        for (int band = 0; band < BANDS; band++) {
+            Deque<Entry> bucket = buckets.get(bucketKey(fingerprint, band));
+            if (bucket != null) {
+                bucket.removeIf(entry -> entry.postId == postId);
+            }
+        }
+    }
+
+    /**
+     * nowMillis 기준 보관 기간 안에서 해밍 거리가 maxDistance 이하인 게시글 ID 를 돌려준다.
+     */
+    public List<Long> findSimilar(long fingerprint, int maxDistance, long nowMillis) {
+        List<Long> postIds = new ArrayList<>();
+        long oldest = nowMillis - retentionMillis;
+        for (int band = 0; band < BANDS; band++) {
+            Deque<Entry> bucket = buckets.get(bucketKey(fingerprint, band));
+            if (bucket == null) {
+                continue;
+            }
+            Iterator<Entry> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.createdAtMillis < oldest) {
+                    iterator.remove();
+                    continue;
+                }
+                if (SimHash.distance(entry.fingerprint, fingerprint) <= maxDistance && !postIds.contains(entry.postId)) {
+                    postIds.add(entry.postId);
+                }
+            }
+        }
+        return postIds;
+    }
+
+    private static int bucketKey(long fingerprint, int band) {
+        return (band << BAND_BITS) | (int) ((fingerprint >>> (band * BAND_BITS)) & BAND_MASK);
+    }
+
+    private static class Entry {
+        private final long postId;
+        private final long fingerprint;
+        private final long createdAtMillis;
+
+        private Entry(long postId, long fingerprint, long createdAtMillis) {
+            this.postId = postId;
+            this.fingerprint = fingerprint;
+            this.createdAtMillis = createdAtMillis;
+        }
+    }
+}
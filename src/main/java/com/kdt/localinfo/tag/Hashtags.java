@@ -0,0 +1,58 @@
+package com.kdt.localinfo.tag;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 본문에서 #태그를 뽑아낸다. 글자, 숫자, 밑줄만 태그로 보고 소문자로 맞춘다.
+ */
+public final class Hashtags {
+
+    public static final int MAX_LENGTH = 50;
+    public static final int MAX_TAGS_PER_POST = 10;
+
+    private Hashtags() {
+    }
+
+    public static Set<String> extract(String contents) {
+        Set<String> tags = new LinkedHashSet<>();
+        if (contents == null) {
+            return tags;
+        }
+        int i = 0;
+        while (i < contents.length() && tags.size() < MAX_TAGS_PER_POST) {
+            if (contents.charAt(i) != '#') {
+                i++;
+                continue;
+            }
+            int start = ++i;
+            while (i < contents.length() && isTagChar(contents.charAt(i))) {
+                i++;
+            }
+            int length = i - start;
+            if (length > 0 && length <= MAX_LENGTH) {
+                tags.add(contents.substring(start, i).toLowerCase(Locale.ROOT));
+            }
+        }
+        return tags;
+    }
+
+    /**
+     * 경로 등으로 들어온 태그 이름을 저장 형식에 맞춘다. 형식에 맞지 않으면 null 을 돌려준다.
+     */
+    public static String normalize(String tag) {
+        if (tag == null) {
+            return null;
+        }
+        String name = tag.startsWith("#") ? tag.substring(1) : tag;
+        if (name.isEmpty() || name.length() > MAX_LENGTH || !name.chars().allMatch(c -> isTagChar((char) c))) {
+            return null;
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isTagChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+}
@@ -0,0 +1,51 @@
+package com.kdt.localinfo.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 태그별 게시글 피드 인덱스. 기본 키 (tag_id, created_at, post_id) 순서가 곧 피드 정렬 순서다.
+ */
+@Getter
+@Table(name = "post_tags", indexes = {
+        @Index(name = "idx_post_tags_post", columnList = "post_id")
+})
+@IdClass(PostTag.Key.class)
+@NoArgsConstructor
+@Entity
+public class PostTag {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Id
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    public PostTag(Long tagId, LocalDateTime createdAt, Long postId) {
+        this.tagId = tagId;
+        this.createdAt = createdAt;
+        this.postId = postId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long tagId;
+        private LocalDateTime createdAt;
+        private Long postId;
+    }
+}
@@ -0,0 +1,24 @@
+package com.kdt.localinfo.tag;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostTagRepository extends JpaRepository<PostTag, PostTag.Key> {
+
+    List<PostTag> findByPostId(Long postId);
+
+    @Query(value = "SELECT pt.postId FROM PostTag pt " +
+            "WHERE pt.tagId = :tagId " +
+            "AND EXISTS (SELECT p.id FROM Post p WHERE p.id = pt.postId AND p.deletedAt IS NULL) " +
+            "AND (pt.createdAt < :createdAt OR (pt.createdAt = :createdAt AND pt.postId < :postId)) " +
+            "ORDER BY pt.createdAt DESC, pt.postId DESC")
+    List<Long> findTagFeed(@Param("tagId") Long tagId,
+                           @Param("createdAt") LocalDateTime createdAt,
+                           @Param("postId") Long postId,
+                           Pageable pageable);
+}
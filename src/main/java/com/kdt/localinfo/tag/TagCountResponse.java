@@ -0,0 +1,16 @@
+package com.kdt.localinfo.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class TagCountResponse {
+
+    private String tag;
+    private long postCount;
+}
@@ -0,0 +1,95 @@
+package com.kdt.localinfo.tag;
+
+import com.kdt.localinfo.shard.ReferenceReplicator;
+import com.kdt.localinfo.shard.ReferenceTable;
+import com.kdt.localinfo.shard.ShardContext;
+import com.kdt.localinfo.shard.ShardMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * tags 테이블을 메모리에 올려 두고 태그 이름과 ID 를 양방향으로 변환한다.
+ * 새 태그는 기본 shard 에만 추가하고 나머지 shard 로 복사한다.
+ */
+@Slf4j
+@Component
+public class TagDictionary {
+
+    private final TagRepository tagRepository;
+    private final TransactionTemplate requiresNewTemplate;
+    private final ReferenceReplicator referenceReplicator;
+
+    private final Map<String, Long> idsByName = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    public TagDictionary(TagRepository tagRepository, PlatformTransactionManager transactionManager,
+                         ReferenceReplicator referenceReplicator) {
+        this.tagRepository = tagRepository;
+        this.referenceReplicator = referenceReplicator;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @PostConstruct
+    public void load() {
+        tagRepository.findAll().forEach(this::register);
+        log.info("Tag dictionary loaded: {} tags", namesById.size());
+    }
+
+    public Optional<Long> findId(String name) {
+        return Optional.ofNullable(idsByName.get(name));
+    }
+
+    public Long idOf(String name) {
+        Long id = idsByName.get(name);
+        return id != null ? id : intern(name);
+    }
+
+    public String nameOf(Long id) {
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        return ShardContext.call(ShardMap.DEFAULT_SHARD, () -> requiresNewTemplate.execute(status -> tagRepository.findById(id)))
+                .map(this::register)
+                .orElseThrow(() -> new IllegalStateException("Unknown tag id: " + id));
+    }
+
+    private synchronized Long intern(String name) {
+        Long id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+        Tag tag = ShardContext.call(ShardMap.DEFAULT_SHARD, () -> {
+            try {
+                return requiresNewTemplate.execute(status -> findOrSave(name));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 같은 태그를 먼저 추가한 경우
+                return requiresNewTemplate.execute(status -> findOrSave(name));
+            }
+        });
+        referenceReplicator.copy(ReferenceTable.TAGS, tag.getId());
+        register(tag);
+        return tag.getId();
+    }
+
+    private Tag findOrSave(String name) {
+        return tagRepository.findByName(name)
+                .orElseGet(() -> tagRepository.saveAndFlush(new Tag(name)));
+    }
+
+    private String register(Tag tag) {
+        namesById.putIfAbsent(tag.getId(), tag.getName());
+        idsByName.putIfAbsent(tag.getName(), tag.getId());
+        return tag.getName();
+    }
+}
@@ -0,0 +1,47 @@
+package com.kdt.localinfo.tag;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 지역별 태그 사용 게시글 수. 게시글 작성, 수정, 삭제 때 증감한다.
+ */
+@Getter
+@Table(name = "tag_region_counts", indexes = {
+        @Index(name = "idx_tag_region_counts_region", columnList = "region_id, post_count")
+})
+@IdClass(TagRegionCount.Key.class)
+@NoArgsConstructor
+@Entity
+public class TagRegionCount {
+
+    @Id
+    @Column(name = "tag_id")
+    private Long tagId;
+
+    @Id
+    @Column(name = "region_id")
+    private Integer regionId;
+
+    @Column(name = "post_count", nullable = false)
+    private long postCount;
+
+    public TagRegionCount(Long tagId, Integer regionId) {
+        this.tagId = tagId;
+        this.regionId = regionId;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long tagId;
+        private Integer regionId;
+    }
+}
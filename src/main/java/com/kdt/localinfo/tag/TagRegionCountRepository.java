@@ -0,0 +1,21 @@
+package com.kdt.localinfo.tag;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface TagRegionCountRepository extends JpaRepository<TagRegionCount, TagRegionCount.Key> {
+
+    @Modifying
+    @Query(value = "UPDATE TagRegionCount t SET t.postCount = t.postCount + :delta " +
+            "WHERE t.tagId = :tagId AND t.regionId = :regionId")
+    int addCount(@Param("tagId") Long tagId, @Param("regionId") Integer regionId, @Param("delta") long delta);
+
+    @Query(value = "SELECT t FROM TagRegionCount t WHERE t.regionId = :regionId AND t.postCount > 0 " +
+            "ORDER BY t.postCount DESC, t.tagId")
+    List<TagRegionCount> findTopByRegion(@Param("regionId") Integer regionId, Pageable pageable);
+}
@@ -0,0 +1,118 @@
+package com.kdt.localinfo.tag;
+
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.shard.ShardContext;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 본문의 해시태그를 post_tags 와 지역별 태그 카운트에 반영한다.
+ */
+@Service
+public class TagService {
+
+    private final TagDictionary tagDictionary;
+    private final PostTagRepository postTagRepository;
+    private final TagRegionCountRepository tagRegionCountRepository;
+    private final TransactionTemplate requiresNewTemplate;
+
+    // 카운트 행은 shard 마다 따로 있으므로 만든 행도 shard 별로 기억한다.
+    private final Map<Integer, Set<TagRegionCount.Key>> knownCountRows = new ConcurrentHashMap<>();
+
+    public TagService(TagDictionary tagDictionary, PostTagRepository postTagRepository,
+                      TagRegionCountRepository tagRegionCountRepository, PlatformTransactionManager transactionManager) {
+        this.tagDictionary = tagDictionary;
+        this.postTagRepository = postTagRepository;
+        this.tagRegionCountRepository = tagRegionCountRepository;
+        this.requiresNewTemplate = new TransactionTemplate(transactionManager);
+        this.requiresNewTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 본문의 태그와 저장된 태그를 비교해 바뀐 것만 추가, 삭제한다.
+     */
+    @Transactional
+    public void syncTags(Post post, Integer regionId) {
+        Set<Long> tagIds = Hashtags.extract(post.getContents()).stream()
+                .map(tagDictionary::idOf)
+                .collect(Collectors.toSet());
+        Map<Long, PostTag> savedTags = postTagRepository.findByPostId(post.getId()).stream()
+                .collect(Collectors.toMap(PostTag::getTagId, Function.identity()));
+
+        savedTags.forEach((tagId, postTag) -> {
+            if (!tagIds.contains(tagId)) {
+                postTagRepository.delete(postTag);
+                addCount(tagId, regionId, -1);
+            }
+        });
+        for (Long tagId : tagIds) {
+            if (!savedTags.containsKey(tagId)) {
+                postTagRepository.save(new PostTag(tagId, post.getCreatedAt(), post.getId()));
+                addCount(tagId, regionId, 1);
+            }
+        }
+    }
+
+    @Transactional
+    public void removeTags(Long postId, Integer regionId) {
+        List<PostTag> savedTags = postTagRepository.findByPostId(postId);
+        postTagRepository.deleteAll(savedTags);
+        savedTags.forEach(postTag -> addCount(postTag.getTagId(), regionId, -1));
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findPostIds(Long tagId, LocalDateTime createdAt, Long postId, int size) {
+        return postTagRepository.findTagFeed(tagId, createdAt, postId, PageRequest.of(0, size));
+    }
+
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> findPopularTags(Integer regionId, int size) {
+        return tagRegionCountRepository.findTopByRegion(regionId, PageRequest.of(0, size)).stream()
+                .map(count -> new TagCountResponse(tagDictionary.nameOf(count.getTagId()), count.getPostCount()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 동네의 태그 카운트를 모두 돌려준다. 여러 shard 의 카운트를 더할 때 쓴다.
+     */
+    @Transactional(readOnly = true)
+    public List<TagCountResponse> findTagCounts(Integer regionId) {
+        return tagRegionCountRepository.findTopByRegion(regionId, Pageable.unpaged()).stream()
+                .map(count -> new TagCountResponse(tagDictionary.nameOf(count.getTagId()), count.getPostCount()))
+                .collect(Collectors.toList());
+    }
+
+    private void addCount(Long tagId, Integer regionId, long delta) {
+        TagRegionCount.Key key = new TagRegionCount.Key(tagId, regionId);
+        Set<TagRegionCount.Key> known = knownCountRows.computeIfAbsent(ShardContext.current(), shard -> ConcurrentHashMap.newKeySet());
+        if (!known.contains(key)) {
+            createCountRow(key);
+            known.add(key);
+        }
+        tagRegionCountRepository.addCount(tagId, regionId, delta);
+    }
+
+    // 카운트 행은 별도 트랜잭션에서 먼저 만들어 두고, 본 트랜잭션에서는 UPDATE 로만 증감한다.
+    private void createCountRow(TagRegionCount.Key key) {
+        try {
+            requiresNewTemplate.execute(status -> tagRegionCountRepository.existsById(key)
+                    ? null : tagRegionCountRepository.saveAndFlush(new TagRegionCount(key.getTagId(), key.getRegionId())));
+        } catch (DataIntegrityViolationException e) {
+            // 다른 요청이 같은 행을 먼저 만든 경우
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.kdt.localinfo.trending;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 점수가 높은 K 개만 남기는 최소 힙. postId 로 힙 위치를 찾아 점수 갱신과 삭제를 O(log K) 에 한다.
+ * 동기화하지 않으므로 호출하는 쪽에서 잠근다.
+ */
+final class TopK {
+
+    private final int capacity;
+    private final long[] ids;
+    private final double[] scores;
+    private final Map<Long, Integer> positions;
+    private int size;
+
+    TopK(int capacity) {
+        this.capacity = capacity;
+        this.ids = new long[capacity];
+        this.scores = new double[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * 이미 있으면 점수를 바꾸고, 없으면 자리가 있거나 최솟값보다 클 때만 넣는다.
+     */
+    boolean offer(long id, double score) {
+        Integer position = positions.get(id);
+        if (position != null) {
+            double previous = scores[position];
+            scores[position] = score;
+            if (score > previous) {
+                siftDown(position);
+            } else {
+                siftUp(position);
+            }
+            return true;
+        }
+        if (size < capacity) {
+            place(size, id, score);
+            siftUp(size++);
+            return true;
+        }
+        if (score <= scores[0]) {
+            return false;
+        }
+        positions.remove(ids[0]);
+        place(0, id, score);
+        siftDown(0);
+        return true;
+    }
+
+    /**
+     * 들어 있지 않으면 NaN 을 돌려준다.
+     */
+    double scoreOf(long id) {
+        Integer position = positions.get(id);
+        return position == null ? Double.NaN : scores[position];
+    }
+
+    boolean remove(long id) {
+        Integer position = positions.remove(id);
+        if (position == null) {
+            return false;
+        }
+        int last = --size;
+        if (position != last) {
+            place(position, ids[last], scores[last]);
+            siftUp(position);
+            siftDown(positions.get(ids[last]));
+        }
+        return true;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 점수 내림차순으로 최대 limit 개의 id 를 돌려준다. 힙 크기 K 만큼만 훑는다.
+     */
+    long[] top(int limit) {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Double.compare(scores[right], scores[left]));
+
+        long[] top = new long[Math.min(limit, size)];
+        for (int i = 0; i < top.length; i++) {
+            top[i] = ids[order[i]];
+        }
+        return top;
+    }
+
+    void forEach(EntryConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            consumer.accept(ids[i], scores[i]);
+        }
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (scores[parent] <= scores[position]) {
+                return;
+            }
+            swap(parent, position);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            int smallest = position;
+            int left = position * 2 + 1;
+            int right = left + 1;
+            if (left < size && scores[left] < scores[smallest]) {
+                smallest = left;
+            }
+            if (right < size && scores[right] < scores[smallest]) {
+                smallest = right;
+            }
+            if (smallest == position) {
+                return;
+            }
+            swap(smallest, position);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = ids[i];
+        double score = scores[i];
+        place(i, ids[j], scores[j]);
+        place(j, id, score);
+    }
+
+    private void place(int position, long id, double score) {
+        ids[position] = id;
+        scores[position] = score;
+        positions.put(id, position);
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long id, double score);
+    }
+}
@@ -0,0 +1,200 @@
+package com.kdt.localinfo.trending;
+
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.region.RegionDictionary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 지역, 지역+카테고리별 인기글 순위를 메모리에 들고 있다.
+ * 점수는 전방 감쇠(forward decay)로 활동 시각의 가중치 w·e^(λt) 를 더해 가므로 이미 쌓인 점수를 다시 감쇠하지 않는다.
+ * 값이 넘치지 않도록 로그 스케일로 더한다.
+ */
+@Slf4j
+@Component
+public class TrendingService {
+
+    private static final long ALL_CATEGORIES = 0L;
+
+    private final Map<Long, TopK> boards = new ConcurrentHashMap<>();
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private final RegionDictionary regionDictionary;
+    private final TrendingSnapshotRepository trendingSnapshotRepository;
+    private final int capacity;
+    private final double decayPerMilli;
+    private final double postWeight;
+    private final double commentWeight;
+
+    public TrendingService(RegionDictionary regionDictionary, TrendingSnapshotRepository trendingSnapshotRepository,
+                           @Value("${local-info.trending.capacity:100}") int capacity,
+                           @Value("${local-info.trending.half-life:PT6H}") Duration halfLife,
+                           @Value("${local-info.trending.post-weight:1.0}") double postWeight,
+                           @Value("${local-info.trending.comment-weight:1.0}") double commentWeight) {
+        this.regionDictionary = regionDictionary;
+        this.trendingSnapshotRepository = trendingSnapshotRepository;
+        this.capacity = capacity;
+        this.decayPerMilli = Math.log(2) / halfLife.toMillis();
+        this.postWeight = postWeight;
+        this.commentWeight = commentWeight;
+    }
+
+    public void onPostCreated(Post post) {
+        addActivity(post, postWeight);
+    }
+
+    public void onCommentCreated(Post post) {
+        addActivity(post, commentWeight);
+    }
+
+    /**
+     * 카테고리를 바꾼 게시글의 점수를 새 카테고리 순위로 옮긴다.
+     */
+    public void onCategoryChanged(Post post, Long previousCategoryId) {
+        Optional<Integer> regionId = regionDictionary.findId(post.getRegion());
+        Long categoryId = categoryIdOf(post);
+        if (regionId.isEmpty() || previousCategoryId == null || previousCategoryId.equals(categoryId)) {
+            return;
+        }
+        double score = boardOf(regionId.get(), ALL_CATEGORIES).scoreOf(post.getId());
+        remove(regionId.get(), previousCategoryId, post.getId());
+        if (!Double.isNaN(score) && categoryId != null) {
+            offer(regionId.get(), categoryId, post.getId(), score);
+        }
+    }
+
+    public void remove(Post post) {
+        Optional<Integer> regionId = regionDictionary.findId(post.getRegion());
+        if (regionId.isEmpty()) {
+            return;
+        }
+        remove(regionId.get(), ALL_CATEGORIES, post.getId());
+        Long categoryId = categoryIdOf(post);
+        if (categoryId != null) {
+            remove(regionId.get(), categoryId, post.getId());
+        }
+    }
+
+    /**
+     * 점수 순 게시글 ID. categoryId 가 null 이면 지역 전체 순위를 본다.
+     */
+    public List<Long> findTop(Integer regionId, Long categoryId, int size) {
+        TopK board = boards.get(boardKey(regionId, categoryId == null ? ALL_CATEGORIES : categoryId));
+        if (board == null) {
+            return List.of();
+        }
+        long[] top;
+        synchronized (board) {
+            top = board.top(size);
+        }
+        List<Long> postIds = new ArrayList<>(top.length);
+        for (long postId : top) {
+            postIds.add(postId);
+        }
+        return postIds;
+    }
+
+    @Scheduled(fixedDelayString = "${local-info.trending.snapshot-interval-ms:60000}")
+    @Transactional
+    public void snapshot() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        List<TrendingSnapshot> rows = new ArrayList<>();
+        boards.forEach((key, board) -> {
+            Integer regionId = (int) (key >>> 32);
+            Long categoryId = key & 0xffffffffL;
+            synchronized (board) {
+                board.forEach((postId, logScore) -> rows.add(new TrendingSnapshot(regionId, categoryId, postId, logScore)));
+            }
+        });
+        trendingSnapshotRepository.deleteAllInBatch();
+        trendingSnapshotRepository.saveAll(rows);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restore() {
+        List<TrendingSnapshot> rows = trendingSnapshotRepository.findAll();
+        for (TrendingSnapshot row : rows) {
+            TopK board = boardOf(row.getRegionId(), row.getCategoryId());
+            synchronized (board) {
+                double current = board.scoreOf(row.getPostId());
+                board.offer(row.getPostId(), Double.isNaN(current) ? row.getLogScore() : logAdd(current, row.getLogScore()));
+            }
+        }
+        log.info("Trending boards restored: {} boards, {} entries", boards.size(), rows.size());
+    }
+
+    private void addActivity(Post post, double weight) {
+        if (post.getRegion() == null) {
+            return;
+        }
+        Integer regionId = regionDictionary.idOf(post.getRegion());
+        double logWeight = Math.log(weight) + decayPerMilli * System.currentTimeMillis();
+        add(regionId, ALL_CATEGORIES, post.getId(), logWeight);
+        Long categoryId = categoryIdOf(post);
+        if (categoryId != null) {
+            add(regionId, categoryId, post.getId(), logWeight);
+        }
+        dirty.set(true);
+    }
+
+    private void add(Integer regionId, long categoryId, long postId, double logWeight) {
+        TopK board = boardOf(regionId, categoryId);
+        synchronized (board) {
+            double current = board.scoreOf(postId);
+            board.offer(postId, Double.isNaN(current) ? logWeight : logAdd(current, logWeight));
+        }
+    }
+
+    private void offer(Integer regionId, long categoryId, long postId, double logScore) {
+        TopK board = boardOf(regionId, categoryId);
+        synchronized (board) {
+            board.offer(postId, logScore);
+        }
+        dirty.set(true);
+    }
+
+    private void remove(Integer regionId, long categoryId, long postId) {
+        TopK board = boards.get(boardKey(regionId, categoryId));
+        if (board == null) {
+            return;
+        }
+        synchronized (board) {
+            if (board.remove(postId)) {
+                dirty.set(true);
+            }
+        }
+    }
+
+    private TopK boardOf(Integer regionId, long categoryId) {
+        return boards.computeIfAbsent(boardKey(regionId, categoryId), key -> new TopK(capacity));
+    }
+
+    private static Long categoryIdOf(Post post) {
+        return post.getCategory() == null ? null : post.getCategory().getId();
+    }
+
+    private static long boardKey(Integer regionId, long categoryId) {
+        return ((long) regionId << 32) | (categoryId & 0xffffffffL);
+    }
+
+    // ln(e^a + e^b)
+    static double logAdd(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
@@ -0,0 +1,66 @@
+package com.kdt.localinfo.trending;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.io.Serializable;
+
+/**
+ * 인기글 상위 K 스냅샷. 재시작 시 메모리 순위를 되살리는 데만 쓴다.
+ * category_id 가 0 인 행은 카테고리 구분 없는 지역 전체 순위다.
+ */
+@Getter
+@Table(name = "trending_snapshots")
+@IdClass(TrendingSnapshot.Key.class)
+@NoArgsConstructor
+@Entity
+public class TrendingSnapshot implements Persistable<TrendingSnapshot.Key> {
+
+    @Id
+    @Column(name = "region_id")
+    private Integer regionId;
+
+    @Id
+    @Column(name = "category_id")
+    private Long categoryId;
+
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    //ln(점수). 시각에 따라 커지는 전방 감쇠 가중치라 저장 시각과 무관하게 그대로 비교한다.
+    @Column(name = "log_score", nullable = false)
+    private double logScore;
+
+    public TrendingSnapshot(Integer regionId, Long categoryId, Long postId, double logScore) {
+        this.regionId = regionId;
+        this.categoryId = categoryId;
+        this.postId = postId;
+        this.logScore = logScore;
+    }
+
+    @Override
+    public Key getId() {
+        return new Key(regionId, categoryId, postId);
+    }
+
+    // 스냅샷은 전부 지운 뒤 새로 넣기만 하므로 merge 전 SELECT 를 건너뛴다.
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Integer regionId;
+        private Long categoryId;
+        private Long postId;
+    }
+}
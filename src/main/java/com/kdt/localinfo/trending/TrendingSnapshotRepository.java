@@ -0,0 +1,6 @@
+package com.kdt.localinfo.trending;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrendingSnapshotRepository extends JpaRepository<TrendingSnapshot, TrendingSnapshot.Key> {
+}
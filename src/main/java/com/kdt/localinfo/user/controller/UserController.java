@@ -1,6 +1,7 @@
 package com.kdt.localinfo.user.controller;
 
 import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.user.dto.NicknameResponse;
 import com.kdt.localinfo.user.dto.UserRequest;
 import com.kdt.localinfo.user.dto.UserResponse;
 import com.kdt.localinfo.user.service.UserService;
@@ -13,7 +14,6 @@ import org.springframework.validation.Errors;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
-import javax.persistence.EntityNotFoundException;
 import java.net.URI;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -57,6 +57,13 @@ public class UserController {
         return ResponseEntity.ok(CollectionModel.of(collect, getLinkAddress().withSelfRel()));
     }
 
+    @GetMapping(value = "/nicknames")
+    public ResponseEntity<List<NicknameResponse>> findNicknames(
+            @RequestParam String prefix,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(userService.findNicknames(prefix, size));
+    }
+
     @GetMapping(produces = MediaTypes.HAL_JSON_VALUE, value = "/{id}")
     public ResponseEntity<EntityModel<UserResponse>> getUser(@PathVariable Long id) {
         UserResponse userResponse = userService.getUser(id);
@@ -98,7 +105,7 @@ public class UserController {
     }
 
     @DeleteMapping(value = "{id}", produces = MediaTypes.HAL_JSON_VALUE)
-    public ResponseEntity<EntityModel<?>> deleteUser(@PathVariable Long id) throws EntityNotFoundException {
+    public ResponseEntity<EntityModel<?>> deleteUser(@PathVariable Long id) {
         userService.deleteUser(id);
         return ResponseEntity.noContent().build();
     }
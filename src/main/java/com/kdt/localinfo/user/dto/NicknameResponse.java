@@ -0,0 +1,15 @@
+package com.kdt.localinfo.user.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+@ToString
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class NicknameResponse {
+    private Long id;
+    private String nickname;
+}
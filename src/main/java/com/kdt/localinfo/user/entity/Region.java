@@ -2,26 +2,20 @@ package com.kdt.localinfo.user.entity;
 
 import lombok.*;
 
-import javax.persistence.Access;
-import javax.persistence.AccessType;
-import javax.persistence.Column;
-import javax.persistence.Embeddable;
-
+/**
+ * 지역 이름 값 객체. regions 테이블에 한 번만 저장되고
+ * 엔티티에는 RegionConverter 를 통해 정수 키로만 기록된다.
+ */
 @EqualsAndHashCode
 @Getter
-@Embeddable
 @AllArgsConstructor
 @NoArgsConstructor
 @Builder
-@Access(AccessType.FIELD)
 public class Region {
 
-    @Column(nullable = false)
     private String neighborhood;
 
-    @Column(nullable = false)
     private String district;
 
-    @Column(nullable = false)
     private String city;
 }
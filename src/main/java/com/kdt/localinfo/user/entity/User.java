@@ -4,6 +4,9 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.common.BaseEntity;
 import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.region.RegionConverter;
+import com.kdt.localinfo.region.RegionRegistrar;
+import com.kdt.localinfo.region.Regional;
 import lombok.*;
 
 import javax.persistence.*;
@@ -18,7 +21,8 @@ import java.util.Set;
 @Getter
 @Entity
 @Table(name = "users")
-public class User extends BaseEntity {
+@EntityListeners(RegionRegistrar.class)
+public class User extends BaseEntity implements Regional {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,7 +41,8 @@ public class User extends BaseEntity {
     @Column(nullable = false, length = 30)
     private String password;
 
-    @Embedded
+    @Convert(converter = RegionConverter.class)
+    @Column(name = "region_id", nullable = false)
     private Region region;
 
     @ElementCollection(fetch = FetchType.EAGER)
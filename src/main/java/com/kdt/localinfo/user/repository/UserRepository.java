@@ -2,6 +2,7 @@ package com.kdt.localinfo.user.repository;
 
 import com.kdt.localinfo.photo.Photo;
 import com.kdt.localinfo.user.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -9,4 +10,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+
+    @Query(value = "SELECT u FROM User u WHERE u.id > :lastId AND u.deletedAt IS NULL ORDER BY u.id")
+    List<User> findLiveChunk(@Param("lastId") Long lastId, Pageable pageable);
 }
@@ -1,5 +1,12 @@
 package com.kdt.localinfo.user.service;
 
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.mention.NicknameDirectory;
+import com.kdt.localinfo.post.service.SoftDeleteCascade;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.shard.ReferenceReplicator;
+import com.kdt.localinfo.shard.ReferenceTable;
+import com.kdt.localinfo.user.dto.NicknameResponse;
 import com.kdt.localinfo.user.dto.UserRequest;
 import com.kdt.localinfo.user.dto.UserResponse;
 import com.kdt.localinfo.user.entity.Region;
@@ -11,7 +18,6 @@ import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import javax.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -22,18 +28,36 @@ import java.util.stream.Collectors;
 @Service
 public class UserService {
 
+    private static final int MAX_NICKNAME_SIZE = 20;
+
     private final UserRepository userRepository;
 
     private final ModelMapper modelMapper;
 
-    public UserService(UserRepository userRepository, ModelMapper modelMapper) {
+    private final NicknameDirectory nicknameDirectory;
+
+    private final SoftDeleteCascade softDeleteCascade;
+
+    private final RegionDictionary regionDictionary;
+
+    private final ReferenceReplicator referenceReplicator;
+
+    public UserService(UserRepository userRepository, ModelMapper modelMapper, NicknameDirectory nicknameDirectory,
+                       SoftDeleteCascade softDeleteCascade, RegionDictionary regionDictionary,
+                       ReferenceReplicator referenceReplicator) {
         this.userRepository = userRepository;
         this.modelMapper = modelMapper;
+        this.nicknameDirectory = nicknameDirectory;
+        this.softDeleteCascade = softDeleteCascade;
+        this.regionDictionary = regionDictionary;
+        this.referenceReplicator = referenceReplicator;
     }
 
     @Transactional
     public UserResponse addUser(UserRequest userRequest) {
         User savedUser = userRepository.save(userRequest.toEntity());
+        nicknameDirectory.register(savedUser);
+        referenceReplicator.copyAfterCommit(ReferenceTable.USERS, savedUser.getId());
         return new UserResponse(savedUser);
     }
 
@@ -48,7 +72,7 @@ public class UserService {
     public UserResponse getUser(Long id) {
         Optional<User> user = userRepository.findById(id);
         if (user.isEmpty() || user.get().getDeletedAt() != null) {
-            throw new EntityNotFoundException("해당 유저가 존재하지 않습니다.");
+            throw new ResourceNotFoundException("해당 유저가 존재하지 않습니다.");
         }
         return new UserResponse(user.get());
     }
@@ -56,7 +80,8 @@ public class UserService {
     @Transactional
     public UserResponse updateUser(Long id, UserRequest userRequest) {
         User beforeUser = userRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
+                .orElseThrow(() -> new ResourceNotFoundException("해당 유저가 존재하지 않습니다."));
+        String beforeNickname = beforeUser.getNickname();
         modelMapper.map(userRequest, beforeUser);
         beforeUser.getRoles().add(Role.valueOf(userRequest.getRole()));
         beforeUser.setRegion(Region.builder()
@@ -64,13 +89,29 @@ public class UserService {
                 .neighborhood(userRequest.getDistrict())
                 .city(userRequest.getCity())
                 .build());
-        return new UserResponse(userRepository.save(beforeUser));
+        //지역 등록이 플러시 중의 @PreUpdate 에서 일어나지 않도록 미리 한다.
+        regionDictionary.idOf(beforeUser.getRegion());
+        User savedUser = userRepository.save(beforeUser);
+        if (savedUser.getDeletedAt() == null) {
+            nicknameDirectory.rename(savedUser.getId(), beforeNickname, savedUser.getNickname());
+        }
+        referenceReplicator.copyAfterCommit(ReferenceTable.USERS, savedUser.getId());
+        return new UserResponse(savedUser);
     }
 
     @Transactional
-    public void deleteUser(Long id) throws EntityNotFoundException {
-        User foundUser = userRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
+    public void deleteUser(Long id) {
+        User foundUser = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("해당 유저가 존재하지 않습니다."));
         foundUser.deleteUser();
+        nicknameDirectory.unregister(foundUser);
+        referenceReplicator.copyAfterCommit(ReferenceTable.USERS, id);
+        softDeleteCascade.cascadeUser(id);
+    }
+
+    public List<NicknameResponse> findNicknames(String prefix, int size) {
+        return nicknameDirectory.complete(prefix, Math.min(Math.max(size, 1), MAX_NICKNAME_SIZE)).stream()
+                .map(match -> new NicknameResponse(match.getUserId(), match.getNickname()))
+                .collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,89 @@
+-- users, posts 의 city/district/neighborhood 컬럼을 regions 테이블의 정수 키 region_id 로 옮긴다. (MySQL 8)
+-- 지역을 정수 키로 저장하는 버전을 띄우기 전에, 샤딩 전 데이터베이스(기본 shard)에서 한 번 실행한다.
+-- 다른 shard 의 regions 는 애플리케이션이 시작할 때 ReferenceReplicator 가 복사한다.
+-- 옛 컬럼은 되돌릴 때를 위해 NULL 허용으로만 바꿔 두고, 새 버전이 안정되면 마지막 주석의 문장으로 지운다.
+
+CREATE TABLE IF NOT EXISTS regions
+(
+    region_id    INT         NOT NULL AUTO_INCREMENT,
+    city         VARCHAR(30) NOT NULL,
+    district     VARCHAR(30) NOT NULL,
+    neighborhood VARCHAR(30) NOT NULL,
+    PRIMARY KEY (region_id),
+    CONSTRAINT uk_regions_name UNIQUE (city, district, neighborhood)
+);
+
+INSERT IGNORE INTO regions (city, district, neighborhood)
+SELECT city, district, neighborhood FROM users
+UNION
+SELECT city, district, neighborhood FROM posts;
+
+-- 1. 빈 컬럼을 먼저 추가한다. 새 엔티티는 옛 컬럼에 값을 넣지 않으므로 옛 컬럼은 NULL 을 허용한다.
+ALTER TABLE users
+    ADD COLUMN region_id INT NULL,
+    MODIFY city VARCHAR(255) NULL,
+    MODIFY district VARCHAR(255) NULL,
+    MODIFY neighborhood VARCHAR(255) NULL;
+
+ALTER TABLE posts
+    ADD COLUMN region_id INT NULL,
+    MODIFY city VARCHAR(255) NULL,
+    MODIFY district VARCHAR(255) NULL,
+    MODIFY neighborhood VARCHAR(255) NULL;
+
+-- 2. 키 순서대로 1000 행씩 나눠 채운다. 구간마다 따로 커밋되므로 긴 잠금 없이 돈다.
+DELIMITER //
+CREATE PROCEDURE backfill_region_ids(IN chunk_size INT)
+BEGIN
+    DECLARE last_id BIGINT DEFAULT 0;
+    DECLARE until_id BIGINT;
+
+    users_loop:
+    LOOP
+        SELECT MAX(user_id) INTO until_id
+        FROM (SELECT user_id FROM users WHERE user_id > last_id ORDER BY user_id LIMIT chunk_size) chunk;
+        IF until_id IS NULL THEN
+            LEAVE users_loop;
+        END IF;
+        UPDATE users u
+            JOIN regions r ON r.city = u.city AND r.district = u.district AND r.neighborhood = u.neighborhood
+        SET u.region_id = r.region_id
+        WHERE u.user_id > last_id
+          AND u.user_id <= until_id
+          AND u.region_id IS NULL;
+        SET last_id = until_id;
+    END LOOP;
+
+    SET last_id = 0;
+    posts_loop:
+    LOOP
+        SELECT MAX(post_id) INTO until_id
+        FROM (SELECT post_id FROM posts WHERE post_id > last_id ORDER BY post_id LIMIT chunk_size) chunk;
+        IF until_id IS NULL THEN
+            LEAVE posts_loop;
+        END IF;
+        UPDATE posts p
+            JOIN regions r ON r.city = p.city AND r.district = p.district AND r.neighborhood = p.neighborhood
+        SET p.region_id = r.region_id
+        WHERE p.post_id > last_id
+          AND p.post_id <= until_id
+          AND p.region_id IS NULL;
+        SET last_id = until_id;
+    END LOOP;
+END //
+DELIMITER ;
+
+CALL backfill_region_ids(1000);
+DROP PROCEDURE backfill_region_ids;
+
+-- 3. 다 채운 뒤에 NOT NULL 을 건다. 채우지 못한 행이 있으면 여기서 실패하므로 옛 컬럼 값을 확인하고 다시 채운다.
+-- 엔티티 매핑처럼 외래 키는 두지 않는다. regions 는 shard 마다 복사본이 따로 있다.
+ALTER TABLE users
+    MODIFY region_id INT NOT NULL;
+
+ALTER TABLE posts
+    MODIFY region_id INT NOT NULL;
+
+-- 새 버전이 안정된 뒤:
+-- ALTER TABLE users DROP COLUMN city, DROP COLUMN district, DROP COLUMN neighborhood;
+-- ALTER TABLE posts DROP COLUMN city, DROP COLUMN district, DROP COLUMN neighborhood;
@@ -0,0 +1,74 @@
+-- posts.contents 를 post_bodies 로 옮기고 posts.body_id, posts.preview 를 채운다. (MySQL 8)
+-- 본문을 post_bodies 로 나눈 버전을 띄우기 전에, 그 전 버전의 게시글이 있는 데이터베이스(샤딩 전이면 기본 shard)에서 한 번 실행한다.
+-- 그 사이 post_bodies 에 새로 쓰는 애플리케이션이 없어야 한다. body_id 를 post_id 에서 정하므로 자동 증가 키와 겹치지 않게 하기 위해서다.
+-- 본문은 압축하지 않은 UTF-8 로 복사하고, 새 버전이 뜬 뒤 PostBodyCompactor 가 긴 본문을 압축 형식으로 다시 쓴다.
+-- 옛 posts.contents 는 되돌릴 때를 위해 NULL 허용으로만 바꿔 두고, 새 버전이 안정되면 마지막 주석의 문장으로 지운다.
+
+CREATE TABLE IF NOT EXISTS post_bodies
+(
+    body_id  BIGINT   NOT NULL AUTO_INCREMENT,
+    contents LONGBLOB NOT NULL,
+    PRIMARY KEY (body_id)
+);
+
+-- 1. 빈 컬럼을 먼저 추가한다.
+--    ddl-auto=update 로 새 버전을 이미 띄워 body_id 가 0 으로 채워졌다면, 이 문장 대신
+--    ALTER TABLE posts MODIFY body_id BIGINT NULL, MODIFY preview VARCHAR(200) NULL, MODIFY contents LONGTEXT NULL;
+--    UPDATE posts SET body_id = NULL WHERE body_id = 0;
+--    을 실행한다.
+ALTER TABLE posts
+    ADD COLUMN body_id BIGINT NULL,
+    ADD COLUMN preview VARCHAR(200) NULL,
+    MODIFY contents LONGTEXT NULL;
+
+-- 2. 키 순서대로 1000 행씩 본문을 복사한다. 구간마다 한 트랜잭션으로 post_bodies 추가와 posts 갱신을 함께 커밋한다.
+--    body_id 는 시작할 때의 post_bodies 최대 키에 post_id 를 더해 정하므로 행마다 키를 따로 읽지 않는다.
+--    preview 는 글자 단위로 자르므로 애플리케이션의 PostPreview 와 달리 결합 문자 중간에서 잘릴 수 있다. 다음 수정 때 다시 만들어진다.
+DELIMITER //
+CREATE PROCEDURE backfill_post_bodies(IN chunk_size INT)
+BEGIN
+    DECLARE last_id BIGINT DEFAULT 0;
+    DECLARE until_id BIGINT;
+    DECLARE base_id BIGINT;
+
+    SELECT COALESCE(MAX(body_id), 0) INTO base_id FROM post_bodies;
+
+    chunk_loop:
+    LOOP
+        SELECT MAX(post_id) INTO until_id
+        FROM (SELECT post_id FROM posts WHERE post_id > last_id ORDER BY post_id LIMIT chunk_size) chunk;
+        IF until_id IS NULL THEN
+            LEAVE chunk_loop;
+        END IF;
+
+        START TRANSACTION;
+        INSERT INTO post_bodies (body_id, contents)
+        SELECT base_id + post_id, CAST(CONVERT(COALESCE(contents, '') USING utf8mb4) AS BINARY)
+        FROM posts
+        WHERE post_id > last_id
+          AND post_id <= until_id
+          AND body_id IS NULL;
+        UPDATE posts
+        SET body_id = base_id + post_id,
+            preview = LEFT(COALESCE(contents, ''), 200)
+        WHERE post_id > last_id
+          AND post_id <= until_id
+          AND body_id IS NULL;
+        COMMIT;
+
+        SET last_id = until_id;
+    END LOOP;
+END //
+DELIMITER ;
+
+CALL backfill_post_bodies(1000);
+DROP PROCEDURE backfill_post_bodies;
+
+-- 3. 다 채운 뒤에 NOT NULL 과 외래 키를 건다. 채우지 못한 행이 있으면 여기서 실패한다.
+ALTER TABLE posts
+    MODIFY body_id BIGINT NOT NULL,
+    MODIFY preview VARCHAR(200) NOT NULL,
+    ADD CONSTRAINT fk_post_to_body FOREIGN KEY (body_id) REFERENCES post_bodies (body_id);
+
+-- 새 버전이 안정된 뒤:
+-- ALTER TABLE posts DROP COLUMN contents;
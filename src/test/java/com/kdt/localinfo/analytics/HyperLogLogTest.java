@@ -0,0 +1,68 @@
+package com.kdt.localinfo.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("같은 방문자는 여러 번 와도 한 번만 센다")
+    void estimate() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int repeat = 0; repeat < 3; repeat++) {
+            for (int visitor = 0; visitor < 50_000; visitor++) {
+                sketch.offer(HyperLogLog.hash("visitor-" + visitor));
+            }
+        }
+
+        assertThat(sketch.estimate()).isCloseTo(50_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("적은 방문자 수도 거의 정확하게 센다")
+    void estimateSmall() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int visitor = 0; visitor < 100; visitor++) {
+            sketch.offer(HyperLogLog.hash("visitor-" + visitor));
+        }
+
+        assertThat(new HyperLogLog().estimate()).isZero();
+        assertThat(sketch.estimate()).isCloseTo(100L, withinPercentage(3));
+    }
+
+    @Test
+    @DisplayName("겹치는 두 스케치를 합치면 합집합 크기가 된다")
+    void merge() {
+        HyperLogLog monday = new HyperLogLog();
+        HyperLogLog tuesday = new HyperLogLog();
+        for (int visitor = 0; visitor < 30_000; visitor++) {
+            monday.offer(HyperLogLog.hash("visitor-" + visitor));
+            tuesday.offer(HyperLogLog.hash("visitor-" + (visitor + 10_000)));
+        }
+
+        HyperLogLog week = monday.copy();
+        week.merge(tuesday);
+
+        assertThat(week.estimate()).isCloseTo(40_000L, withinPercentage(5));
+        assertThat(monday.estimate()).isCloseTo(30_000L, withinPercentage(5));
+    }
+
+    @Test
+    @DisplayName("바이트 배열로 저장했다가 그대로 되살린다")
+    void bytes() {
+        HyperLogLog sketch = new HyperLogLog();
+        for (int visitor = 0; visitor < 1_000; visitor++) {
+            sketch.offer(HyperLogLog.hash("visitor-" + visitor));
+        }
+
+        byte[] bytes = sketch.toBytes();
+
+        assertThat(bytes).hasSize(2 + (1 << HyperLogLog.PRECISION));
+        assertThat(HyperLogLog.fromBytes(bytes).estimate()).isEqualTo(sketch.estimate());
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[10])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
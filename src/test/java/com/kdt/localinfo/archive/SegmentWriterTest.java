@@ -0,0 +1,83 @@
+package com.kdt.localinfo.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SegmentWriterTest {
+
+    @TempDir
+    Path baseDir;
+
+    @Test
+    @DisplayName("행마다 한 줄씩 gzip 세그먼트로 쓴다")
+    void write() throws IOException {
+        SegmentWriter writer = new SegmentWriter(baseDir, new ObjectMapper());
+
+        Path segment = writer.write(ArchiveTable.COMMENTS, 3L, 5L, List.of(row(3L, "첫 댓글"), row(5L, "둘째 댓글")));
+
+        assertThat(segment.getParent()).isEqualTo(baseDir.resolve("comments"));
+        assertThat(segment.getFileName().toString()).isEqualTo("comments-0000000000000000003-0000000000000000005.ndjson.gz");
+        assertThat(readLines(segment)).containsExactly(
+                "{\"id\":3,\"contents\":\"첫 댓글\"}",
+                "{\"id\":5,\"contents\":\"둘째 댓글\"}");
+        try (var files = Files.list(segment.getParent())) {
+            assertThat(files.count()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 구간을 다시 쓰면 기존 세그먼트를 덮어쓴다")
+    void rewrite() throws IOException {
+        SegmentWriter writer = new SegmentWriter(baseDir, new ObjectMapper());
+
+        writer.write(ArchiveTable.POSTS, 1L, 1L, List.of(row(1L, "이전")));
+        Path segment = writer.write(ArchiveTable.POSTS, 1L, 1L, List.of(row(1L, "다시")));
+
+        assertThat(readLines(segment)).containsExactly("{\"id\":1,\"contents\":\"다시\"}");
+    }
+
+    @Test
+    @DisplayName("딸린 행은 자기 테이블 아래에 부모를 붙인 이름과 부모의 id 구간으로 쓴다")
+    void writeSideRows() throws IOException {
+        SegmentWriter writer = new SegmentWriter(baseDir, new ObjectMapper());
+
+        Path commentReactions = writer.write(ArchiveSideTable.COMMENT_REACTIONS, 3L, 5L, List.of(row(10L, "좋아요")));
+        Path postReactions = writer.write(ArchiveSideTable.POST_REACTIONS, 3L, 5L, List.of(row(11L, "슬퍼요")));
+
+        assertThat(commentReactions.getParent()).isEqualTo(baseDir.resolve("reactions"));
+        assertThat(commentReactions.getFileName().toString())
+                .isEqualTo("reactions-comments-0000000000000000003-0000000000000000005.ndjson.gz");
+        assertThat(postReactions).isNotEqualTo(commentReactions);
+        assertThat(readLines(commentReactions)).containsExactly("{\"id\":10,\"contents\":\"좋아요\"}");
+    }
+
+    private static Map<String, Object> row(Long id, String contents) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("id", id);
+        row.put("contents", contents);
+        return row;
+    }
+
+    private static List<String> readLines(Path segment) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(segment)), StandardCharsets.UTF_8))) {
+            return reader.lines().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.kdt.localinfo.autocomplete;
+
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.user.entity.Region;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PrefixIndexTest {
+
+    private final Region jeongja = new Region("정자동", "분당구", "성남시");
+    private final Region seohyeon = new Region("서현동", "분당구", "성남시");
+    private final Region seongsu = new Region("성수동", "성동구", "서울시");
+
+    private final PrefixIndex prefixIndex = PrefixIndex.build(List.of(
+            Suggestion.city(jeongja), Suggestion.district(jeongja), Suggestion.neighborhood(jeongja),
+            Suggestion.neighborhood(seohyeon),
+            Suggestion.city(seongsu), Suggestion.district(seongsu), Suggestion.neighborhood(seongsu),
+            Suggestion.category(new Category(1L, "동네맛집")),
+            Suggestion.category(new Category(2L, "Daily"))));
+
+    @Test
+    @DisplayName("접두사로 시작하는 후보를 이름 순서로 찾는다")
+    void search() {
+        assertThat(prefixIndex.search("성", null, 10))
+                .extracting(Suggestion::getName)
+                .containsExactly("성남시", "성동구", "성수동");
+        assertThat(prefixIndex.search("서", null, 10))
+                .extracting(Suggestion::getName)
+                .containsExactly("서울시", "서현동");
+        assertThat(prefixIndex.search("성", null, 1)).hasSize(1);
+        assertThat(prefixIndex.search("없는", null, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종류로 거르고 영문은 대소문자를 가리지 않는다")
+    void searchByType() {
+        assertThat(prefixIndex.search("성", SuggestionType.NEIGHBORHOOD, 10))
+                .extracting(Suggestion::getName, Suggestion::getDistrict)
+                .containsExactly(tuple("성수동", "성동구"));
+        assertThat(prefixIndex.search("dAI", null, 10))
+                .extracting(Suggestion::getCategoryId)
+                .containsExactly(2L);
+    }
+}
@@ -0,0 +1,54 @@
+package com.kdt.localinfo.banword;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AhoCorasickTest {
+
+    private final AhoCorasick automaton = AhoCorasick.build(List.of("he", "she", "his", "hers", "나쁜말", "Spam"));
+
+    @Test
+    @DisplayName("겹치거나 다른 금칙어 안에 들어 있는 금칙어도 한 번에 찾는다")
+    void countMatches() {
+        assertThat(automaton.countMatches("ushers")).isEqualTo(2);
+        assertThat(automaton.countMatches("this is history")).isEqualTo(2);
+        assertThat(automaton.containsAny("깨끗한 글입니다")).isFalse();
+    }
+
+    @Test
+    @DisplayName("대소문자와 띄어쓰기, 특수문자를 섞은 우회 표현도 잡는다")
+    void containsAny() {
+        assertThat(automaton.containsAny("이건 나 쁜 말 이에요")).isTrue();
+        assertThat(automaton.containsAny("S.P.A.M 광고")).isTrue();
+        assertThat(automaton.containsAny(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이웃한 단어의 글자가 우연히 이어지는 것은 금칙어로 보지 않는다")
+    void ignoreAcrossWords() {
+        AhoCorasick swearWords = AhoCorasick.build(List.of("시발"));
+
+        assertThat(swearWords.containsAny("이 시 발표 자료")).isFalse();
+        assertThat(swearWords.containsAny("해외 출시 발매일")).isFalse();
+        assertThat(swearWords.containsAny("시 발")).isTrue();
+        assertThat(swearWords.containsAny("시.발 진짜")).isTrue();
+        assertThat(swearWords.containsAny("아 시발")).isTrue();
+    }
+
+    @Test
+    @DisplayName("목록을 교체하면 새 금칙어로 검사한다")
+    void replace() {
+        BannedWordFilter bannedWordFilter = new BannedWordFilter("");
+        assertThat(bannedWordFilter.containsBannedWord("광고 문의")).isFalse();
+
+        bannedWordFilter.replace(List.of("광고"));
+
+        assertThat(bannedWordFilter.containsBannedWord("광고 문의")).isTrue();
+        assertThat(new NoBannedWordsValidator(bannedWordFilter).isValid("광고 문의", null)).isFalse();
+        assertThat(new NoBannedWordsValidator(bannedWordFilter).isValid(null, null)).isTrue();
+    }
+}
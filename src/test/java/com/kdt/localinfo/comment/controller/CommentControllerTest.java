@@ -53,6 +53,7 @@ class CommentControllerTest {
     @Autowired
     private UserRepository userRepository;
 
+
     @Autowired
     private CategoryRepository categoryRepository;
 
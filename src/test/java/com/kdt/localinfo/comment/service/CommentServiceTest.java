@@ -9,13 +9,16 @@ import com.kdt.localinfo.comment.dto.CommentSaveRequest;
 import com.kdt.localinfo.comment.entity.Comment;
 import com.kdt.localinfo.comment.repository.CommentRepository;
 import com.kdt.localinfo.common.TestEntityFactory;
+import com.kdt.localinfo.mention.MentionService;
 import com.kdt.localinfo.photo.CommentPhoto;
 import com.kdt.localinfo.photo.CommentPhotoRepository;
 import com.kdt.localinfo.post.entity.Post;
 import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.reaction.ReactionService;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.trending.TrendingService;
 import com.kdt.localinfo.user.entity.User;
 import com.kdt.localinfo.user.repository.UserRepository;
-import javassist.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -59,11 +62,21 @@ class CommentServiceTest {
     private AwsS3Service s3Uploader;
     @Mock
     private CommentPhotoRepository commentPhotoRepository;
+    @Mock
+    private CommentSearchService commentSearchService;
+    @Mock
+    private MentionService mentionService;
+    @Mock
+    private TrendingService trendingService;
+    @Mock
+    private ReactionService reactionService;
+    @Mock
+    private ShardExecutor shardExecutor;
 
     @Test
     @Transactional
     @DisplayName("댓글 생성")
-    void saveTest() throws NotFoundException, IOException {
+    void saveTest() throws IOException {
         // GIVEN
         String url = "2544a8cf-b522-48f4-915a-6425018c5957-test2.jpg";
 
@@ -109,12 +122,13 @@ class CommentServiceTest {
         assertThat(commentResponse.getRegion(), is(expectCommentResponse.getRegion()));
         assertThat(commentResponse.getNickName(), is(expectCommentResponse.getNickName()));
         assertThat(commentResponse.getUrls(), is(expectCommentResponse.getUrls()));
+        then(postRepository).should().addCommentCount(post.getId(), 1L);
     }
 
     @Test
     @Transactional(readOnly = true)
     @DisplayName("게시글 아이디로 댓글 조회 Service")
-    void findAllByPostIdTest() throws NotFoundException {
+    void findAllByPostIdTest() {
 
         // GIVEN
         Comment comment = TestEntityFactory.commentBuilder().build();
@@ -224,6 +238,8 @@ class CommentServiceTest {
             assertThat(commentPhoto1.getDeletedAt(), is(notNullValue()));
         });
 
+        commentService.deleteComment(comment.getId());
+        then(postRepository).should(times(1)).addCommentCount(comment.getPost().getId(), -1L);
 
     }
 
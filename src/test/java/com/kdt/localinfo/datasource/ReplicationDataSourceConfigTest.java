@@ -0,0 +1,43 @@
+package com.kdt.localinfo.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourcePropertiesConfig.class, ReplicationDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:primary-config",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "local-info.datasource.replica.url=jdbc:h2:mem:replica-config",
+                    "local-info.datasource.replica.hikari.maximum-pool-size=3");
+
+    @Test
+    @DisplayName("두 풀 모두 spring.datasource.hikari 설정을 받고 replica 는 전용 설정으로 덮어쓴다")
+    void bindHikariProperties() {
+        contextRunner.run(context -> {
+            HikariDataSource primary = context.getBean("primaryDataSource", HikariDataSource.class);
+            HikariDataSource replica = context.getBean("replicaDataSource", HikariDataSource.class);
+
+            assertThat(primary.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(primary.getConnectionTimeout()).isEqualTo(1500L);
+            assertThat(primary.getPoolName()).isEqualTo("primary");
+            assertThat(replica.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(replica.getConnectionTimeout()).isEqualTo(1500L);
+            assertThat(replica.getPoolName()).isEqualTo("replica");
+            assertThat(replica.isReadOnly()).isTrue();
+        });
+    }
+
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class DataSourcePropertiesConfig {
+    }
+}
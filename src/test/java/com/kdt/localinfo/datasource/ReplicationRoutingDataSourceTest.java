@@ -0,0 +1,101 @@
+package com.kdt.localinfo.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicationRoutingDataSourceTest {
+
+    private ReplicaStickiness stickiness;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTemplate;
+    private TransactionTemplate readOnlyTemplate;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        stickiness = new ReplicaStickiness(60_000L);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(new ReplicationRoutingDataSource(primary, replica, stickiness));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        writeTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate = new TransactionTemplate(transactionManager);
+        readOnlyTemplate.setReadOnly(true);
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 replica 로, 나머지는 primary 로 간다")
+    void route() {
+        assertThat(readOnlyTemplate.execute(status -> nodeName())).isEqualTo("replica");
+        assertThat(writeTemplate.execute(status -> nodeName())).isEqualTo("primary");
+        assertThat(nodeName()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션 안에서 부른 읽기 전용 메서드는 같은 primary 연결을 쓴다")
+    void nestedReadOnly() {
+        String nodeName = writeTemplate.execute(status -> {
+            nodeName();
+            return readOnlyTemplate.execute(inner -> nodeName());
+        });
+
+        assertThat(nodeName).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("쓰기를 한 사용자의 읽기는 잠시 primary 로 보낸다")
+    void stickToPrimaryAfterWrite() {
+        stickiness.bind("writer");
+        writeTemplate.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+        assertThat(readOnlyTemplate.execute(status -> nodeName())).isEqualTo("primary");
+        stickiness.clear();
+
+        stickiness.bind("reader");
+        assertThat(readOnlyTemplate.execute(status -> nodeName())).isEqualTo("replica");
+        stickiness.clear();
+    }
+
+    @Test
+    @DisplayName("고정 시간이 지나면 다시 replica 에서 읽는다")
+    void expireStickiness() throws InterruptedException {
+        stickiness = new ReplicaStickiness(50L);
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ReplicationRoutingDataSource(h2("primary"), h2("replica"), stickiness));
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        stickiness.bind("writer");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> nodeName());
+        Thread.sleep(100L);
+
+        assertThat(readOnly.execute(status -> nodeName())).isEqualTo("replica");
+        stickiness.clear();
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DataSource h2(String nodeName) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nodeName + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate node = new JdbcTemplate(dataSource);
+        node.execute("CREATE TABLE node (name VARCHAR(20))");
+        node.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        return dataSource;
+    }
+}
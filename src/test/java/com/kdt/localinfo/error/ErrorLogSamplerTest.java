@@ -0,0 +1,78 @@
+package com.kdt.localinfo.error;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErrorLogSamplerTest {
+
+    private final Logger logger = (Logger) LoggerFactory.getLogger(ErrorLogSampler.class);
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        logger.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        logger.detachAppender(appender);
+    }
+
+    @Test
+    @DisplayName("초당 최대 건수까지만 남기고 나머지는 버린다")
+    void capPerSecond() {
+        ErrorLogSampler sampler = new ErrorLogSampler(1.0, 2);
+
+        for (int i = 0; i < 5; i++) {
+            sampler.log(400, new InvalidInputException("잘못된 입력"), "GET", "/posts");
+        }
+
+        assertThat(appender.list).hasSize(2);
+        assertThat(suppressedOf(appender.list)).containsExactly(0L, 0L);
+    }
+
+    @Test
+    @DisplayName("버린 건수는 다음 구간에 남기는 로그의 suppressed 로 넘긴다")
+    void carryOverSuppressed() throws InterruptedException {
+        ErrorLogSampler sampler = new ErrorLogSampler(1.0, 1);
+
+        for (int i = 0; i < 4; i++) {
+            sampler.log(404, new ResourceNotFoundException("없음"), "GET", "/posts/1");
+        }
+        Thread.sleep(1100L);
+        sampler.log(404, new ResourceNotFoundException("없음"), "GET", "/posts/1");
+        sampler.log(404, new ResourceNotFoundException("없음"), "GET", "/posts/1");
+        Thread.sleep(1100L);
+        sampler.log(404, new ResourceNotFoundException("없음"), "GET", "/posts/1");
+
+        assertThat(suppressedOf(appender.list)).containsExactly(0L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율이 0 이면 아무것도 남기지 않는다")
+    void sampleNothing() {
+        ErrorLogSampler sampler = new ErrorLogSampler(0.0, 100);
+
+        for (int i = 0; i < 10; i++) {
+            sampler.log(400, new InvalidInputException("잘못된 입력"), "POST", "/posts");
+        }
+
+        assertThat(appender.list).isEmpty();
+    }
+
+    private static List<Object> suppressedOf(List<ILoggingEvent> events) {
+        return events.stream().map(event -> event.getArgumentArray()[5]).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,38 @@
+package com.kdt.localinfo.geo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeoPostIndexTest {
+
+    @Test
+    @DisplayName("반경 안의 게시글만 가까운 순서로 찾는다")
+    void findWithin() {
+        GeoPostIndex geoPostIndex = new GeoPostIndex();
+        geoPostIndex.put(1L, 37.5665, 126.9780);   // 서울시청
+        geoPostIndex.put(2L, 37.5700, 126.9830);   // 약 0.6km
+        geoPostIndex.put(3L, 37.4979, 127.0276);   // 강남역, 약 8.8km
+        geoPostIndex.put(4L, 35.1796, 129.0756);   // 부산
+
+        assertThat(geoPostIndex.findWithin(37.5665, 126.9780, 1.0, 10)).containsExactly(1L, 2L);
+        assertThat(geoPostIndex.findWithin(37.5665, 126.9780, 10.0, 10)).containsExactly(1L, 2L, 3L);
+        assertThat(geoPostIndex.findWithin(37.5665, 126.9780, 10.0, 1)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("위치를 옮기거나 지운 게시글은 이전 위치에서 검색되지 않는다")
+    void moveAndRemove() {
+        GeoPostIndex geoPostIndex = new GeoPostIndex();
+        geoPostIndex.put(1L, 37.5665, 126.9780);
+        geoPostIndex.put(2L, 37.5700, 126.9830);
+
+        geoPostIndex.put(1L, 35.1796, 129.0756);
+        geoPostIndex.remove(2L);
+
+        assertThat(geoPostIndex.findWithin(37.5665, 126.9780, 5.0, 10)).isEmpty();
+        assertThat(geoPostIndex.findWithin(35.1796, 129.0756, 1.0, 10)).containsExactly(1L);
+        assertThat(geoPostIndex.size()).isEqualTo(1);
+    }
+}
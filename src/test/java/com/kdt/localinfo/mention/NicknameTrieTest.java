@@ -0,0 +1,57 @@
+package com.kdt.localinfo.mention;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameTrieTest {
+
+    @Test
+    @DisplayName("접두사로 닉네임을 사전순으로 찾고 같은 닉네임의 사용자를 모두 돌려준다")
+    void complete() {
+        NicknameTrie nicknameTrie = new NicknameTrie();
+        nicknameTrie.put("당근", 1L);
+        nicknameTrie.put("당근마켓", 2L);
+        nicknameTrie.put("당산", 3L);
+        nicknameTrie.put("당근", 4L);
+        nicknameTrie.put("감자", 5L);
+
+        assertThat(nicknameTrie.complete("당", 10))
+                .extracting(NicknameTrie.Match::getNickname)
+                .containsExactly("당근", "당근", "당근마켓", "당산");
+        assertThat(nicknameTrie.complete("당근마", 10))
+                .extracting(NicknameTrie.Match::getUserId)
+                .containsExactly(2L);
+        assertThat(nicknameTrie.complete("당", 2)).hasSize(2);
+        assertThat(nicknameTrie.complete("고구마", 10)).isEmpty();
+        assertThat(nicknameTrie.find("당근")).containsExactly(1L, 4L);
+        assertThat(nicknameTrie.find("당")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("닉네임을 지우면 남은 노드가 합쳐지고 더 이상 찾히지 않는다")
+    void remove() {
+        NicknameTrie nicknameTrie = new NicknameTrie();
+        nicknameTrie.put("당근", 1L);
+        nicknameTrie.put("당근마켓", 2L);
+        nicknameTrie.put("당산", 3L);
+
+        nicknameTrie.remove("당근", 1L);
+        nicknameTrie.remove("당산", 3L);
+        nicknameTrie.remove("없는닉네임", 9L);
+
+        assertThat(nicknameTrie.size()).isEqualTo(1);
+        assertThat(nicknameTrie.find("당근")).isEmpty();
+        assertThat(nicknameTrie.complete("당", 10))
+                .extracting(NicknameTrie.Match::getNickname)
+                .containsExactly("당근마켓");
+    }
+
+    @Test
+    @DisplayName("본문에서 멘션할 닉네임을 뽑는다")
+    void extractMentions() {
+        assertThat(Mentions.extract("@당근마켓 님 @감자_123 확인 부탁해요 @ @당근마켓"))
+                .containsExactly("당근마켓", "감자_123");
+    }
+}
@@ -8,11 +8,11 @@ import com.kdt.localinfo.post.dto.PostResponse;
 import com.kdt.localinfo.post.dto.PostUpdateRequest;
 import com.kdt.localinfo.post.entity.Post;
 import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.post.service.CityPostCountSnapshot;
 import com.kdt.localinfo.post.service.PostService;
 import com.kdt.localinfo.user.entity.Region;
 import com.kdt.localinfo.user.entity.User;
 import com.kdt.localinfo.user.repository.UserRepository;
-import javassist.NotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -39,6 +39,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @Slf4j
@@ -54,12 +55,16 @@ class PostControllerTest {
     @Autowired
     private PostService postService;
 
+    @Autowired
+    private CityPostCountSnapshot cityPostCountSnapshot;
+
     @Autowired
     private CategoryRepository categoryRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -77,7 +82,7 @@ class PostControllerTest {
     private PostRepository postRepository;
 
     @BeforeEach
-    void saveSampleData() throws IOException, NotFoundException {
+    void saveSampleData() throws IOException {
         Category category = new Category(1L, "동네생활");
         Category category2 = new Category(2L, "동네맛집");
         savedCategory1 = categoryRepository.save(category);
@@ -145,6 +150,31 @@ class PostControllerTest {
                 .andDo(print());
     }
 
+    @Test
+    @DisplayName("여러 게시물 한 번에 조회 테스트")
+    void findPosts() throws Exception {
+        mockMvc.perform(get("/posts")
+                        .param("ids", savedPostId + ",-1")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].id").value(savedPostId))
+                .andDo(print());
+    }
+
+    @Test
+    @DisplayName("도시별 게시물 수는 요청마다 세지 않고 마지막으로 센 결과를 돌려준다")
+    void countPostsByCity() throws Exception {
+        cityPostCountSnapshot.refresh();
+        postService.savePost(postCreateRequest, new ArrayList<>());
+
+        mockMvc.perform(get("/posts/counts")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.city == 'city1')].postCount").value(1))
+                .andDo(print());
+    }
+
     @Test
     @DisplayName("카테고리별 게시물 조회 테스트")
     void findPostByCategory() throws Exception {
@@ -0,0 +1,38 @@
+package com.kdt.localinfo.post.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PostPreviewTest {
+
+    @Test
+    @DisplayName("최대 길이 이하의 본문은 그대로 쓴다")
+    void shortContents() {
+        assertThat(PostPreview.of("짧은 글")).isEqualTo("짧은 글");
+        assertThat(PostPreview.of("가".repeat(PostPreview.MAX_LENGTH))).hasSize(PostPreview.MAX_LENGTH);
+    }
+
+    @Test
+    @DisplayName("긴 본문은 최대 길이 안에서 자른다")
+    void longContents() {
+        assertThat(PostPreview.of("가".repeat(500))).isEqualTo("가".repeat(PostPreview.MAX_LENGTH));
+    }
+
+    @Test
+    @DisplayName("이모지의 서로게이트 쌍을 가르지 않는다")
+    void keepSurrogatePair() {
+        String preview = PostPreview.of("가".repeat(199) + "👍끝");
+
+        assertThat(preview).isEqualTo("가".repeat(199));
+    }
+
+    @Test
+    @DisplayName("결합 문자를 앞 글자와 떼어 놓지 않는다")
+    void keepCombiningMark() {
+        String preview = PostPreview.of("a" + "e\u0301".repeat(150));
+
+        assertThat(preview).hasSize(199).endsWith("e\u0301");
+    }
+}
@@ -0,0 +1,104 @@
+package com.kdt.localinfo.post.entity;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class TextCodecTest {
+
+    private static final String LONG_POST = "우리 동네 새로 생긴 빵집 다녀왔어요. 소금빵이 정말 맛있고 사장님도 친절하세요. #동네빵집\n".repeat(40);
+
+    @Test
+    @DisplayName("긴 본문은 압축했다가 그대로 되살린다")
+    void roundTrip() {
+        byte[] encoded = TextCodec.encode(LONG_POST);
+
+        assertThat(TextCodec.isCompressed(encoded)).isTrue();
+        assertThat(encoded.length).isLessThan(LONG_POST.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(TextCodec.decode(encoded)).isEqualTo(LONG_POST);
+    }
+
+    @Test
+    @DisplayName("짧은 본문은 압축하지 않는다")
+    void shortText() {
+        byte[] encoded = TextCodec.encode("짧은 글");
+
+        assertThat(TextCodec.isCompressed(encoded)).isFalse();
+        assertThat(encoded).isEqualTo("짧은 글".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("헤더가 없는 기존 값은 UTF-8 본문으로 읽는다")
+    void rawFallback() {
+        byte[] stored = LONG_POST.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(TextCodec.decode(stored)).isEqualTo(LONG_POST);
+        assertThat(TextCodec.decode(new byte[0])).isEmpty();
+    }
+
+    @Test
+    @DisplayName("LZ4 도입 전에 deflate 로 저장한 값도 읽는다")
+    void legacyDeflate() {
+        byte[] raw = LONG_POST.getBytes(StandardCharsets.UTF_8);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        deflater.setInput(raw);
+        deflater.finish();
+        byte[] buffer = new byte[raw.length];
+        int length = deflater.deflate(buffer);
+        deflater.end();
+
+        byte[] stored = new byte[7 + length];
+        stored[0] = (byte) 0xFF;
+        stored[1] = 1;
+        stored[2] = 1;
+        stored[3] = (byte) (raw.length >>> 24);
+        stored[4] = (byte) (raw.length >>> 16);
+        stored[5] = (byte) (raw.length >>> 8);
+        stored[6] = (byte) raw.length;
+        System.arraycopy(buffer, 0, stored, 7, length);
+
+        assertThat(TextCodec.decode(stored)).isEqualTo(LONG_POST);
+    }
+
+    @Test
+    @DisplayName("모르는 형식 버전이나 잘린 값은 읽지 않는다")
+    void rejectUnknownFormat() {
+        byte[] encoded = TextCodec.encode(LONG_POST);
+        byte[] nextVersion = encoded.clone();
+        nextVersion[1] = 2;
+
+        assertThatIllegalStateException().isThrownBy(() -> TextCodec.decode(nextVersion));
+        assertThatIllegalStateException().isThrownBy(() -> TextCodec.decode(Arrays.copyOf(encoded, encoded.length / 2)));
+    }
+
+    @Test
+    @DisplayName("헤더의 원본 길이가 상한을 넘거나 음수이면 할당하기 전에 거절한다")
+    void rejectOversizedRawLength() {
+        byte[] encoded = TextCodec.encode(LONG_POST);
+        byte[] oversized = encoded.clone();
+        oversized[3] = 0x7F;
+        byte[] negative = encoded.clone();
+        negative[3] = (byte) 0x80;
+
+        assertThatIllegalStateException().isThrownBy(() -> TextCodec.decode(oversized));
+        assertThatIllegalStateException().isThrownBy(() -> TextCodec.decode(negative));
+    }
+
+    @Test
+    @DisplayName("스레드 버퍼보다 큰 본문도 압축했다가 그대로 되살린다")
+    void roundTripLargeText() {
+        String text = LONG_POST.repeat(100);
+
+        byte[] encoded = TextCodec.encode(text);
+
+        assertThat(TextCodec.isCompressed(encoded)).isTrue();
+        assertThat(TextCodec.decode(encoded)).isEqualTo(text);
+        assertThat(TextCodec.decode(TextCodec.encode(LONG_POST))).isEqualTo(LONG_POST);
+    }
+}
@@ -0,0 +1,91 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.comment.entity.Comment;
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.user.entity.Region;
+import com.kdt.localinfo.user.entity.User;
+import com.kdt.localinfo.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.persistence.EntityManager;
+import javax.transaction.Transactional;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class CommentCountReconcilerTest {
+
+    @Autowired
+    private CommentCountReconciler commentCountReconciler;
+
+    @Autowired
+    private UserRepository userRepository;
+
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("어긋난 댓글 수는 살아있는 댓글 수로 고치고 맞는 행은 그대로 둔다")
+    void reconcile() {
+        Region region = Region.builder()
+                .city("city1")
+                .district("district1")
+                .neighborhood("neighborhood1")
+                .build();
+        User user = userRepository.save(User.builder()
+                .email("email1")
+                .region(region)
+                .nickname("nickname")
+                .password("password")
+                .name("name")
+                .build());
+        Category category = categoryRepository.save(new Category(1L, "동네생활"));
+        Post driftedPost = new Post("댓글 수가 어긋난 글", region, category);
+        driftedPost.setUser(user);
+        Long driftedPostId = postRepository.save(driftedPost).getId();
+        Post emptyPost = new Post("댓글 없는 글", region, category);
+        emptyPost.setUser(user);
+        Long emptyPostId = postRepository.save(emptyPost).getId();
+
+        commentRepository.save(Comment.builder().contents("댓글").user(user).post(driftedPost).build());
+        Comment deletedComment = commentRepository.save(Comment.builder().contents("지운 댓글").user(user).post(driftedPost).build());
+        commentRepository.softDeleteByIds(List.of(deletedComment.getId()), LocalDateTime.now());
+        entityManager.createNativeQuery("UPDATE posts SET comment_count = 5 WHERE post_id = :postId")
+                .setParameter("postId", driftedPostId)
+                .executeUpdate();
+        entityManager.flush();
+        entityManager.clear();
+
+        commentCountReconciler.reconcile();
+        entityManager.clear();
+
+        assertThat(commentCountOf(driftedPostId)).isEqualTo(1L);
+        assertThat(commentCountOf(emptyPostId)).isEqualTo(0L);
+    }
+
+    private long commentCountOf(Long postId) {
+        return postRepository.findById(postId).orElseThrow().getCommentCount();
+    }
+}
@@ -2,28 +2,44 @@ package com.kdt.localinfo.post.service;
 
 import com.kdt.localinfo.category.Category;
 import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.comment.entity.Comment;
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.error.DuplicatePostException;
+import com.kdt.localinfo.error.InvalidInputException;
+import com.kdt.localinfo.post.dto.CityPostCountResponse;
 import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.dto.PostFeedResponse;
 import com.kdt.localinfo.post.dto.PostResponse;
 import com.kdt.localinfo.post.dto.PostUpdateRequest;
 import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.tag.TagCountResponse;
 import com.kdt.localinfo.user.entity.Region;
 import com.kdt.localinfo.user.entity.User;
 import com.kdt.localinfo.user.repository.UserRepository;
-import javassist.NotFoundException;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 import org.springframework.web.multipart.MultipartFile;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 @ActiveProfiles("test")
 @Transactional
@@ -36,9 +52,19 @@ class PostServiceTest {
     @Autowired
     private UserRepository userRepository;
 
+
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     private Long savedPostId;
 
     private User savedUser;
@@ -49,8 +75,10 @@ class PostServiceTest {
 
     private PostCreateRequest postCreateRequest;
 
+    private Region savedRegion;
+
     @BeforeEach
-    void setUp() throws IOException, NotFoundException {
+    void setUp() throws IOException {
         Category category = new Category(1L, "동네생활");
         savedCategory1 = categoryRepository.save(category);
 
@@ -62,6 +90,7 @@ class PostServiceTest {
                 .district("district1")
                 .neighborhood("neighborhood1")
                 .build();
+        savedRegion = region;
         User user = User.builder()
                 .email("email1")
                 .region(region)
@@ -80,15 +109,79 @@ class PostServiceTest {
                 .build();
 
         savedPostId = postService.savePost(postCreateRequest, multipartFiles).getId();
+        runAfterCommit();
+    }
+
+    // 테스트 트랜잭션은 커밋하지 않으므로 커밋 뒤에 하는 인덱스 반영을 직접 돌린다.
+    private void runAfterCommit() {
+        TransactionSynchronizationUtils.triggerAfterCommit();
     }
 
     @Test
     @DisplayName("게시물 조회 내용 확인용 테스트")
-    void findDetailPost() throws NotFoundException {
+    void findDetailPost() {
         PostResponse foundPost = postService.findDetailPost(savedPostId);
         assertThat(foundPost.getContents()).isEqualTo(postCreateRequest.getContents());
     }
 
+    @Test
+    @DisplayName("상세 조회는 연관을 한 번에 읽고 읽기 전용으로 불러온다")
+    void findDetailReadOnly() {
+        entityManager.flush();
+        entityManager.clear();
+
+        Post post = postRepository.findDetail(savedPostId).orElseThrow();
+
+        assertThat(entityManager.unwrap(Session.class).isReadOnly(post)).isTrue();
+        assertThat(Hibernate.isInitialized(post.getUser())).isTrue();
+        assertThat(Hibernate.isInitialized(post.getCategory())).isTrue();
+        assertThat(Hibernate.isInitialized(post.getBody())).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 게시물을 요청 순서대로 한 번에 조회하고 지워졌거나 없는 글은 뺀다")
+    void findPosts() throws IOException {
+        Long secondPostId = postService.savePost(PostCreateRequest.builder()
+                .contents("weekend flea market at the park")
+                .categoryId(savedCategory2.getId())
+                .userId(savedUser.getId())
+                .build(), new ArrayList<>()).getId();
+        Long deletedPostId = postService.savePost(PostCreateRequest.builder()
+                .contents("lost cat near the station")
+                .categoryId(savedCategory1.getId())
+                .userId(savedUser.getId())
+                .build(), new ArrayList<>()).getId();
+        postService.deletePost(deletedPostId);
+
+        List<PostResponse> posts = postService.findPosts(List.of(secondPostId, deletedPostId, -1L, savedPostId, secondPostId));
+
+        assertThat(posts).extracting(PostResponse::getId).containsExactly(secondPostId, savedPostId);
+        assertThat(posts).extracting(PostResponse::getContents).containsExactly("weekend flea market at the park", postCreateRequest.getContents());
+    }
+
+    @Test
+    @DisplayName("여러 게시물을 조회할 때 지워진 댓글은 담지 않는다")
+    void findPostsWithoutDeletedComments() {
+        Post post = postRepository.findById(savedPostId).orElseThrow();
+        commentRepository.save(Comment.builder().contents("댓글").user(savedUser).post(post).build());
+        Comment deletedComment = commentRepository.save(Comment.builder().contents("지운 댓글").user(savedUser).post(post).build());
+        commentRepository.softDeleteByIds(List.of(deletedComment.getId()), LocalDateTime.now());
+        entityManager.flush();
+        entityManager.clear();
+
+        List<PostResponse> posts = postService.findPosts(List.of(savedPostId));
+
+        assertThat(posts.get(0).getComments()).extracting(Comment::getContents).containsExactly("댓글");
+    }
+
+    @Test
+    @DisplayName("한 번에 조회할 수 있는 게시물 수를 넘으면 거절한다")
+    void findTooManyPosts() {
+        List<Long> postIds = LongStream.rangeClosed(1, 101).boxed().collect(Collectors.toList());
+
+        assertThatThrownBy(() -> postService.findPosts(postIds)).isInstanceOf(InvalidInputException.class);
+    }
+
     @Test
     @DisplayName("카테고리별 게시물 조회 내용 확인용 테스트")
     void findAllByCategory() {
@@ -99,9 +192,159 @@ class PostServiceTest {
         assertThat(findPostsByCategory2.size()).isEqualTo(0);
     }
 
+    @Test
+    @DisplayName("동네별 게시물 피드 커서 페이지 조회 테스트")
+    void findRegionFeed() throws IOException {
+        Long newestPostId = postService.savePost(postCreateRequest, new ArrayList<>()).getId();
+
+        PostFeedResponse firstPage = postService.findRegionFeed(savedRegion, null, null, 1);
+        PostFeedResponse secondPage = postService.findRegionFeed(savedRegion, null, firstPage.getNextCursor(), 1);
+        PostFeedResponse otherCategory = postService.findRegionFeed(savedRegion, savedCategory2.getId(), null, 10);
+
+        assertThat(firstPage.getPosts().get(0).getId()).isEqualTo(newestPostId);
+        assertThat(firstPage.getPosts().get(0).getPreview()).isEqualTo(postCreateRequest.getContents());
+        assertThat(firstPage.getPosts().get(0).getContents()).isNull();
+        assertThat(secondPage.getPosts().get(0).getId()).isEqualTo(savedPostId);
+        assertThat(otherCategory.getPosts()).isEmpty();
+        assertThat(otherCategory.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("태그별 게시물 피드와 지역별 태그 카운트 테스트")
+    void findTagFeed() throws IOException {
+        PostCreateRequest taggedRequest = PostCreateRequest.builder()
+                .contents("새로 생긴 빵집 #동네빵집 #소금빵")
+                .categoryId(savedCategory1.getId())
+                .userId(savedUser.getId())
+                .build();
+        Long firstPostId = postService.savePost(taggedRequest, new ArrayList<>()).getId();
+        Long secondPostId = postService.savePost(taggedRequest, new ArrayList<>()).getId();
+
+        PostFeedResponse firstPage = postService.findTagFeed("#동네빵집", null, 1);
+        PostFeedResponse secondPage = postService.findTagFeed("동네빵집", firstPage.getNextCursor(), 1);
+
+        assertThat(firstPage.getPosts()).extracting(PostResponse::getId).containsExactly(secondPostId);
+        assertThat(secondPage.getPosts()).extracting(PostResponse::getId).containsExactly(firstPostId);
+        assertThat(postService.findPopularTags(savedRegion, 10))
+                .extracting(TagCountResponse::getTag, TagCountResponse::getPostCount)
+                .contains(tuple("동네빵집", 2L), tuple("소금빵", 2L));
+
+        postService.updatePost(secondPostId, PostUpdateRequest.builder()
+                .contents("태그 없는 글")
+                .categoryId(savedCategory1.getId())
+                .build(), new ArrayList<>());
+        postService.deletePost(firstPostId);
+
+        assertThat(postService.findTagFeed("동네빵집", null, 10).getPosts()).isEmpty();
+        assertThat(postService.findPopularTags(savedRegion, 10))
+                .extracting(TagCountResponse::getTag)
+                .doesNotContain("동네빵집", "소금빵");
+    }
+
+    @Test
+    @DisplayName("태그가 남아 있어도 삭제된 게시물은 태그 피드에 나오지 않는다")
+    void findTagFeedWithoutDeletedPosts() throws IOException {
+        PostCreateRequest taggedRequest = PostCreateRequest.builder()
+                .contents("주말 플리마켓 열려요 #플리마켓")
+                .categoryId(savedCategory1.getId())
+                .userId(savedUser.getId())
+                .build();
+        Long livePostId = postService.savePost(taggedRequest, new ArrayList<>()).getId();
+        Long deletedPostId = postService.savePost(taggedRequest, new ArrayList<>()).getId();
+        // 연쇄 삭제가 실패해 post_tags 행이 남은 상황
+        postRepository.softDeleteByIds(List.of(deletedPostId), LocalDateTime.now());
+        entityManager.clear();
+
+        PostFeedResponse feed = postService.findTagFeed("플리마켓", null, 1);
+
+        assertThat(feed.getPosts()).extracting(PostResponse::getId).containsExactly(livePostId);
+    }
+
+    @Test
+    @DisplayName("거의 같은 본문을 반복해서 올리면 거절한다")
+    void rejectNearDuplicatePost() throws IOException {
+        PostCreateRequest spamRequest = PostCreateRequest.builder()
+                .contents("급전 필요하신 분 당일 대출 가능 신용 무관 상담 환영 카톡 abc123 으로 연락 주세요 빠른 진행")
+                .categoryId(savedCategory1.getId())
+                .userId(savedUser.getId())
+                .build();
+        PostCreateRequest variantRequest = PostCreateRequest.builder()
+                .contents("급전 필요하신분 당일 대출 가능 신용무관 상담 환영 카톡 abc123으로 연락주세요 빠른진행!!")
+                .categoryId(savedCategory2.getId())
+                .userId(savedUser.getId())
+                .build();
+        postService.savePost(spamRequest, new ArrayList<>());
+        runAfterCommit();
+        postService.savePost(spamRequest, new ArrayList<>());
+        runAfterCommit();
+
+        assertThatThrownBy(() -> postService.savePost(variantRequest, new ArrayList<>()))
+                .isInstanceOf(DuplicatePostException.class);
+    }
+
+    @Test
+    @DisplayName("동네 인기글의 카테고리 필터와 삭제 반영 테스트")
+    void findTrendingPosts() throws IOException {
+        PostCreateRequest otherCategoryRequest = PostCreateRequest.builder()
+                .contents("this is trending post")
+                .categoryId(savedCategory2.getId())
+                .userId(savedUser.getId())
+                .build();
+        Long trendingPostId = postService.savePost(otherCategoryRequest, new ArrayList<>()).getId();
+        runAfterCommit();
+
+        assertThat(postService.findTrendingPosts(savedRegion, null, 10))
+                .extracting(PostResponse::getId).contains(savedPostId, trendingPostId);
+        assertThat(postService.findTrendingPosts(savedRegion, savedCategory2.getId(), 10))
+                .extracting(PostResponse::getId).containsExactly(trendingPostId);
+
+        postService.deletePost(trendingPostId);
+        assertThat(postService.findTrendingPosts(savedRegion, null, 10))
+                .extracting(PostResponse::getId).contains(savedPostId).doesNotContain(trendingPostId);
+    }
+
+    @Test
+    @DisplayName("반경 내 게시물 조회 테스트")
+    void findPostsWithin() throws IOException {
+        PostCreateRequest locatedRequest = PostCreateRequest.builder()
+                .contents("this is located post")
+                .categoryId(savedCategory1.getId())
+                .userId(savedUser.getId())
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .build();
+        Long locatedPostId = postService.savePost(locatedRequest, new ArrayList<>()).getId();
+        runAfterCommit();
+
+        List<PostResponse> nearPosts = postService.findPostsWithin(37.5700, 126.9830, 1.0, 10);
+        List<PostResponse> farPosts = postService.findPostsWithin(35.1796, 129.0756, 1.0, 10);
+
+        assertThat(nearPosts).extracting(PostResponse::getId).contains(locatedPostId);
+        assertThat(farPosts).extracting(PostResponse::getId).doesNotContain(locatedPostId);
+    }
+
+    @Test
+    @DisplayName("본문 검색 결과의 카테고리 필터와 수정, 삭제 반영 테스트")
+    void searchPosts() throws IOException {
+        PostCreateRequest searchableRequest = PostCreateRequest.builder()
+                .contents("searchable bakery review")
+                .categoryId(savedCategory2.getId())
+                .userId(savedUser.getId())
+                .build();
+        Long searchablePostId = postService.savePost(searchableRequest, new ArrayList<>()).getId();
+        runAfterCommit();
+
+        assertThat(postService.searchPosts("bakery", null, savedRegion, 0, 10))
+                .extracting(PostResponse::getId).containsExactly(searchablePostId);
+        assertThat(postService.searchPosts("bakery", savedCategory1.getId(), null, 0, 10)).isEmpty();
+
+        postService.deletePost(searchablePostId);
+        assertThat(postService.searchPosts("bakery", null, null, 0, 10)).isEmpty();
+    }
+
     @Test
     @DisplayName("게시물 수정 내용 확인용 테스트")
-    void updatePost() throws NotFoundException, IOException {
+    void updatePost() throws IOException {
         List<MultipartFile> multipartFiles = new ArrayList<>();
         PostUpdateRequest postUpdateRequest = PostUpdateRequest.builder()
                 .contents("this is updated post")
@@ -113,6 +356,15 @@ class PostServiceTest {
         assertThat(postResponse.getContents()).isNotEqualTo(postCreateRequest.getContents());
     }
 
+    @Test
+    @DisplayName("도시별 살아있는 게시물 수를 모든 shard 에서 모은다")
+    void countLivePostsByCity() {
+        assertThat(postService.countLivePostsByCity())
+                .extracting(CityPostCountResponse::getCity, CityPostCountResponse::getPostCount)
+                .contains(tuple("city1", 1L));
+        assertThat(postService.findCityOfUser(savedUser.getId())).isEqualTo("city1");
+    }
+
     @Test
     @DisplayName("게시물 삭제 확인용 테스트")
     void deletePost() {
@@ -0,0 +1,129 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.dto.PostResponse;
+import com.kdt.localinfo.region.RegionAdjacency;
+import com.kdt.localinfo.region.RegionAdjacencyRepository;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.region.RegionGraph;
+import com.kdt.localinfo.shard.ReferenceReplicator;
+import com.kdt.localinfo.shard.ShardContext;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.shard.ShardMap;
+import com.kdt.localinfo.tag.TagCountResponse;
+import com.kdt.localinfo.user.dto.UserRequest;
+import com.kdt.localinfo.user.entity.Region;
+import com.kdt.localinfo.user.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "local-info.sharding.enabled=true",
+        "local-info.sharding.node-id=1",
+        "local-info.sharding.shards[0].name=seoul",
+        "local-info.sharding.shards[0].url=jdbc:h2:mem:shard-seoul;DB_CLOSE_DELAY=-1",
+        "local-info.sharding.shards[0].cities[0]=서울시",
+        "local-info.sharding.shards[1].name=busan",
+        "local-info.sharding.shards[1].url=jdbc:h2:mem:shard-busan;DB_CLOSE_DELAY=-1",
+        "local-info.sharding.shards[1].cities[0]=부산시",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ShardedFeedTest {
+
+    private static final Region SEOUL = Region.builder().city("서울시").district("송파구").neighborhood("잠실동").build();
+    private static final Region BUSAN = Region.builder().city("부산시").district("수영구").neighborhood("광안동").build();
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private ReferenceReplicator referenceReplicator;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RegionAdjacencyRepository regionAdjacencyRepository;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private RegionGraph regionGraph;
+
+    private Long categoryId;
+
+    @BeforeEach
+    void setUp() {
+        categoryId = categoryRepository.save(new Category(null, "동네소식")).getId();
+        regionAdjacencyRepository.save(new RegionAdjacency(regionDictionary.idOf(SEOUL), regionDictionary.idOf(BUSAN)));
+        referenceReplicator.copyAll();
+        regionGraph.reload();
+    }
+
+    @Test
+    @DisplayName("동네 피드와 태그 카운트는 도시의 shard 와 샤딩 전 글이 남은 기본 shard 를 함께 읽고, 이웃 피드는 다른 도시의 shard 까지 읽는다")
+    void readFeedsAcrossShards() throws IOException {
+        Long seoulUserId = addUser("잠실주민", SEOUL);
+        Long busanUserId = addUser("광안주민", BUSAN);
+
+        Long seoulPostId = write(seoulUserId, "잠실 호수공원 산책 모임 #산책");
+        Long busanPostId = write(busanUserId, "광안리 불꽃축제 자리 정보 #광안리");
+        // 부산을 shard 로 나누기 전에 기본 shard 에 쓴 글
+        Long legacyPostId = ShardContext.call(ShardMap.DEFAULT_SHARD, () -> postService.savePost(
+                request(busanUserId, "광안대교 야경 명소 추천 #광안리"), new ArrayList<>()).getId());
+
+        assertThat(postService.findRegionFeed(BUSAN, null, null, 10).getPosts())
+                .extracting(PostResponse::getId).containsExactly(legacyPostId, busanPostId);
+        assertThat(postService.findNearbyFeed(SEOUL, 1, null, null, 10).getPosts())
+                .extracting(PostResponse::getId).containsExactly(legacyPostId, busanPostId, seoulPostId);
+        assertThat(postService.findPopularTags(BUSAN, 10))
+                .extracting(TagCountResponse::getTag, TagCountResponse::getPostCount)
+                .containsExactly(tuple("광안리", 2L));
+    }
+
+    private Long addUser(String nickname, Region region) {
+        return userService.addUser(UserRequest.builder()
+                .name("name")
+                .nickname(nickname)
+                .email(nickname + "@mail.com")
+                .password("password")
+                .role("GENERAL")
+                .neighborhood(region.getNeighborhood())
+                .district(region.getDistrict())
+                .city(region.getCity())
+                .build()).getId();
+    }
+
+    private Long write(Long userId, String contents) throws IOException {
+        return shardExecutor.onCity(postService.findCityOfUser(userId),
+                () -> postService.savePost(request(userId, contents), new ArrayList<>())).getId();
+    }
+
+    private PostCreateRequest request(Long userId, String contents) {
+        return PostCreateRequest.builder()
+                .contents(contents)
+                .categoryId(categoryId)
+                .userId(userId)
+                .build();
+    }
+}
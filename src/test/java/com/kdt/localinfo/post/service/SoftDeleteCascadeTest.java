@@ -0,0 +1,130 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.comment.repository.CommentRepository;
+import com.kdt.localinfo.comment.service.CommentSearchService;
+import com.kdt.localinfo.geo.GeoPostIndex;
+import com.kdt.localinfo.photo.CommentPhotoRepository;
+import com.kdt.localinfo.photo.PhotoRepository;
+import com.kdt.localinfo.post.entity.Post;
+import com.kdt.localinfo.post.repository.PostRepository;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.shard.ShardExecutor;
+import com.kdt.localinfo.shard.ShardMap;
+import com.kdt.localinfo.spam.DuplicatePostGuard;
+import com.kdt.localinfo.tag.TagService;
+import com.kdt.localinfo.trending.TrendingService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class SoftDeleteCascadeTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @Mock
+    private PhotoRepository photoRepository;
+    @Mock
+    private CommentPhotoRepository commentPhotoRepository;
+    @Mock
+    private GeoPostIndex geoPostIndex;
+    @Mock
+    private PostSearchService postSearchService;
+    @Mock
+    private CommentSearchService commentSearchService;
+    @Mock
+    private TagService tagService;
+    @Mock
+    private RegionDictionary regionDictionary;
+    @Mock
+    private DuplicatePostGuard duplicatePostGuard;
+    @Mock
+    private TrendingService trendingService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SoftDeleteCascade softDeleteCascade;
+
+    @BeforeEach
+    void setUp() {
+        softDeleteCascade = new SoftDeleteCascade(postRepository, commentRepository, photoRepository,
+                commentPhotoRepository, geoPostIndex, postSearchService, commentSearchService, tagService,
+                regionDictionary, duplicatePostGuard, trendingService, transactionManager,
+                new ShardExecutor(ShardMap.single(), transactionManager, 1000L));
+    }
+
+    @Test
+    @DisplayName("게시글 삭제는 댓글을 구간으로 나눠 댓글 사진, 댓글, 게시글 사진 순으로 지운다")
+    void cascadePost() {
+        List<Long> firstChunk = LongStream.rangeClosed(1, 500).boxed().collect(Collectors.toList());
+        List<Long> secondChunk = List.of(501L, 502L);
+        given(commentRepository.findLiveIdChunkByPostIds(eq(List.of(7L)), eq(0L), any(Pageable.class))).willReturn(firstChunk);
+        given(commentRepository.findLiveIdChunkByPostIds(eq(List.of(7L)), eq(500L), any(Pageable.class))).willReturn(secondChunk);
+
+        softDeleteCascade.cascadePost(7L);
+
+        InOrder order = inOrder(commentPhotoRepository, commentRepository, photoRepository);
+        order.verify(commentPhotoRepository).softDeleteByCommentIds(eq(firstChunk), any());
+        order.verify(commentRepository).softDeleteByIds(eq(firstChunk), any());
+        order.verify(commentPhotoRepository).softDeleteByCommentIds(eq(secondChunk), any());
+        order.verify(commentRepository).softDeleteByIds(eq(secondChunk), any());
+        order.verify(photoRepository).softDeleteByPostIds(eq(List.of(7L)), any());
+        then(commentSearchService).should().remove(502L);
+    }
+
+    @Test
+    @DisplayName("연쇄 삭제가 실패해 댓글이나 사진이 남은 삭제된 게시글은 sweep 이 마저 지운다")
+    void sweep() {
+        given(postRepository.findDeletedIdChunkWithLiveChildren(eq(0L), any(Pageable.class))).willReturn(List.of(7L, 9L));
+        given(commentRepository.findLiveIdChunkByPostIds(eq(List.of(7L, 9L)), eq(0L), any(Pageable.class))).willReturn(List.of(20L));
+
+        softDeleteCascade.sweep();
+
+        then(commentRepository).should().softDeleteByIds(eq(List.of(20L)), any());
+        then(photoRepository).should().softDeleteByPostIds(eq(List.of(7L, 9L)), any());
+        then(postRepository).should(never()).findDeletedIdChunkWithLiveChildren(eq(9L), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("사용자 삭제는 게시글과 다른 글에 단 댓글까지 지우고 댓글 수를 다시 센다")
+    void cascadeUser() {
+        Post post = mock(Post.class);
+        given(post.getId()).willReturn(3L);
+        given(postRepository.findLiveChunkByUserId(eq(1L), eq(0L), any(Pageable.class))).willReturn(List.of(post));
+        given(commentRepository.findLiveIdChunkByPostIds(eq(List.of(3L)), anyLong(), any(Pageable.class))).willReturn(List.of());
+        given(commentRepository.findLiveChunkByUserId(eq(1L), eq(0L), any(Pageable.class)))
+                .willReturn(List.of(new Object[]{10L, 8L}, new Object[]{11L, 9L}));
+
+        softDeleteCascade.cascadeUser(1L);
+
+        then(photoRepository).should().softDeleteByPostIds(eq(List.of(3L)), any());
+        then(postRepository).should().softDeleteByIds(eq(List.of(3L)), any());
+        then(geoPostIndex).should().remove(3L);
+        then(trendingService).should().remove(post);
+        then(commentRepository).should().softDeleteByIds(eq(List.of(10L, 11L)), any());
+        then(postRepository).should().recountComments(Set.of(8L, 9L));
+        then(postRepository).should(never()).findLiveChunkByUserId(eq(1L), eq(3L), any(Pageable.class));
+    }
+}
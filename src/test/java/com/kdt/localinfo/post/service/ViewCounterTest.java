@@ -0,0 +1,68 @@
+package com.kdt.localinfo.post.service;
+
+import com.kdt.localinfo.post.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class ViewCounterTest {
+
+    @Mock
+    private PostRepository postRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ViewCounter viewCounter;
+
+    @BeforeEach
+    void setUp() {
+        viewCounter = new ViewCounter(postRepository, transactionManager, 2);
+    }
+
+    @Test
+    @DisplayName("모아 둔 조회수를 배치 크기로 나눠 반영한다")
+    @SuppressWarnings("unchecked")
+    void flush() {
+        viewCounter.increment(3L);
+        viewCounter.increment(1L);
+        viewCounter.increment(1L);
+        viewCounter.increment(2L);
+        assertThat(viewCounter.pendingOf(1L)).isEqualTo(2L);
+
+        viewCounter.flush();
+
+        ArgumentCaptor<Map<Long, Long>> batches = ArgumentCaptor.forClass(Map.class);
+        then(postRepository).should(times(2)).addViewCounts(batches.capture());
+        assertThat(batches.getAllValues().get(0)).containsExactly(Map.entry(1L, 2L), Map.entry(2L, 1L));
+        assertThat(batches.getAllValues().get(1)).containsExactly(Map.entry(3L, 1L));
+        assertThat(viewCounter.pendingOf(1L)).isZero();
+
+        viewCounter.flush();
+        then(postRepository).should(times(2)).addViewCounts(anyMap());
+    }
+
+    @Test
+    @DisplayName("반영에 실패한 조회수는 다음 주기에 다시 반영한다")
+    void retryFailedFlush() {
+        given(postRepository.addViewCounts(anyMap())).willThrow(new IllegalStateException("db down"));
+        viewCounter.increment(1L);
+
+        viewCounter.flush();
+
+        assertThat(viewCounter.pendingOf(1L)).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,115 @@
+package com.kdt.localinfo.reaction;
+
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.service.PostService;
+import com.kdt.localinfo.user.entity.Region;
+import com.kdt.localinfo.user.entity.User;
+import com.kdt.localinfo.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.transaction.Transactional;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@Transactional
+@SpringBootTest
+class ReactionServiceTest {
+
+    @Autowired
+    private ReactionService reactionService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Long savedPostId;
+
+    private User firstUser;
+
+    private User secondUser;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Category category = categoryRepository.save(new Category(1L, "동네생활"));
+        Region region = Region.builder()
+                .city("city1")
+                .district("district1")
+                .neighborhood("neighborhood1")
+                .build();
+        firstUser = userRepository.save(User.builder()
+                .email("email1")
+                .region(region)
+                .nickname("nickname1")
+                .password("password")
+                .name("name")
+                .build());
+        secondUser = userRepository.save(User.builder()
+                .email("email2")
+                .region(region)
+                .nickname("nickname2")
+                .password("password")
+                .name("name")
+                .build());
+
+        savedPostId = postService.savePost(PostCreateRequest.builder()
+                .contents("this is liked post")
+                .categoryId(category.getId())
+                .userId(firstUser.getId())
+                .build(), new ArrayList<>()).getId();
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 좋아요는 한 번만 센다")
+    void like() {
+        reactionService.like(ReactionTarget.POST, savedPostId, firstUser.getId());
+        ReactionResponse duplicated = reactionService.like(ReactionTarget.POST, savedPostId, firstUser.getId());
+        ReactionResponse second = reactionService.like(ReactionTarget.POST, savedPostId, secondUser.getId());
+
+        assertThat(duplicated.getLikeCount()).isEqualTo(1L);
+        assertThat(second.getLikeCount()).isEqualTo(2L);
+        assertThat(postService.findDetailPost(savedPostId).getLikeCount()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("좋아요를 취소하면 개수가 줄고, 누르지 않은 취소는 무시한다")
+    void unlike() {
+        reactionService.like(ReactionTarget.POST, savedPostId, firstUser.getId());
+        reactionService.like(ReactionTarget.POST, savedPostId, secondUser.getId());
+
+        reactionService.unlike(ReactionTarget.POST, savedPostId, firstUser.getId());
+        ReactionResponse ignored = reactionService.unlike(ReactionTarget.POST, savedPostId, firstUser.getId());
+
+        assertThat(ignored.getLikeCount()).isEqualTo(1L);
+        assertThat(reactionService.countAll(ReactionTarget.POST, List.of(savedPostId, -1L)))
+                .containsEntry(savedPostId, 1L)
+                .containsEntry(-1L, 0L);
+    }
+
+    @Test
+    @DisplayName("삭제된 게시글에는 좋아요를 누를 수 없다")
+    void likeDeletedPost() {
+        postService.deletePost(savedPostId);
+
+        assertThatThrownBy(() -> reactionService.like(ReactionTarget.POST, savedPostId, firstUser.getId()))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+}
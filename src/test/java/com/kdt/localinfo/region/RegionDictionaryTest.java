@@ -0,0 +1,63 @@
+package com.kdt.localinfo.region;
+
+import com.kdt.localinfo.user.entity.Region;
+import com.kdt.localinfo.user.entity.User;
+import com.kdt.localinfo.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest
+class RegionDictionaryTest {
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private RegionCodeRepository regionCodeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("같은 지역은 같은 정수 키와 같은 인스턴스로 변환된다")
+    void internRegion() {
+        Region region = new Region("정자동", "분당구", "성남시");
+
+        Integer id = regionDictionary.idOf(region);
+        Integer sameId = regionDictionary.idOf(new Region("정자동", "분당구", "성남시"));
+
+        assertThat(sameId).isEqualTo(id);
+        assertThat(regionDictionary.regionOf(id)).isEqualTo(region);
+        assertThat(regionDictionary.regionOf(id)).isSameAs(regionDictionary.regionOf(sameId));
+        assertThat(regionCodeRepository.findById(id)).isPresent();
+    }
+
+    @Test
+    @DisplayName("미리 등록하지 않은 지역도 엔티티를 저장할 때 등록된다")
+    void registerOnSave() {
+        Region region = new Region("반송동", "기장군", "부산시");
+
+        User user = userRepository.saveAndFlush(User.builder()
+                .name("name")
+                .nickname("nickname")
+                .email("email")
+                .password("password")
+                .region(region)
+                .build());
+
+        assertThat(regionDictionary.findId(region)).isPresent();
+        assertThat(userRepository.findById(user.getId())).get().extracting(User::getRegion).isEqualTo(region);
+    }
+
+    @Test
+    @DisplayName("조회만으로는 새 지역이 등록되지 않는다")
+    void findUnknownRegion() {
+        assertThat(regionDictionary.findId(new Region("없는동", "없는구", "없는시"))).isEmpty();
+    }
+}
@@ -0,0 +1,49 @@
+package com.kdt.localinfo.region;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class RegionGraphTest {
+
+    @Mock
+    private RegionAdjacencyRepository regionAdjacencyRepository;
+
+    private RegionGraph regionGraph;
+
+    @BeforeEach
+    void setUp() {
+        // 1 - 2 - 3 - 4, 2 - 5
+        given(regionAdjacencyRepository.findAll()).willReturn(List.of(
+                new RegionAdjacency(1, 2),
+                new RegionAdjacency(2, 3),
+                new RegionAdjacency(3, 4),
+                new RegionAdjacency(2, 5)));
+        regionGraph = new RegionGraph(regionAdjacencyRepository);
+        regionGraph.reload();
+    }
+
+    @Test
+    @DisplayName("hop 수 이내의 인접 지역을 가까운 순서로 찾는다")
+    void withinHops() {
+        assertThat(regionGraph.withinHops(1, 0)).containsExactly(1);
+        assertThat(regionGraph.withinHops(1, 1)).containsExactly(1, 2);
+        assertThat(regionGraph.withinHops(1, 2)).containsExactly(1, 2, 3, 5);
+        assertThat(regionGraph.withinHops(4, 3)).containsExactlyInAnyOrder(4, 3, 2, 1, 5);
+    }
+
+    @Test
+    @DisplayName("인접 정보가 없는 지역은 자기 자신만 돌려준다")
+    void isolatedRegion() {
+        assertThat(regionGraph.withinHops(99, 2)).containsExactly(99);
+    }
+}
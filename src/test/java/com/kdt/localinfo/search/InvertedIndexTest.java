@@ -0,0 +1,63 @@
+package com.kdt.localinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @Test
+    @DisplayName("검색어가 많이 들어간 짧은 문서가 먼저 나오고 필터와 페이지가 적용된다")
+    void search() {
+        InvertedIndex invertedIndex = new InvertedIndex(new SimpleTokenizer(), 2);
+        invertedIndex.add(1L, "강남 맛집 추천 맛집");
+        invertedIndex.add(2L, "강남 카페");
+        invertedIndex.add(3L, "맛집 어디 있나요 알려주세요");
+
+        assertThat(invertedIndex.search("맛집", docId -> true, 0, 10)).containsExactly(1L, 3L);
+        assertThat(invertedIndex.search("맛집", docId -> docId != 1L, 0, 10)).containsExactly(3L);
+        assertThat(invertedIndex.search("맛집", docId -> true, 1, 10)).containsExactly(3L);
+        assertThat(invertedIndex.search("없는단어", docId -> true, 0, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("수정, 삭제된 문서는 세그먼트를 병합한 뒤에도 이전 내용으로 검색되지 않는다")
+    void updateRemoveAndMerge() {
+        InvertedIndex invertedIndex = new InvertedIndex(new SimpleTokenizer(), 1);
+        invertedIndex.add(1L, "중고 자전거 팝니다");
+        invertedIndex.add(2L, "자전거 수리점");
+        invertedIndex.add(3L, "헬스장 추천");
+
+        invertedIndex.add(1L, "중고 책상 팝니다");
+        invertedIndex.remove(3L);
+
+        assertThat(invertedIndex.search("자전거", docId -> true, 0, 10)).containsExactly(2L);
+        assertThat(invertedIndex.search("헬스장", docId -> true, 0, 10)).isEmpty();
+
+        assertThat(invertedIndex.mergeSmallest(2)).isTrue();
+        assertThat(invertedIndex.segmentCount()).isEqualTo(2);
+        assertThat(invertedIndex.mergeSmallest(1)).isTrue();
+
+        assertThat(invertedIndex.segmentCount()).isEqualTo(1);
+        assertThat(invertedIndex.docCount()).isEqualTo(2);
+        assertThat(invertedIndex.search("자전거", docId -> true, 0, 10)).containsExactly(2L);
+        assertThat(invertedIndex.search("책상", docId -> true, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("지운 문서의 포스팅이 세그먼트에 남아 있어도 문서 빈도에 넣지 않는다")
+    void ignoreRemovedDocsInDocumentFrequency() {
+        InvertedIndex invertedIndex = new InvertedIndex(new SimpleTokenizer(), 1);
+        for (long docId = 10L; docId < 15L; docId++) {
+            invertedIndex.add(docId, "사과 상자");
+            invertedIndex.remove(docId);
+        }
+        invertedIndex.add(1L, "배 하나");
+        invertedIndex.add(2L, "사과 하나");
+        invertedIndex.add(3L, "배 둘");
+
+        // 살아있는 문서만 세면 사과가 배보다 드물어 사과 문서가 먼저 나온다.
+        assertThat(invertedIndex.search("사과 배", docId -> true, 0, 10)).containsExactly(2L, 3L, 1L);
+    }
+}
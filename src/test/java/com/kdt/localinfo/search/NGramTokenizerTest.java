@@ -0,0 +1,93 @@
+package com.kdt.localinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NGramTokenizerTest {
+
+    private final NGramTokenizer tokenizer = new NGramTokenizer();
+
+    @Test
+    @DisplayName("한글은 음절, 2~3글자 n-gram 과 입력 중인 모양의 변형으로, 영문과 숫자는 단어로 자른다")
+    void tokenize() {
+        assertThat(tokens("강남역 Cafe2층!")).containsExactly(
+                "강", "ㄱ", "가ㅇ", "강남", "강나", "강ㄴ", "강나ㅁ", "강남역", "강남여", "강남ㅇ",
+                "남", "ㄴ", "나ㅁ", "남역", "남여", "남ㅇ", "남여ㄱ",
+                "역", "ㅇ", "여ㄱ", "cafe2", "층", "ㅊ", "츠ㅇ");
+    }
+
+    @Test
+    @DisplayName("겹받침은 앞 자음을 남기고 뒤 자음만 떼어 낸다")
+    void splitDoubleJongseong() {
+        assertThat(tokens("닭")).containsExactly("닭", "ㄷ", "달ㄱ");
+    }
+
+    @Test
+    @DisplayName("검색어에는 변형을 넣지 않고, 단어 끝에 홀로 붙은 자모만 남긴다")
+    void tokenizeQuery() {
+        assertThat(queryTokens("맛집ㅋㅋ")).containsExactly("맛집");
+        assertThat(queryTokens("ㅋㅋ")).isEmpty();
+        assertThat(queryTokens("ㄱ")).containsExactly("ㄱ");
+        assertThat(queryTokens("강남 가ㄴ")).containsExactly("강남", "가ㄴ");
+    }
+
+    @Test
+    @DisplayName("자모로 풀어 쓴 글도 완성형과 같은 토큰이 된다")
+    void normalize() {
+        assertThat(tokens(Normalizer.normalize("맛집", Normalizer.Form.NFD))).isEqualTo(tokens("맛집"));
+    }
+
+    @Test
+    @DisplayName("입력 중인 검색어로도 게시글을 찾는다")
+    void searchWhileTyping() {
+        InvertedIndex invertedIndex = new InvertedIndex(tokenizer, 10);
+        invertedIndex.add(1L, "강남역 근처 맛집 추천해요");
+        invertedIndex.add(2L, "맛있는 빵집");
+
+        assertThat(invertedIndex.search("맛집", docId -> true, 0, 10)).containsExactly(1L);
+        assertThat(invertedIndex.search("맛지", docId -> true, 0, 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("한 글자 검색어로도 그 음절이 들어간 단어를 찾는다")
+    void searchSingleSyllable() {
+        InvertedIndex invertedIndex = new InvertedIndex(tokenizer, 10);
+        invertedIndex.add(1L, "강남역 근처 맛집 추천해요");
+        invertedIndex.add(2L, "빵집 추천");
+
+        assertThat(invertedIndex.search("맛", docId -> true, 0, 10)).containsExactly(1L);
+        assertThat(invertedIndex.search("집", docId -> true, 0, 10)).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("초성 하나나 받침, 다음 음절의 초성까지만 입력한 검색어로도 찾는다")
+    void searchWithTrailingJamo() {
+        InvertedIndex invertedIndex = new InvertedIndex(tokenizer, 10);
+        invertedIndex.add(1L, "강남역 근처 맛집");
+        invertedIndex.add(2L, "간식 나눔해요");
+        invertedIndex.add(3L, "가나다 학원");
+
+        assertThat(invertedIndex.search("ㄱ", docId -> true, 0, 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(invertedIndex.search("가ㄴ", docId -> true, 0, 10)).containsExactlyInAnyOrder(2L, 3L);
+        assertThat(invertedIndex.search("강ㄴ", docId -> true, 0, 10)).containsExactly(1L);
+        assertThat(invertedIndex.search("ㅋㅋ", docId -> true, 0, 10)).isEmpty();
+    }
+
+    private List<String> queryTokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenizer.tokenizeQuery(text, (buffer, offset, length) -> tokens.add(new String(buffer, offset, length)));
+        return tokens;
+    }
+
+    private List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        tokenizer.tokenize(text, (buffer, offset, length) -> tokens.add(new String(buffer, offset, length)));
+        return tokens;
+    }
+}
@@ -0,0 +1,36 @@
+package com.kdt.localinfo.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ScoreTableTest {
+
+    @Test
+    @DisplayName("같은 문서의 점수는 더하고, 점수가 같으면 큰 문서 ID 가 먼저 나온다")
+    void accumulateAndRank() {
+        ScoreTable scores = new ScoreTable(8);
+        scores.add(1L, 1.0);
+        scores.add(2L, 0.5);
+        scores.add(3L, 1.5);
+        scores.add(2L, 1.0);
+
+        assertThat(scores.size()).isEqualTo(3);
+        assertThat(scores.top(0, 10)).containsExactly(3L, 2L, 1L);
+        assertThat(scores.top(1, 1)).containsExactly(2L);
+        assertThat(scores.top(5, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("처음 크기보다 많은 문서가 들어와도 점수를 잃지 않는다")
+    void growBeyondExpectedSize() {
+        ScoreTable scores = new ScoreTable(8);
+        for (long docId = 1L; docId <= 1000L; docId++) {
+            scores.add(docId * 1_000_003L, docId);
+        }
+
+        assertThat(scores.size()).isEqualTo(1000);
+        assertThat(scores.top(0, 3)).containsExactly(1000L * 1_000_003L, 999L * 1_000_003L, 998L * 1_000_003L);
+    }
+}
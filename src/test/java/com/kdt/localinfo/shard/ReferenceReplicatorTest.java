@@ -0,0 +1,118 @@
+package com.kdt.localinfo.shard;
+
+import com.kdt.localinfo.category.Category;
+import com.kdt.localinfo.category.CategoryRepository;
+import com.kdt.localinfo.post.dto.PostCreateRequest;
+import com.kdt.localinfo.post.dto.PostResponse;
+import com.kdt.localinfo.post.service.PostService;
+import com.kdt.localinfo.region.RegionCode;
+import com.kdt.localinfo.region.RegionCodeRepository;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.tag.Tag;
+import com.kdt.localinfo.tag.TagDictionary;
+import com.kdt.localinfo.tag.TagRepository;
+import com.kdt.localinfo.user.dto.UserRequest;
+import com.kdt.localinfo.user.entity.Region;
+import com.kdt.localinfo.user.entity.User;
+import com.kdt.localinfo.user.repository.UserRepository;
+import com.kdt.localinfo.user.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "local-info.sharding.enabled=true",
+        "local-info.sharding.node-id=1",
+        "local-info.sharding.shards[0].name=seoul",
+        "local-info.sharding.shards[0].url=jdbc:h2:mem:shard-seoul;DB_CLOSE_DELAY=-1",
+        "local-info.sharding.shards[0].cities[0]=서울시",
+        "local-info.sharding.shards[1].name=busan",
+        "local-info.sharding.shards[1].url=jdbc:h2:mem:shard-busan;DB_CLOSE_DELAY=-1",
+        "local-info.sharding.shards[1].cities[0]=부산시",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+class ReferenceReplicatorTest {
+
+    private static final int BUSAN = 1;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ShardExecutor shardExecutor;
+
+    @Autowired
+    private ReferenceReplicator referenceReplicator;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RegionCodeRepository regionCodeRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private RegionDictionary regionDictionary;
+
+    @Autowired
+    private TagDictionary tagDictionary;
+
+    @Test
+    @DisplayName("참조 테이블은 기본 shard 의 키 그대로 모든 shard 에 복사되고 게시글은 작성자 도시의 shard 에 쓴다")
+    void copyReferenceTables() throws IOException {
+        Category category = categoryRepository.save(new Category(null, "동네생활"));
+        referenceReplicator.copyAll();
+
+        Long userId = userService.addUser(UserRequest.builder()
+                .name("name")
+                .nickname("busan")
+                .email("busan@mail.com")
+                .password("password")
+                .role("GENERAL")
+                .neighborhood("우동")
+                .district("해운대구")
+                .city("부산시")
+                .build()).getId();
+
+        PostCreateRequest request = PostCreateRequest.builder()
+                .contents("해운대 앞 빵집 #소금빵")
+                .categoryId(category.getId())
+                .userId(userId)
+                .build();
+        Long postId = shardExecutor.onCity(postService.findCityOfUser(userId),
+                () -> postService.savePost(request, new ArrayList<>())).getId();
+
+        assertThat(ShardIds.shardOf(postId)).isEqualTo(BUSAN);
+        PostResponse post = shardExecutor.onId(postId, () -> postService.findDetailPost(postId));
+        assertThat(post.getContents()).isEqualTo(request.getContents());
+
+        Optional<User> copiedUser = ShardContext.call(BUSAN, () -> userRepository.findById(userId));
+        assertThat(copiedUser).get().extracting(User::getNickname).isEqualTo("busan");
+
+        Region region = Region.builder().city("부산시").district("해운대구").neighborhood("우동").build();
+        Integer regionId = regionDictionary.findId(region).orElseThrow();
+        Optional<RegionCode> copiedRegion = ShardContext.call(BUSAN, () -> regionCodeRepository.findById(regionId));
+        assertThat(copiedRegion).get().extracting(RegionCode::getNeighborhood).isEqualTo("우동");
+
+        Long tagId = tagDictionary.findId("소금빵").orElseThrow();
+        Optional<Tag> copiedTag = ShardContext.call(BUSAN, () -> tagRepository.findById(tagId));
+        assertThat(copiedTag).get().extracting(Tag::getName).isEqualTo("소금빵");
+    }
+}
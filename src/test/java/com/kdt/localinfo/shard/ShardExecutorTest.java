@@ -0,0 +1,143 @@
+package com.kdt.localinfo.shard;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class ShardExecutorTest {
+
+    private ShardExecutor shardExecutor;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ShardMap shardMap = new ShardMap(List.of("seoul", "busan", "jeju"),
+                Map.of("서울특별시", 0, "부산광역시", 1, "제주특별자치도", 2));
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new ShardRoutingDataSource(List.of(h2("seoul", 3), h2("busan", 2), h2("jeju", 1))));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        shardExecutor = new ShardExecutor(shardMap, transactionManager, 1000L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardExecutor.close();
+    }
+
+    @Test
+    @DisplayName("도시에 매핑된 shard 로 가고, 모르는 도시는 기본 shard 로 간다")
+    void onCity() {
+        assertThat(shardExecutor.onCity("부산광역시", this::nodeName)).isEqualTo("busan");
+        assertThat(shardExecutor.onCity("강원도", this::nodeName)).isEqualTo("seoul");
+        assertThat(nodeName()).isEqualTo("seoul");
+    }
+
+    @Test
+    @DisplayName("도시의 게시글은 그 도시의 shard 와 샤딩 전 글이 남은 기본 shard 에서 찾는다")
+    void shardsOfCity() {
+        assertThat(shardExecutor.shardsOfCity("부산광역시")).containsExactly(1, ShardMap.DEFAULT_SHARD);
+        assertThat(shardExecutor.shardsOfCity("서울특별시")).containsExactly(ShardMap.DEFAULT_SHARD);
+        assertThat(shardExecutor.shardsOfCity("강원도")).containsExactly(ShardMap.DEFAULT_SHARD);
+    }
+
+    @Test
+    @DisplayName("id 에 담긴 shard 로 간다")
+    void onId() {
+        long id = ShardIds.next(2);
+
+        assertThat(shardExecutor.onId(id, this::nodeName)).isEqualTo("jeju");
+        assertThat(shardExecutor.onId(ShardIds.next(ShardIds.MAX_SHARDS - 1), this::nodeName)).isEqualTo("seoul");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 연결은 첫 쿼리 때 현재 shard 에서 잡는다")
+    void transactionOnShard() {
+        String nodeName = ShardContext.call(1, () -> transactionTemplate.execute(status -> {
+            jdbcTemplate.update("INSERT INTO posts (post_id) VALUES (?)", ShardIds.next(1));
+            return nodeName();
+        }));
+
+        assertThat(nodeName).isEqualTo("busan");
+        assertThat(ShardContext.call(1, this::postCount)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("모든 shard 를 동시에 조회해 shard 순서대로 모은다")
+    void scatterGather() {
+        List<Long> counts = shardExecutor.scatterGather(shard -> postCount());
+
+        assertThat(counts).containsExactly(3L, 2L, 1L);
+    }
+
+    @Test
+    @DisplayName("id 를 shard 별로 나눠 필요한 shard 만 조회한다")
+    void scatterGatherByIds() {
+        long busanId = ShardIds.next(1);
+        long jejuId = ShardIds.next(2);
+        Map<Integer, List<Long>> idsByShard = shardExecutor.groupByShard(List.of(jejuId, busanId));
+
+        List<String> nodeNames = shardExecutor.scatterGather(idsByShard.keySet(), shard -> nodeName());
+
+        assertThat(idsByShard).containsOnlyKeys(2, 1);
+        assertThat(nodeNames).containsExactly("jeju", "busan");
+    }
+
+    @Test
+    @DisplayName("shard 조회가 실패하면 예외를 그대로 돌려준다")
+    void scatterGatherFailure() {
+        assertThatIllegalStateException().isThrownBy(() -> shardExecutor.scatterGather(shard -> {
+            if (shard == 2) {
+                throw new IllegalStateException("jeju down");
+            }
+            return nodeName();
+        })).withMessage("jeju down");
+    }
+
+    @Test
+    @DisplayName("배치 작업은 shard 를 하나씩 돈다")
+    void forEachShard() {
+        StringBuilder visited = new StringBuilder();
+
+        shardExecutor.forEachShard(shard -> visited.append(nodeName()).append(' '));
+
+        assertThat(visited.toString()).isEqualTo("seoul busan jeju ");
+    }
+
+    private String nodeName() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private Long postCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+    }
+
+    private static DataSource h2(String nodeName, int posts) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + nodeName + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate node = new JdbcTemplate(dataSource);
+        node.execute("CREATE TABLE node (name VARCHAR(20))");
+        node.update("INSERT INTO node (name) VALUES (?)", nodeName);
+        node.execute("CREATE TABLE posts (post_id BIGINT PRIMARY KEY)");
+        for (int i = 0; i < posts; i++) {
+            node.update("INSERT INTO posts (post_id) VALUES (?)", ShardIds.next(0));
+        }
+        return dataSource;
+    }
+}
@@ -0,0 +1,65 @@
+package com.kdt.localinfo.shard;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ShardIdsTest {
+
+    @Test
+    @DisplayName("id 에서 만든 shard 번호를 다시 읽는다")
+    void shardOf() {
+        assertThat(ShardIds.shardOf(ShardIds.next(0))).isZero();
+        assertThat(ShardIds.shardOf(ShardIds.next(3))).isEqualTo(3);
+        assertThat(ShardIds.shardOf(ShardIds.next(ShardIds.MAX_SHARDS - 1))).isEqualTo(ShardIds.MAX_SHARDS - 1);
+    }
+
+    @Test
+    @DisplayName("샤딩 전 시퀀스로 만든 id 는 기본 shard 의 것으로 본다")
+    void legacyId() {
+        assertThat(ShardIds.shardOf(1L)).isEqualTo(ShardMap.DEFAULT_SHARD);
+        assertThat(ShardIds.shardOf(123_456_789L)).isEqualTo(ShardMap.DEFAULT_SHARD);
+    }
+
+    @Test
+    @DisplayName("한 ms 안에 순번을 다 써도 겹치지 않고 계속 커진다")
+    void uniqueAndIncreasing() {
+        Set<Long> ids = new HashSet<>();
+        long previous = 0L;
+        for (int i = 0; i < 10_000; i++) {
+            long id = ShardIds.next(1);
+            assertThat(id).isGreaterThan(previous);
+            ids.add(id);
+            previous = id;
+        }
+
+        assertThat(ids).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("가장 큰 shard 와 노드 번호로 만들어도 JavaScript 가 정확히 다루는 53비트 안에 든다")
+    void fitsInJavaScriptNumber() {
+        ShardIds.useNode(ShardIds.MAX_NODES - 1);
+        try {
+            long id = ShardIds.next(ShardIds.MAX_SHARDS - 1);
+
+            assertThat(id).isLessThanOrEqualTo(ShardIds.MAX_ID).isLessThan(1L << 53);
+            assertThat(ShardIds.MAX_ID).isEqualTo((1L << 53) - 1);
+            assertThat(ShardIds.shardOf(id)).isEqualTo(ShardIds.MAX_SHARDS - 1);
+        } finally {
+            ShardIds.useNode(0);
+        }
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 shard 나 노드 번호는 받지 않는다")
+    void rejectOutOfRange() {
+        assertThatIllegalArgumentException().isThrownBy(() -> ShardIds.next(ShardIds.MAX_SHARDS));
+        assertThatIllegalArgumentException().isThrownBy(() -> ShardIds.useNode(ShardIds.MAX_NODES));
+    }
+}
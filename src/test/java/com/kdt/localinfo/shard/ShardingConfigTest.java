@@ -0,0 +1,43 @@
+package com.kdt.localinfo.shard;
+
+import org.hibernate.id.IdentityGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+class ShardingConfigTest {
+
+    private final ShardingConfig shardingConfig = new ShardingConfig();
+
+    @Test
+    @DisplayName("샤딩을 끄면 shard 하나만 쓰고 id 는 DB 의 IDENTITY 로 받는다")
+    void shardingDisabled() {
+        ShardingProperties properties = new ShardingProperties();
+
+        assertThat(shardingConfig.shardMap(properties).size()).isEqualTo(1);
+        assertThat(new ShardIdStrategyProvider(false).getStrategies())
+                .containsEntry(ShardIdentifierGenerator.STRATEGY, IdentityGenerator.class);
+        assertThat(new ShardIdStrategyProvider(true).getStrategies())
+                .containsEntry(ShardIdentifierGenerator.STRATEGY, ShardIdentifierGenerator.class);
+    }
+
+    @Test
+    @DisplayName("샤딩을 켜고 노드 번호를 정하지 않으면 시작하지 않는다")
+    void requireNodeId() {
+        ShardingProperties properties = new ShardingProperties();
+        properties.setEnabled(true);
+        ShardingProperties.Shard shard = new ShardingProperties.Shard();
+        shard.setName("seoul");
+        shard.setCities(List.of("서울시"));
+        properties.setShards(List.of(shard));
+
+        assertThatIllegalStateException().isThrownBy(() -> shardingConfig.shardMap(properties));
+
+        properties.setNodeId(1);
+        assertThat(shardingConfig.shardMap(properties).size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,63 @@
+package com.kdt.localinfo.shard;
+
+import com.kdt.localinfo.datasource.DataSourceRoute;
+import com.kdt.localinfo.datasource.ReplicationRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardingDataSourceConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withUserConfiguration(DataSourcePropertiesConfig.class, ShardingConfig.class, ShardingDataSourceConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.connection-timeout=1500",
+                    "local-info.datasource.replica.hikari.maximum-pool-size=3",
+                    "local-info.sharding.enabled=true",
+                    "local-info.sharding.node-id=1",
+                    "local-info.sharding.shards[0].name=seoul",
+                    "local-info.sharding.shards[0].url=jdbc:h2:mem:shard-config-seoul",
+                    "local-info.sharding.shards[0].cities[0]=서울시",
+                    "local-info.sharding.shards[0].maximum-pool-size=5",
+                    "local-info.sharding.shards[1].name=busan",
+                    "local-info.sharding.shards[1].url=jdbc:h2:mem:shard-config-busan",
+                    "local-info.sharding.shards[1].replica-url=jdbc:h2:mem:shard-config-busan-replica",
+                    "local-info.sharding.shards[1].cities[0]=부산시");
+
+    @Test
+    @DisplayName("shard 풀도 spring.datasource.hikari 설정을 받고, replica-url 을 준 shard 는 읽기 전용 replica 풀을 따로 둔다")
+    void bindHikariPropertiesPerShard() {
+        contextRunner.run(context -> {
+            Map<Object, DataSource> shards = context.getBean(ShardRoutingDataSource.class).getResolvedDataSources();
+
+            HikariDataSource seoul = (HikariDataSource) shards.get(0);
+            assertThat(seoul.getPoolName()).isEqualTo("shard-seoul");
+            assertThat(seoul.getMaximumPoolSize()).isEqualTo(5);
+            assertThat(seoul.getConnectionTimeout()).isEqualTo(1500L);
+
+            assertThat(shards.get(1)).isInstanceOf(ReplicationRoutingDataSource.class);
+            Map<Object, DataSource> busan = ((ReplicationRoutingDataSource) shards.get(1)).getResolvedDataSources();
+            HikariDataSource busanPrimary = (HikariDataSource) busan.get(DataSourceRoute.PRIMARY);
+            HikariDataSource busanReplica = (HikariDataSource) busan.get(DataSourceRoute.REPLICA);
+            assertThat(busanPrimary.getPoolName()).isEqualTo("shard-busan");
+            assertThat(busanPrimary.getMaximumPoolSize()).isEqualTo(7);
+            assertThat(busanReplica.getPoolName()).isEqualTo("shard-busan-replica");
+            assertThat(busanReplica.getMaximumPoolSize()).isEqualTo(3);
+            assertThat(busanReplica.getConnectionTimeout()).isEqualTo(1500L);
+            assertThat(busanReplica.isReadOnly()).isTrue();
+        });
+    }
+
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class DataSourcePropertiesConfig {
+    }
+}
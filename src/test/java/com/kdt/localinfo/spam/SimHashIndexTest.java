@@ -0,0 +1,40 @@
+package com.kdt.localinfo.spam;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SimHashIndexTest {
+
+    private static final String SPAM = "강남역 3번 출구 앞 신규 오픈 헬스장 회원 모집합니다 지금 등록하면 한 달 무료 문의는 010-1234-5678";
+    private static final String SPAM_VARIANT = "강남역 3번 출구 앞 신규 오픈 헬스장 회원 모집합니다!! 지금 등록하면 한 달 무료 문의 010-1234-5678";
+    private static final String OTHER = "주말에 아이랑 갈 만한 동네 도서관이나 놀이터 추천해 주실 분 계신가요? 조용한 곳이면 좋겠어요";
+
+    @Test
+    @DisplayName("조금 바꾼 본문은 해밍 거리가 작고 다른 본문은 크다")
+    void simHash() {
+        long spam = SimHash.of(SPAM, 30);
+        long variant = SimHash.of(SPAM_VARIANT, 30);
+        long other = SimHash.of(OTHER, 30);
+
+        assertThat(SimHash.distance(spam, variant)).isLessThanOrEqualTo(3);
+        assertThat(SimHash.distance(spam, other)).isGreaterThan(10);
+        assertThat(SimHash.of("짧은 글", 30)).isZero();
+    }
+
+    @Test
+    @DisplayName("보관 기간 안의 비슷한 게시글만 찾는다")
+    void findSimilar() {
+        SimHashIndex simHashIndex = new SimHashIndex(1000L, 64);
+        simHashIndex.put(1L, SimHash.of(SPAM, 30), 10_000L);
+        simHashIndex.put(2L, SimHash.of(OTHER, 30), 10_000L);
+
+        assertThat(simHashIndex.findSimilar(SimHash.of(SPAM_VARIANT, 30), 3, 10_500L)).containsExactly(1L);
+        assertThat(simHashIndex.findSimilar(SimHash.of(SPAM_VARIANT, 30), 3, 20_000L)).isEmpty();
+
+        simHashIndex.put(3L, SimHash.of(SPAM, 30), 20_000L);
+        simHashIndex.remove(3L, SimHash.of(SPAM, 30));
+        assertThat(simHashIndex.findSimilar(SimHash.of(SPAM, 30), 3, 20_000L)).isEmpty();
+    }
+}
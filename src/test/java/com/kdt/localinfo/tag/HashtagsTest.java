@@ -0,0 +1,36 @@
+package com.kdt.localinfo.tag;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashtagsTest {
+
+    @Test
+    @DisplayName("본문의 해시태그를 중복 없이 소문자로 뽑는다")
+    void extract() {
+        assertThat(Hashtags.extract("오늘 #강남맛집 다녀옴 #Bakery, #bakery #소금_빵! # #"))
+                .containsExactly("강남맛집", "bakery", "소금_빵");
+    }
+
+    @Test
+    @DisplayName("게시글당 태그 수를 제한한다")
+    void extractLimit() {
+        StringBuilder contents = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            contents.append("#tag").append(i).append(' ');
+        }
+
+        assertThat(Hashtags.extract(contents.toString())).hasSize(Hashtags.MAX_TAGS_PER_POST);
+    }
+
+    @Test
+    @DisplayName("경로로 들어온 태그 이름을 저장 형식에 맞춘다")
+    void normalize() {
+        assertThat(Hashtags.normalize("#Bakery")).isEqualTo("bakery");
+        assertThat(Hashtags.normalize("강남맛집")).isEqualTo("강남맛집");
+        assertThat(Hashtags.normalize("bad tag")).isNull();
+        assertThat(Hashtags.normalize("#")).isNull();
+    }
+}
@@ -0,0 +1,53 @@
+package com.kdt.localinfo.trending;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class TopKTest {
+
+    @Test
+    @DisplayName("가득 차면 가장 낮은 점수보다 높은 항목만 들어온다")
+    void offer() {
+        TopK topK = new TopK(3);
+        topK.offer(1L, 1.0);
+        topK.offer(2L, 5.0);
+        topK.offer(3L, 3.0);
+
+        assertThat(topK.offer(4L, 0.5)).isFalse();
+        assertThat(topK.offer(5L, 4.0)).isTrue();
+
+        assertThat(topK.top(10)).containsExactly(2L, 5L, 3L);
+        assertThat(topK.scoreOf(1L)).isNaN();
+        assertThat(topK.top(2)).containsExactly(2L, 5L);
+    }
+
+    @Test
+    @DisplayName("점수를 갱신하거나 지우면 순위에 바로 반영된다")
+    void updateAndRemove() {
+        TopK topK = new TopK(5);
+        for (long id = 1; id <= 5; id++) {
+            topK.offer(id, id);
+        }
+
+        topK.offer(1L, 10.0);
+        topK.offer(5L, 0.5);
+        topK.remove(3L);
+
+        assertThat(topK.top(10)).containsExactly(1L, 4L, 2L, 5L);
+        assertThat(topK.size()).isEqualTo(4);
+        assertThat(topK.remove(3L)).isFalse();
+        assertThat(topK.offer(6L, 0.1)).isTrue();
+        assertThat(topK.top(10)).containsExactly(1L, 4L, 2L, 5L, 6L);
+    }
+
+    @Test
+    @DisplayName("로그 스케일 덧셈은 큰 지수에서도 넘치지 않는다")
+    void logAdd() {
+        assertThat(TrendingService.logAdd(Math.log(2), Math.log(3))).isCloseTo(Math.log(5), within(1e-12));
+        assertThat(TrendingService.logAdd(60000.0, 60000.0)).isCloseTo(60000.0 + Math.log(2), within(1e-9));
+        assertThat(TrendingService.logAdd(60000.0, 10.0)).isEqualTo(60000.0);
+    }
+}
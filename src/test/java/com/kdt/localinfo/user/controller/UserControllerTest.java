@@ -55,6 +55,7 @@ class UserControllerTest {
     @Autowired
     UserRepository userRepository;
 
+
     @BeforeEach
     public void setUp() {
         mockMvc = MockMvcBuilders.webAppContextSetup(webApplicationContext)
@@ -1,5 +1,10 @@
 package com.kdt.localinfo.user.service;
 
+import com.kdt.localinfo.error.ResourceNotFoundException;
+import com.kdt.localinfo.mention.NicknameDirectory;
+import com.kdt.localinfo.post.service.SoftDeleteCascade;
+import com.kdt.localinfo.region.RegionDictionary;
+import com.kdt.localinfo.shard.ReferenceReplicator;
 import com.kdt.localinfo.user.dto.UserRequest;
 import com.kdt.localinfo.user.dto.UserResponse;
 import com.kdt.localinfo.user.entity.Region;
@@ -19,7 +24,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.modelmapper.ModelMapper;
 import org.springframework.hateoas.MediaTypes;
 
-import javax.persistence.EntityNotFoundException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -48,10 +52,17 @@ class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private ModelMapper modelMapper;
+    @Mock
+    private SoftDeleteCascade softDeleteCascade;
+    @Mock
+    private RegionDictionary regionDictionary;
+    @Mock
+    private ReferenceReplicator referenceReplicator;
 
     @BeforeEach
     void setUp() {
-        userService = new UserService(userRepository, modelMapper);
+        userService = new UserService(userRepository, modelMapper, new NicknameDirectory(userRepository), softDeleteCascade,
+                regionDictionary, referenceReplicator);
     }
 
     @Test
@@ -99,7 +110,7 @@ class UserServiceTest {
     @DisplayName("유저 단건 조회 테스트 - 실패: 없는 유저를 조회하는 경우")
     void readUserNotFound() {
         assertThatThrownBy(() -> userService.getUser(-1L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessage("해당 유저가 존재하지 않습니다.");
     }
 
@@ -124,7 +135,7 @@ class UserServiceTest {
     void updateNotFoundUser() {
         given(userRepository.findById(anyLong())).willReturn(Optional.empty());
         thenThrownBy(() -> userService.updateUser(1L, new UserRequest()))
-                .isExactlyInstanceOf(EntityNotFoundException.class);
+                .isExactlyInstanceOf(ResourceNotFoundException.class);
     }
 
     @Test
@@ -132,6 +143,6 @@ class UserServiceTest {
     void deleteNotFoundUser() {
         given(userRepository.findById(anyLong())).willReturn(Optional.empty());
         thenThrownBy(() -> userService.deleteUser(1L))
-                .isExactlyInstanceOf(EntityNotFoundException.class);
+                .isExactlyInstanceOf(ResourceNotFoundException.class);
     }
 }